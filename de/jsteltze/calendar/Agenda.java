@@ -0,0 +1,402 @@
+/**
+ *  java-kalender - Java Calendar for Germany
+ *  Copyright (C) 2012  Johannes Steltzer
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.jsteltze.calendar;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.xml.sax.SAXException;
+
+import de.jsteltze.calendar.config.Configuration;
+import de.jsteltze.calendar.config.Const;
+import de.jsteltze.calendar.config.Holidays;
+import de.jsteltze.common.ErrorListener;
+import de.jsteltze.common.calendar.Date;
+
+/**
+ * Query mode of the calendar without GUI: prints or exports the events of a
+ * range of days (e.g. for scripts) including the holidays configured in the workspace,
+ * like the calendar shows them. The workspace is read only (no lock, no backup,
+ * no saving) and only the events which can occur within the range are parsed.
+ * Neither Swing nor AWT are used, so no display is required.
+ * @author Johannes Steltzer
+ *
+ */
+public final class Agenda {
+
+    /** Output formats. */
+    enum Format {
+        /** One line per occurrence. */
+        text,
+        
+        /** JSON array of occurrences. */
+        json,
+        
+        /** iCalendar with the events occurring. */
+        ics
+    }
+
+    /** Default number of days of the agenda (including today). */
+    private static final int DEFAULT_DAYS = 7;
+
+    /**
+     * A single occurrence of an event.
+     */
+    static final class Occurrence {
+        
+        /** Day of the occurrence. */
+        private final Date day;
+        
+        /** Event occurring. */
+        private final Event event;
+        
+        /**
+         * Construct a new occurrence.
+         * @param day - Day of the occurrence
+         * @param event - Event occurring
+         */
+        private Occurrence(Date day, Event event) {
+            this.day = day;
+            this.event = event;
+        }
+    }
+
+    /**
+     * Hidden constructor.
+     */
+    private Agenda() { }
+
+    /**
+     * Returns whether or not the command line asks for the query mode.
+     * @param args - Command line arguments
+     * @return true if any of --today, --agenda or --export is given.
+     */
+    public static boolean isQuery(String[] args) {
+        for (String s : args) {
+            if (s.equals("--today") || s.equals("--agenda") || s.startsWith("--agenda=") 
+                    || s.startsWith("--export=")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Run a query.
+     * @param args - Command line arguments
+     * @return exit code (0 for success).
+     */
+    public static int run(String[] args) {
+        String workspace = new File("").getAbsolutePath();
+        Date from = new Date();
+        from.setHasTime(false);
+        int days = 1;
+        Date to = null;
+        Format format = null;
+        String exportFile = null;
+
+        for (String s : args) {
+            try {
+                if (s.equals("--today")) {
+                    days = 1;
+                } else if (s.equals("--agenda")) {
+                    days = DEFAULT_DAYS;
+                } else if (s.startsWith("--agenda=")) {
+                    days = Integer.parseInt(s.substring("--agenda=".length()));
+                } else if (s.startsWith("--from=")) {
+                    from = new Date(s.substring("--from=".length()));
+                    from.setHasTime(false);
+                } else if (s.startsWith("--to=")) {
+                    to = new Date(s.substring("--to=".length()));
+                    to.setHasTime(false);
+                } else if (s.startsWith("--format=")) {
+                    format = Format.valueOf(s.substring("--format=".length()).toLowerCase());
+                } else if (s.startsWith("--export=")) {
+                    exportFile = s.substring("--export=".length());
+                } else if (s.startsWith("--workspace=")) {
+                    workspace = s.substring("--workspace=".length());
+                } else if (!s.startsWith("--logLevel=")) {
+                    System.err.println("Unsupported option \"" + s + "\"");
+                    usage();
+                    return 1;
+                }
+            } catch (NumberFormatException | ParseException e) {
+                System.err.println("Cannot parse \"" + s + "\"");
+                return 1;
+            } catch (IllegalArgumentException e) {
+                System.err.println("Unsupported format \"" + s + "\"");
+                return 1;
+            }
+        }
+        if (to == null) {
+            to = from.clone();
+            to.add(java.util.Calendar.DAY_OF_MONTH, Math.max(days, 1) - 1);
+        }
+        if (format == null) {
+            format = exportFile == null ? Format.text : Format.ics;
+        }
+
+        File xmlFile = new File(workspace, Const.XMLFILE);
+        if (!xmlFile.exists()) {
+            System.err.println("\"" + xmlFile.getPath() + "\" not found!");
+            return 1;
+        }
+
+        XMLParser parser = new XMLParser();
+        parser.setErrorListener(new ErrorListener() {
+
+            @Override
+            public void errorOccurred(String intro, String title, Exception e) {
+                System.err.println(intro);
+            }
+        });
+        try {
+            parser.parseConfig(xmlFile);
+            parser.parseEvents(xmlFile, from, to);
+        } catch (ParserConfigurationException | SAXException | IOException e) {
+            System.err.println("Cannot read \"" + xmlFile.getPath() + "\": " + e.getMessage());
+            return 1;
+        }
+        List<Event> events = new ArrayList<Event>(parser.getEvents());
+        events.addAll(getHolidays(parser.getConfig(), from, to));
+        List<Occurrence> occurrences = getOccurrences(events, from, to);
+
+        try {
+            BufferedWriter out = new BufferedWriter(new OutputStreamWriter(exportFile == null ? System.out 
+                    : new FileOutputStream(exportFile), Const.ENCODING));
+            try {
+                write(out, format, occurrences, workspace);
+            } finally {
+                if (exportFile == null) {
+                    out.flush();
+                } else {
+                    out.close();
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Cannot write \"" + exportFile + "\": " + e.getMessage());
+            return 1;
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the holidays enabled by the configuration within a range of days (as shown
+     * by the calendar): the static holidays (occurring yearly) and the flexible holidays
+     * of each year concerned.
+     * @param config - Configuration of the workspace
+     * @param from - First day
+     * @param to - Last day
+     * @return the holidays.
+     */
+    private static List<Event> getHolidays(Configuration config, Date from, Date to) {
+        int first = from.get(java.util.Calendar.YEAR);
+        List<Event> holidays = new ArrayList<Event>(Holidays.getStatic(config, first));
+        for (int year = first; year <= to.get(java.util.Calendar.YEAR); year++) {
+            holidays.addAll(Holidays.getFlexible(config, year));
+        }
+        return holidays;
+    }
+
+    /**
+     * Calculate the occurrences of events within a range of days.
+     * @param events - Events to check
+     * @param from - First day
+     * @param to - Last day
+     * @return the occurrences ordered by day and time.
+     */
+    static List<Occurrence> getOccurrences(List<Event> events, Date from, Date to) {
+        List<Occurrence> occurrences = new ArrayList<Occurrence>();
+        Date day = from.clone();
+        while (day.dayDiff(to) <= 0) {
+            List<Occurrence> ofDay = new ArrayList<Occurrence>();
+            for (Event e : events) {
+                if (e.match(day)) {
+                    ofDay.add(new Occurrence(day.clone(), e));
+                }
+            }
+            Collections.sort(ofDay, new Comparator<Occurrence>() {
+
+                @Override
+                public int compare(Occurrence a, Occurrence b) {
+                    return getTime(a.event).compareTo(getTime(b.event));
+                }
+            });
+            occurrences.addAll(ofDay);
+            day.add(java.util.Calendar.DAY_OF_MONTH, 1);
+        }
+        return occurrences;
+    }
+
+    /**
+     * Returns the day of an occurrence as YYYY-MM-DD.
+     * @param day - Day of interest
+     * @return the day as YYYY-MM-DD.
+     */
+    static String getDay(Date day) {
+        return String.format("%04d-%02d-%02d", day.get(java.util.Calendar.YEAR),
+                day.get(java.util.Calendar.MONTH) + 1, day.get(java.util.Calendar.DAY_OF_MONTH));
+    }
+
+    /**
+     * Returns the time of an event as HH:MM.
+     * @param e - Event of interest
+     * @return the time as HH:MM or an empty string if the event has no time.
+     */
+    private static String getTime(Event e) {
+        if (!e.getDate().hasTime()) {
+            return "";
+        }
+        return String.format("%02d:%02d", e.getDate().get(java.util.Calendar.HOUR_OF_DAY),
+                e.getDate().get(java.util.Calendar.MINUTE));
+    }
+
+    /**
+     * Write the occurrences in an output format.
+     * @param out - Writer to write to (will not be closed here)
+     * @param format - Output format
+     * @param occurrences - Occurrences to write
+     * @param workspace - Working directory (for notes and attachments of iCalendar)
+     * @throws IOException if an error occurred during writing
+     */
+    static void write(BufferedWriter out, Format format, List<Occurrence> occurrences, String workspace) 
+            throws IOException {
+        switch (format) {
+        case json:
+            writeJson(out, occurrences);
+            break;
+        case ics:
+            Set<Event> events = new LinkedHashSet<Event>();
+            for (Occurrence o : occurrences) {
+                events.add(o.event);
+            }
+            EventExportHandler.writeIcal(out, new ArrayList<Event>(events), workspace);
+            break;
+        case text:
+        default:
+            writeText(out, occurrences);
+            break;
+        }
+    }
+
+    /**
+     * Write the occurrences as text (one line each).
+     * @param out - Writer to write to
+     * @param occurrences - Occurrences to write
+     * @throws IOException if an error occurred during writing
+     */
+    private static void writeText(BufferedWriter out, List<Occurrence> occurrences) throws IOException {
+        for (Occurrence o : occurrences) {
+            out.write(getDay(o.day) + " " + String.format("%-5s", getTime(o.event)) + " " + o.event.getName()
+                    + (o.event.getCategory() == null ? "" : " [" + o.event.getCategory() + "]"));
+            out.newLine();
+        }
+    }
+
+    /**
+     * Write the occurrences as JSON array.
+     * @param out - Writer to write to
+     * @param occurrences - Occurrences to write
+     * @throws IOException if an error occurred during writing
+     */
+    private static void writeJson(BufferedWriter out, List<Occurrence> occurrences) throws IOException {
+        out.write("[");
+        for (int i = 0; i < occurrences.size(); i++) {
+            Occurrence o = occurrences.get(i);
+            out.write(i == 0 ? "\n" : ",\n");
+            out.write("  {\"date\": \"" + getDay(o.day) + "\"");
+            if (o.event.getDate().hasTime()) {
+                out.write(", \"time\": \"" + getTime(o.event) + "\"");
+            }
+            out.write(", \"name\": " + quote(o.event.getName()));
+            if (o.event.getCategory() != null) {
+                out.write(", \"category\": " + quote(o.event.getCategory()));
+            }
+            out.write(", \"id\": " + o.event.getID() + "}");
+        }
+        out.write("\n]\n");
+    }
+
+    /**
+     * Returns a string as JSON string literal.
+     * @param s - String to quote
+     * @return the quoted and escaped string.
+     */
+    private static String quote(String s) {
+        StringBuilder quoted = new StringBuilder("\"");
+        for (char c : s.toCharArray()) {
+            switch (c) {
+            case '"':
+                quoted.append("\\\"");
+                break;
+            case '\\':
+                quoted.append("\\\\");
+                break;
+            case '\n':
+                quoted.append("\\n");
+                break;
+            case '\r':
+                quoted.append("\\r");
+                break;
+            case '\t':
+                quoted.append("\\t");
+                break;
+            default:
+                if (c < ' ') {
+                    quoted.append(String.format("\\u%04x", (int) c));
+                } else {
+                    quoted.append(c);
+                }
+            }
+        }
+        return quoted.append('"').toString();
+    }
+
+    /**
+     * Print command line usage of the query mode.
+     */
+    static void usage() {
+        System.out.println("--today                       Print today's events and exit (no GUI)");
+        System.out.println("--agenda[=DAYS]               Print the events of the next DAYS days (default 7)");
+        System.out.println("--from=YYYYMMDD               First day to query (default today)");
+        System.out.println("--to=YYYYMMDD                 Last day to query");
+        System.out.println("--format=[text|json|ics]      Output format of a query (default text)");
+        System.out.println("--export=[file]               Write the query result to a file (default ics)");
+    }
+
+    /**
+     * Run a query (see {@link #usage()}) and exit.
+     * @param args - Command line arguments
+     */
+    public static void main(String[] args) {
+        System.exit(run(args));
+    }
+}
@@ -0,0 +1,606 @@
+/**
+ *  java-kalender - Java Calendar for Germany
+ *  Copyright (C) 2012  Johannes Steltzer
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.jsteltze.calendar;
+
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UnsupportedEncodingException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import javax.swing.SwingUtilities;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import de.jsteltze.calendar.Agenda.Format;
+import de.jsteltze.calendar.Agenda.Occurrence;
+import de.jsteltze.calendar.Event.EventType;
+import de.jsteltze.calendar.config.Const;
+import de.jsteltze.common.Log;
+import de.jsteltze.common.calendar.Date;
+
+/**
+ * Embedded read-only HTTP server publishing the events of a running calendar
+ * (e.g. for dashboards or other people in the office):
+ * <ul>
+ * <li>/today - today's events</li>
+ * <li>/agenda?from=YYYYMMDD&amp;to=YYYYMMDD (or &amp;days=N) - events of a range of days</li>
+ * <li>/calendar.ics - all user events as iCalendar feed</li>
+ * </ul>
+ * Today and agenda accept format=text|json|ics (default json).
+ * Responses are cached per query and version of the events (see {@link Calendar#getEventsVersion()})
+ * and sent with an ETag, so polling clients using If-None-Match get an empty 304 response
+ * as long as nothing changed. The event dispatch thread owns the events and may change
+ * them at any time (e.g. add an exception date), so they are cloned on the EDT once per
+ * version, and the flexible holidays once per version and year. Matching and
+ * writing the occurrences is done by the server threads on these clones only.
+ * @author Johannes Steltzer
+ *
+ */
+public final class AgendaServer implements HttpHandler {
+
+    /** Default port. */
+    public static final int DEFAULT_PORT = 8642;
+
+    /** Maximum number of days of an agenda query. */
+    private static final int MAX_DAYS = 366;
+
+    /** Maximum number of cached responses. */
+    private static final int MAX_CACHED = 64;
+
+    /** Maximum time in milliseconds to wait for the EDT to clone the events. */
+    private static final long SNAPSHOT_TIMEOUT = 2000;
+
+    /** Number of server threads. */
+    private static final int THREADS = 2;
+
+    /**
+     * Clones of the events of a certain version.
+     */
+    private static final class Snapshot {
+
+        /** Version of the events cloned. */
+        private final int version;
+
+        /** User events and holidays not depending on the viewed year. */
+        private final List<Event> events;
+
+        /** User events only. */
+        private final List<Event> userEvents;
+
+        /** Flexible holidays by year (guarded by itself). */
+        private final Map<Integer, List<Event>> holidays;
+
+        /**
+         * Construct a new snapshot.
+         * @param version - Version of the events cloned
+         * @param events - User events and holidays not depending on the viewed year
+         * @param userEvents - User events only
+         * @param holidays - Flexible holidays by year
+         */
+        private Snapshot(int version, List<Event> events, List<Event> userEvents,
+                Map<Integer, List<Event>> holidays) {
+            this.version = version;
+            this.events = events;
+            this.userEvents = userEvents;
+            this.holidays = holidays;
+        }
+    }
+
+    /**
+     * A cached response.
+     */
+    private static final class Response {
+
+        /** Version of the events the response was built from. */
+        private final int version;
+
+        /** Entity tag (quoted). */
+        private final String etag;
+
+        /** Content type. */
+        private final String contentType;
+
+        /** Encoded body. */
+        private final byte[] body;
+
+        /**
+         * Construct a new response.
+         * @param version - Version of the events the response was built from
+         * @param contentType - Content type
+         * @param body - Encoded body
+         */
+        private Response(int version, String contentType, byte[] body) {
+            this.version = version;
+            this.contentType = contentType;
+            this.body = body;
+            CRC32 crc = new CRC32();
+            crc.update(body);
+            this.etag = "\"" + version + "-" + Long.toHexString(crc.getValue()) + "\"";
+        }
+    }
+
+    /**
+     * Invalid query parameter.
+     */
+    private static final class BadRequestException extends Exception {
+
+        /** Default serial version UID. */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Construct a new exception.
+         * @param message - Description of the invalid parameter
+         */
+        private BadRequestException(String message) {
+            super(message);
+        }
+    }
+
+    /** Parent calendar object. */
+    private final Calendar calendar;
+
+    /** HTTP server. */
+    private final HttpServer server;
+
+    /** Server threads. */
+    private final ExecutorService executor;
+
+    /** Last clones of the events. */
+    private Snapshot snapshot;
+
+    /** Cached responses by query (least recently used first). */
+    private final Map<String, Response> cache;
+
+    /** Logger. */
+    private static final Logger LOG = Log.getLogger(AgendaServer.class);
+
+    /**
+     * Construct a new agenda server (not started yet).
+     * @param calendar - Parent calendar object
+     * @param address - Address to bind to
+     * @throws IOException if the address cannot be bound.
+     */
+    private AgendaServer(Calendar calendar, InetSocketAddress address) throws IOException {
+        this.calendar = calendar;
+        this.cache = new LinkedHashMap<String, Response>(16, 0.75f, true) {
+
+            /** Default serial version UID. */
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Response> eldest) {
+                return size() > MAX_CACHED;
+            }
+        };
+        this.executor = Executors.newFixedThreadPool(THREADS, new ThreadFactory() {
+
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread t = new Thread(r, "AgendaServer");
+                t.setDaemon(true);
+                return t;
+            }
+        });
+        this.server = HttpServer.create(address, 0);
+        this.server.createContext("/", this);
+        this.server.setExecutor(executor);
+    }
+
+    /**
+     * Start an agenda server.
+     * @param calendar - Parent calendar object
+     * @param address - [host:]port to bind to (empty for localhost and the default port)
+     * @return the server started or null if the address is invalid or cannot be bound.
+     */
+    public static AgendaServer start(Calendar calendar, String address) {
+        InetSocketAddress socketAddress;
+        try {
+            int colon = address.lastIndexOf(':');
+            int port = address.isEmpty() ? DEFAULT_PORT : Integer.parseInt(address.substring(colon + 1));
+            socketAddress = colon == -1 ? new InetSocketAddress(InetAddress.getLoopbackAddress(), port)
+                    : new InetSocketAddress(address.substring(0, colon), port);
+        } catch (IllegalArgumentException e) {
+            LOG.warning("invalid server address \"" + address + "\"");
+            return null;
+        }
+
+        try {
+            AgendaServer agendaServer = new AgendaServer(calendar, socketAddress);
+            agendaServer.server.start();
+            LOG.info("agenda server listening on " + agendaServer.server.getAddress());
+            return agendaServer;
+        } catch (IOException e) {
+            LOG.warning("cannot start agenda server on " + socketAddress + ": " + e);
+            return null;
+        }
+    }
+
+    /**
+     * Stop the server. Running requests are given one second to finish.
+     */
+    public void stop() {
+        server.stop(1);
+        executor.shutdownNow();
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        try {
+            String method = exchange.getRequestMethod();
+            if (!method.equals("GET") && !method.equals("HEAD")) {
+                exchange.getResponseHeaders().set("Allow", "GET, HEAD");
+                sendError(exchange, 405, "Method not allowed");
+                return;
+            }
+
+            Response response;
+            try {
+                response = getResponse(exchange.getRequestURI().getPath(),
+                        parseQuery(exchange.getRequestURI().getRawQuery()));
+            } catch (BadRequestException e) {
+                sendError(exchange, 400, e.getMessage());
+                return;
+            } catch (TimeoutException e) {
+                exchange.getResponseHeaders().set("Retry-After", "1");
+                sendError(exchange, 503, "Calendar busy");
+                return;
+            }
+            if (response == null) {
+                sendError(exchange, 404, "Not found");
+                return;
+            }
+
+            exchange.getResponseHeaders().set("ETag", response.etag);
+            exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+            if (matches(exchange.getRequestHeaders().getFirst("If-None-Match"), response.etag)) {
+                exchange.sendResponseHeaders(304, -1);
+                return;
+            }
+            exchange.getResponseHeaders().set("Content-Type", response.contentType);
+            if (method.equals("HEAD")) {
+                exchange.sendResponseHeaders(200, -1);
+                return;
+            }
+            exchange.sendResponseHeaders(200, response.body.length);
+            OutputStream out = exchange.getResponseBody();
+            out.write(response.body);
+            out.flush();
+        } catch (IOException | RuntimeException e) {
+            LOG.warning("request " + exchange.getRequestURI() + " failed: " + e);
+            throw e;
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Returns the response to a request (cached if the events did not change since).
+     * @param path - Requested path
+     * @param params - Query parameters
+     * @return the response or null if the path is unknown.
+     * @throws BadRequestException if a query parameter is invalid.
+     * @throws TimeoutException if the events cannot be cloned in time.
+     * @throws IOException if the response cannot be encoded.
+     */
+    private Response getResponse(String path, Map<String, String> params) 
+            throws BadRequestException, TimeoutException, IOException {
+        Date from = new Date();
+        from.setHasTime(false);
+        Date to = from.clone();
+        Format format = Format.json;
+
+        if (path.equals("/calendar.ics")) {
+            format = Format.ics;
+            from = null;
+            to = null;
+        } else if (path.equals("/today") || path.equals("/agenda")) {
+            String param = null;
+            try {
+                if ((param = params.get("format")) != null) {
+                    format = Format.valueOf(param.toLowerCase());
+                }
+                if (path.equals("/agenda")) {
+                    if ((param = params.get("from")) != null) {
+                        from = new Date(param);
+                        from.setHasTime(false);
+                    }
+                    to = from.clone();
+                    if ((param = params.get("to")) != null) {
+                        to = new Date(param);
+                        to.setHasTime(false);
+                    } else if ((param = params.get("days")) != null) {
+                        to.add(java.util.Calendar.DAY_OF_MONTH, Integer.parseInt(param) - 1);
+                    } else {
+                        to.add(java.util.Calendar.DAY_OF_MONTH, 6);
+                    }
+                }
+            } catch (ParseException | IllegalArgumentException e) {
+                throw new BadRequestException("Invalid parameter \"" + param + "\"");
+            }
+            long days = to.dayDiff(from);
+            if (days < 0 || days >= MAX_DAYS) {
+                throw new BadRequestException("Range must be 1 to " + MAX_DAYS + " days");
+            }
+        } else {
+            return null;
+        }
+
+        String key = from == null ? path : path + " " + Agenda.getDay(from) + " " + Agenda.getDay(to) + " " + format;
+        int version = calendar.getEventsVersion();
+        synchronized (cache) {
+            Response cached = cache.get(key);
+            if (cached != null && cached.version == version) {
+                return cached;
+            }
+        }
+
+        Snapshot events = getSnapshot(version);
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        BufferedWriter out = new BufferedWriter(new OutputStreamWriter(body, Const.ENCODING));
+        if (from == null) {
+            EventExportHandler.writeIcal(out, events.userEvents, calendar.getWorkspace());
+        } else {
+            Agenda.write(out, format, getOccurrences(events, from, to), calendar.getWorkspace());
+        }
+        out.close();
+
+        Response response = new Response(events.version, getContentType(format), body.toByteArray());
+        synchronized (cache) {
+            cache.put(key, response);
+        }
+        LOG.fine("built " + key + " (version " + events.version + ", " + response.body.length + " bytes)");
+        return response;
+    }
+
+    /**
+     * Calculate the occurrences within a range of days including the flexible
+     * holidays of the years concerned.
+     * @param events - Clones of the events
+     * @param from - First day
+     * @param to - Last day
+     * @return the occurrences ordered by day and time.
+     * @throws TimeoutException if the EDT does not clone the holidays in time.
+     */
+    private List<Occurrence> getOccurrences(Snapshot events, Date from, Date to) throws TimeoutException {
+        List<Event> candidates = new ArrayList<Event>(events.events);
+        for (int year = from.get(java.util.Calendar.YEAR); year <= to.get(java.util.Calendar.YEAR); year++) {
+            candidates.addAll(getHolidays(events, year));
+        }
+        return Agenda.getOccurrences(candidates, from, to);
+    }
+
+    /**
+     * Returns clones of the flexible holidays of a year. They are cloned on the
+     * event dispatch thread once per version of the events.
+     * @param events - Clones of the events
+     * @param year - Year of interest
+     * @return the clones of the flexible holidays.
+     * @throws TimeoutException if the EDT does not clone the holidays in time.
+     */
+    private List<Event> getHolidays(Snapshot events, final int year) throws TimeoutException {
+        synchronized (events.holidays) {
+            List<Event> holidays = events.holidays.get(year);
+            if (holidays != null) {
+                return holidays;
+            }
+        }
+
+        List<Event> holidays = onEdt(new Callable<List<Event>>() {
+
+            @Override
+            public List<Event> call() {
+                return cloneAll(calendar.getFlexibleHolidays(year));
+            }
+        });
+        synchronized (events.holidays) {
+            List<Event> other = events.holidays.get(year);
+            if (other != null) {
+                return other;
+            }
+            events.holidays.put(year, holidays);
+            return holidays;
+        }
+    }
+
+    /**
+     * Returns clones of the events not older than a version. The clones are made on
+     * the event dispatch thread (which owns and changes the events) unless the last
+     * clones are recent enough.
+     * @param version - Minimum version of the events
+     * @return the clones of the events.
+     * @throws TimeoutException if the EDT does not clone the events in time.
+     */
+    private Snapshot getSnapshot(int version) throws TimeoutException {
+        synchronized (this) {
+            if (snapshot != null && snapshot.version >= version) {
+                return snapshot;
+            }
+        }
+
+        Snapshot clones = onEdt(new Callable<Snapshot>() {
+
+            @Override
+            public Snapshot call() {
+                int current = calendar.getEventsVersion();
+                int year = calendar.getViewedDate().get(java.util.Calendar.YEAR);
+                List<Event> flexible = calendar.getFlexibleHolidays(year);
+                Set<Event> excluded = Collections.newSetFromMap(new IdentityHashMap<Event, Boolean>());
+                excluded.addAll(flexible);
+                List<Event> events = new ArrayList<Event>();
+                List<Event> userEvents = new ArrayList<Event>();
+                for (Event e : calendar.getAllEvents()) {
+                    if (excluded.contains(e)) {
+                        continue;
+                    }
+                    Event clone = e.clone();
+                    if (e.getType() == EventType.user) {
+                        userEvents.add(clone);
+                    }
+                    events.add(clone);
+                }
+                Map<Integer, List<Event>> holidays = new HashMap<Integer, List<Event>>();
+                holidays.put(year, cloneAll(flexible));
+                return new Snapshot(current, events, userEvents, holidays);
+            }
+        });
+        synchronized (this) {
+            if (snapshot == null || clones.version > snapshot.version) {
+                snapshot = clones;
+            }
+            return snapshot;
+        }
+    }
+
+    /**
+     * Run a task on the event dispatch thread and wait for its result.
+     * @param task - Task to run
+     * @return the result of the task.
+     * @throws TimeoutException if the EDT does not run the task in time.
+     */
+    private static <T> T onEdt(Callable<T> task) throws TimeoutException {
+        FutureTask<T> future = new FutureTask<T>(task);
+        SwingUtilities.invokeLater(future);
+        try {
+            return future.get(SNAPSHOT_TIMEOUT, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException | ExecutionException e) {
+            throw new IllegalStateException("cannot clone the events", e);
+        }
+    }
+
+    /**
+     * Clone a list of events (including their dates and exception dates).
+     * @param events - Events to clone
+     * @return the clones (same order).
+     */
+    private static List<Event> cloneAll(List<Event> events) {
+        List<Event> clones = new ArrayList<Event>(events.size());
+        for (Event e : events) {
+            clones.add(e.clone());
+        }
+        return clones;
+    }
+
+    /**
+     * Returns the content type of an output format.
+     * @param format - Output format
+     * @return the content type including the charset.
+     */
+    private static String getContentType(Format format) {
+        switch (format) {
+        case ics:
+            return "text/calendar; charset=" + Const.ENCODING;
+        case text:
+            return "text/plain; charset=" + Const.ENCODING;
+        case json:
+        default:
+            return "application/json; charset=" + Const.ENCODING;
+        }
+    }
+
+    /**
+     * Returns whether or not an If-None-Match header matches an entity tag.
+     * @param ifNoneMatch - Value of the If-None-Match header (null if none)
+     * @param etag - Current entity tag
+     * @return true if the client's copy is up to date.
+     */
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String tag : ifNoneMatch.split(",")) {
+            tag = tag.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Parse the query parameters of a request.
+     * @param query - Raw query (null if none)
+     * @return parameter names mapped to their (decoded) values.
+     * @throws BadRequestException if the query cannot be decoded.
+     */
+    private static Map<String, String> parseQuery(String query) throws BadRequestException {
+        Map<String, String> params = new HashMap<String, String>();
+        if (query == null || query.isEmpty()) {
+            return params;
+        }
+        try {
+            for (String param : query.split("&")) {
+                int eq = param.indexOf('=');
+                if (eq == -1) {
+                    params.put(URLDecoder.decode(param, Const.ENCODING), "");
+                } else {
+                    params.put(URLDecoder.decode(param.substring(0, eq), Const.ENCODING),
+                            URLDecoder.decode(param.substring(eq + 1), Const.ENCODING));
+                }
+            }
+        } catch (UnsupportedEncodingException | IllegalArgumentException e) {
+            throw new BadRequestException("Invalid query \"" + query + "\"");
+        }
+        return params;
+    }
+
+    /**
+     * Send a plain text error response.
+     * @param exchange - Current exchange
+     * @param code - HTTP status code
+     * @param message - Error message
+     * @throws IOException if the response cannot be sent.
+     */
+    private static void sendError(HttpExchange exchange, int code, String message) throws IOException {
+        byte[] body = (message + "\n").getBytes(Const.ENCODING);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=" + Const.ENCODING);
+        exchange.sendResponseHeaders(code, body.length);
+        OutputStream out = exchange.getResponseBody();
+        out.write(body);
+        out.flush();
+    }
+}
@@ -19,25 +19,41 @@
 package de.jsteltze.calendar;
 
 import java.awt.Dimension;
+import java.awt.GraphicsEnvironment;
 import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStreamWriter;
+import java.text.ParseException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import java.util.Timer;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import javax.swing.JOptionPane;
 import javax.swing.SwingUtilities;
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.xml.sax.SAXException;
 
 import de.jsteltze.calendar.Event.EventType;
 import de.jsteltze.calendar.UI.CalendarGUI;
+import de.jsteltze.calendar.UI.EdtWatchdog;
 import de.jsteltze.calendar.UI.GUIUtils;
+import de.jsteltze.calendar.UI.OccurrenceCache;
 import de.jsteltze.calendar.applet.CalendarApplet;
 import de.jsteltze.calendar.config.ColorSet;
 import de.jsteltze.calendar.config.Configuration;
@@ -59,7 +75,12 @@ import de.jsteltze.calendar.frames.Notification;
 import de.jsteltze.calendar.frames.Settings;
 import de.jsteltze.calendar.frames.TableOfEventsSingleDay;
 import de.jsteltze.calendar.frames.TableOfNotifications;
+import de.jsteltze.calendar.metrics.Flight;
+import de.jsteltze.calendar.metrics.Metrics;
+import de.jsteltze.calendar.tasks.AlarmRegistry;
+import de.jsteltze.calendar.tasks.AlarmScheduler;
 import de.jsteltze.calendar.tasks.AlarmTask;
+import de.jsteltze.calendar.tasks.AsyncLogHandler;
 import de.jsteltze.calendar.tasks.AutoUpdateTask;
 import de.jsteltze.calendar.tasks.CalendarRefreshTask;
 import de.jsteltze.calendar.tasks.RollingBackup;
@@ -93,16 +114,40 @@ public class Calendar implements ErrorListener {
     private Date viewedDate;
 
     /**
-     * List of AlarmTasks that will pop up soon for notifying (timer thread is
-     * started already).
+     * AlarmTasks set by the user (e.g. snoozed notifications) that will pop up
+     * soon for notifying (already queued at the AlarmScheduler).
      */
-    private List<AlarmTask> pendingAlarms;
+    private AlarmRegistry pendingAlarms;
+
+    /**
+     * AlarmTasks for the automatic reminders of events (already queued
+     * at the AlarmScheduler).
+     */
+    private AlarmRegistry reminders;
 
     /** List of open notifications (actual frames waiting for user input). */
     private List<Notification> notis;
 
     /** All events (including holidays). */
     private List<Event> events;
+    
+    /**
+     * Version of 'events'. Incremented on each change except for the flexible
+     * holidays exchanged while browsing different years (these only depend on the year).
+     */
+    private final AtomicInteger eventsVersion = new AtomicInteger();
+    
+    /** Aggregates of 'events' (for the status bar and tray icon). */
+    private final EventStatistics statistics = new EventStatistics();
+    
+    /** Full-text index of the user events and their notes. */
+    private SearchIndex searchIndex;
+    
+    /** Occurrences of the events per day (for painting the views). */
+    private final OccurrenceCache occurrenceCache;
+    
+    /** Flexible holidays by year (see {@link #getFlexibleHolidays(int)}). */
+    private final Map<Integer, List<Event>> flexibleHolidays = new HashMap<Integer, List<Event>>();
 
     /** Current configuration (settings). */
     private Configuration config;
@@ -137,8 +182,17 @@ public class Calendar implements ErrorListener {
     /** Command line arguments used. */
     private static String[] cmdArgs;
     
+    /** Address of the agenda server ([host:]port) or null if not to be started. */
+    private static String serveAddress;
+    
     /** Table of notifications. */
     private TableOfNotifications tableOfNotis;
+    
+    /** Number of months of the events to load first (see {@link #startup(Runnable)}). */
+    private static final int LOAD_WINDOW_MONTHS = 15;
+
+    /** Events whose reminders are beyond the current horizon (or need re-planning). */
+    private ReminderPlanner planner;
 
     /**
      * Construct a new calendar.
@@ -146,7 +200,8 @@ public class Calendar implements ErrorListener {
      * default dimension. Pass 0,0 to start with full screen.
      * @param view - Specify view to start with. If null the value parsed from the config file will be used
      * @param appletMode - Start calendar in applet mode. If true, NO config file will be read
-     * (empty calendar with default config) and access will be read-only
+     * (empty calendar with default config) and access will be read-only. If false only
+     * the config will be read; call {@link #startup(Runnable)} to load the events
      * @param workspace - Use a specific working directory (default is ".").
      */
     public Calendar(final Dimension size, final View view, 
@@ -155,11 +210,15 @@ public class Calendar implements ErrorListener {
         this.firstStartup = false;
         this.fullyLaunched = false;
         this.launchedEmpty = false;
-        this.pendingAlarms = new ArrayList<AlarmTask>();
+        this.pendingAlarms = new AlarmRegistry();
+        this.reminders = new AlarmRegistry();
         this.events = new ArrayList<Event>();
         this.notis = new ArrayList<Notification>();
+        this.planner = new ReminderPlanner();
         this.appletMode = appletMode;
         this.workspace = workspace;
+        this.searchIndex = new SearchIndex(workspace, appletMode ? null : new File(getPath(Const.INDEXFILE)));
+        this.occurrenceCache = new OccurrenceCache(this);
 
         // init logger (if not yet initialized)
         if (log == null) {
@@ -169,62 +228,312 @@ public class Calendar implements ErrorListener {
         if (!appletMode) {
             
             /*
-             * Read events from xml file
+             * Read the settings only. The events are loaded by startup(Runnable).
              */
+            long start = System.nanoTime();
+            File xmlFile = new File(getPath(Const.XMLFILE));
             XMLParser parser = new XMLParser();
-    
-            try {
-                parser.parse(new File(getPath(Const.XMLFILE)));
-                events = parser.getEvents();
-                RollingBackup.start(this);
-            } catch (FileNotFoundException e) {
+            if (!xmlFile.exists()) {
                 log.fine("XML file \"" + getPath(Const.XMLFILE) + "\" not found, assuming first startup");
                 firstStartup = true;
-            } catch (Exception e) {
-                launchedEmpty = true;
-                errorOccurred(Msg.getMessage("errorMessageCannotParseXML", new String[] {Const.XMLFILE}), 
-                        Msg.getMessage("errorMessageCannotParseXMLTitle"), e);
+            } else {
+                try {
+                    parser.parseConfig(xmlFile);
+                } catch (Exception e) {
+                    /* Reported when parsing the events */
+                    log.log(Level.WARNING, "cannot read config section", e);
+                }
             }
 
             config = parser.getConfig();
             if (firstStartup && Locale.getDefault().equals(Locale.US)) {
                 config.setProperty(IntProperty.FirstDayOfWeek, java.util.Calendar.SUNDAY);
             }
+            logPhase("config", start);
+        
+        } else {
+            config = Configuration.DEFAULT_CONFIG.clone();
+
+            updateFlexibleHolidays(viewedDate.get(java.util.Calendar.YEAR), true, false);
+            updateStaticHolidays(false);
+            
+            fullyLaunched = true;
+            log.info("calendar now fully started");
+            searchIndex.build(getAllUserEvents());
+        }
+    }
     
-            /*
-             * Test for write rights
-             */
-            File test = new File(getPath(Const.XMLFILE));
-            if (!test.exists()) {
+    /**
+     * Load the events in the background and publish them on the event dispatch thread.
+     * Parsing the events, calculating the holidays and testing the write rights run
+     * in parallel on a startup executor; the rolling backup follows a successful parsing.
+     * The events are loaded progressively: the events which can occur around the viewed year
+     * are published (and painted) first, the remaining historic events follow.
+     * Until all events are published the calendar is not fully launched (no saving).
+     * @param whenPublished - Called on the event dispatch thread after the events have 
+     *         been published (e.g. to schedule reminders)
+     */
+    public void startup(final Runnable whenPublished) {
+        final long start = System.nanoTime();
+        final int year = new Date().get(java.util.Calendar.YEAR);
+        final File xmlFile = new File(getPath(Const.XMLFILE));
+        
+        /* Window of the events to load first: the viewed year (plus the adjacent months shown) */
+        final Date from = viewedDate.clone();
+        from.setHasTime(false);
+        from.set(java.util.Calendar.DAY_OF_YEAR, 1);
+        from.add(java.util.Calendar.MONTH, -1);
+        final Date to = from.clone();
+        to.add(java.util.Calendar.MONTH, LOAD_WINDOW_MONTHS);
+        
+        final ExecutorService executor = Executors.newCachedThreadPool(new ThreadFactory() {
+
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread t = new Thread(r, "Startup");
+                t.setDaemon(true);
+                return t;
+            }
+        });
+        
+        /* Phase: parse events (nothing to parse at the first startup) */
+        final Future<List<Event>> parsed = executor.submit(new Callable<List<Event>>() {
+            
+            @Override
+            public List<Event> call() throws Exception {
+                if (firstStartup) {
+                    return new ArrayList<Event>();
+                }
+                long t = System.nanoTime();
+                XMLParser parser = new XMLParser();
+                parser.parseEvents(xmlFile, from, to);
+                logPhase("parse window", t);
+                
+                /* Paint the events of the viewed period while parsing the rest */
+                final List<Event> window = new ArrayList<Event>(parser.getEvents());
+                SwingUtilities.invokeLater(new Runnable() {
+                    
+                    @Override
+                    public void run() {
+                        publishWindow(window);
+                    }
+                });
+                
+                t = System.nanoTime();
+                List<Event> rest = parser.parseDeferred();
+                logPhase("parse history", t);
+                return rest;
+            }
+        });
+        
+        /* Phase: holidays of the current year */
+        final Future<List<Event>> holidays = executor.submit(new Callable<List<Event>>() {
+            
+            @Override
+            public List<Event> call() {
+                long t = System.nanoTime();
+                List<Event> result = new ArrayList<Event>(getFlexibleHolidays(year));
+                result.addAll(getStaticHolidays(year));
+                logPhase("holidays", t);
+                return result;
+            }
+        });
+        
+        /* Phase: write rights (creates the XML file at the first startup) */
+        final Future<Boolean> writable = executor.submit(new Callable<Boolean>() {
+            
+            @Override
+            public Boolean call() {
+                long t = System.nanoTime();
+                boolean result = testWriteRights(xmlFile);
+                
+                /* Remove Updater program if exists */
+                new File(Const.UPDATER).delete();
+                logPhase("write rights", t);
+                return result;
+            }
+        });
+        
+        /* Phase: backup (only of a file that could be parsed) */
+        final Future<?> backup = executor.submit(new Runnable() {
+            
+            @Override
+            public void run() {
                 try {
-                    test.createNewFile();
-                    BufferedWriter out = new BufferedWriter(new OutputStreamWriter(
-                            new FileOutputStream(test), Const.ENCODING));
-                    out.write("<?xml version=\"1.0\" encoding=\"" + Const.ENCODING
-                            + "\" standalone=\"yes\"?>\n<Calendar version=\"" + Const.VERSION
-                            + "\" />\n");
-                    out.close();
-                } catch (IOException e) {
-                    log.log(Level.WARNING, Const.XMLFILE + " cannot be created: " + e.toString());
+                    parsed.get();
+                } catch (InterruptedException | ExecutionException e) {
+                    return;
+                }
+                if (!firstStartup) {
+                    long t = System.nanoTime();
+                    RollingBackup.start(Calendar.this);
+                    logPhase("backup", t);
                 }
             }
-            if (!test.canWrite()) {
-                errorOccurred(Msg.getMessage("errorMessageNoWriteRights"), 
-                        Msg.getMessage("errorMessageNoWriteRightsTitle"), null);
+        });
+        
+        /* Wait for all phases, then publish the model */
+        executor.execute(new Runnable() {
+            
+            @Override
+            public void run() {
+                List<Event> loaded;
+                Exception error = null;
+                try {
+                    loaded = parsed.get();
+                } catch (InterruptedException | ExecutionException e) {
+                    loaded = new ArrayList<Event>();
+                    error = e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+                }
+                
+                final List<Event> fLoaded = loaded;
+                final Exception fError = error;
+                final List<Event> fHolidays = await(holidays, new ArrayList<Event>());
+                final boolean fWritable = await(writable, Boolean.TRUE);
+                await(backup, null);
+                executor.shutdown();
+                logPhase("background", start);
+                
+                SwingUtilities.invokeLater(new Runnable() {
+                    
+                    @Override
+                    public void run() {
+                        publish(fLoaded, fHolidays, fError, fWritable);
+                        logPhase("startup", start);
+                        whenPublished.run();
+                    }
+                });
             }
+        });
+    }
+    
+    /**
+     * Load all events on the calling thread (without rolling backup and without
+     * testing the write rights). For tools running without GUI, such as benchmarks.
+     * @throws ParserConfigurationException if a parser cannot be created.
+     * @throws SAXException If the XML file cannot be parsed.
+     * @throws IOException If the XML file cannot be read.
+     */
+    public void load() throws ParserConfigurationException, SAXException, IOException {
+        long start = System.nanoTime();
+        List<Event> loaded = new ArrayList<Event>();
+        if (!firstStartup) {
+            XMLParser parser = new XMLParser();
+            parser.parse(new File(getPath(Const.XMLFILE)));
+            loaded = parser.getEvents();
+        }
+        int year = new Date().get(java.util.Calendar.YEAR);
+        List<Event> holidays = new ArrayList<Event>(getFlexibleHolidays(year));
+        holidays.addAll(getStaticHolidays(year));
+        publish(loaded, holidays, null, true);
+        logPhase("load", start);
+    }
+    
+    /**
+     * Publish the events of the viewed period loaded first. To be called on the 
+     * event dispatch thread. The calendar is not fully launched yet.
+     * @param window - Events which can occur within the viewed period
+     */
+    private void publishWindow(List<Event> window) {
+        long start = System.nanoTime();
+        events.addAll(0, window);
+        statistics.reset(events, new Date());
+        eventsVersion.incrementAndGet();
         
-        } else {
-            config = Configuration.DEFAULT_CONFIG.clone();
+        if (gui != null) {
+            gui.update();
+            gui.updateStatusBar();
+        }
+        logPhase("publish window", start);
+    }
+    
+    /**
+     * Publish the events loaded at startup (all but the ones published by 
+     * {@link #publishWindow(List)}). To be called on the event dispatch thread.
+     * @param loaded - Events parsed from the XML file
+     * @param holidays - Holidays of the current year
+     * @param error - Exception thrown while parsing (null if none)
+     * @param writable - False if the XML file cannot be written
+     */
+    private void publish(List<Event> loaded, List<Event> holidays, Exception error, boolean writable) {
+        long start = System.nanoTime();
+        if (error != null) {
+            launchedEmpty = true;
+            errorOccurred(Msg.getMessage("errorMessageCannotParseXML", new String[] {Const.XMLFILE}), 
+                    Msg.getMessage("errorMessageCannotParseXMLTitle"), error);
+        }
+        if (!writable) {
+            errorOccurred(Msg.getMessage("errorMessageNoWriteRights"), 
+                    Msg.getMessage("errorMessageNoWriteRightsTitle"), null);
         }
-
-        updateFlexibleHolidays(viewedDate.get(java.util.Calendar.YEAR), true, false);
-        updateStaticHolidays(false);
         
-        /* Remove Updater program if exists */
-        new File(Const.UPDATER).delete();
+        /* Events added while loading (if any) stay */
+        events.addAll(loaded);
+        statistics.reset(events, new Date());
+        for (Event e : holidays) {
+            addToList(e);
+        }
+        eventsVersion.incrementAndGet();
         
         fullyLaunched = true;
+        logPhase("publish", start);
         log.info("calendar now fully started");
+        
+        /* Build the search index in the background */
+        searchIndex.build(getAllUserEvents());
+        
+        if (gui != null) {
+            gui.update();
+            gui.updateStatusBar();
+        }
+    }
+    
+    /**
+     * Test whether the calendar XML file can be written. The file will be created
+     * if it does not exist yet.
+     * @param xmlFile - Calendar XML file
+     * @return true if the file can be written.
+     */
+    private static boolean testWriteRights(File xmlFile) {
+        if (!xmlFile.exists()) {
+            try {
+                xmlFile.createNewFile();
+                BufferedWriter out = new BufferedWriter(new OutputStreamWriter(
+                        new FileOutputStream(xmlFile), Const.ENCODING));
+                out.write("<?xml version=\"1.0\" encoding=\"" + Const.ENCODING
+                        + "\" standalone=\"yes\"?>\n<Calendar version=\"" + Const.VERSION
+                        + "\" />\n");
+                out.close();
+            } catch (IOException e) {
+                log.log(Level.WARNING, Const.XMLFILE + " cannot be created: " + e.toString());
+            }
+        }
+        return xmlFile.canWrite();
+    }
+    
+    /**
+     * Wait for the result of a startup phase.
+     * @param future - Result of the phase
+     * @param fallback - Returned if the phase failed
+     * @param <T> - Type of the result
+     * @return the result of the phase or the fallback.
+     */
+    private static <T> T await(Future<T> future, T fallback) {
+        try {
+            return future.get();
+        } catch (InterruptedException | ExecutionException e) {
+            log.log(Level.WARNING, "startup phase failed", e);
+            return fallback;
+        }
+    }
+    
+    /**
+     * Log the wall time of a startup phase.
+     * @param phase - Name of the phase
+     * @param start - Start of the phase (see {@link System#nanoTime()})
+     */
+    private static void logPhase(String phase, long start) {
+        log.info("startup phase '" + phase + "' took " + (System.nanoTime() - start) / 1000000 + " ms");
     }
 
     /**
@@ -251,14 +560,20 @@ public class Calendar implements ErrorListener {
         if (force) {
             /* Remove all flexible holidays */
             for (Event e : holidays) {
-                events.remove(e);
+                removeFromList(e);
+                cancelAlarms(e);
+            }
+            synchronized (flexibleHolidays) {
+                flexibleHolidays.clear();
             }
+            eventsVersion.incrementAndGet();
         
         } else {
             /* Remove all flexible holidays of years other than @year */
             for (Event e : holidays) { 
                 if (e.getDate().get(java.util.Calendar.YEAR) != thisYear) {
-                    events.remove(e);
+                    removeFromList(e);
+                    cancelAlarms(e);
                 }
             }
             
@@ -267,23 +582,11 @@ public class Calendar implements ErrorListener {
             }
         }
         
-        /* Collect holiday events to add (depending on the config and the current year) */
-        holidays.clear();
-        holidays.addAll(Holidays.getFlexibleByLaw(config.getProperty(IntProperty.HolidayID), year));
-        holidays.addAll(Holidays.getFlexibleSpecial(config.getProperty(IntProperty.SpecialDaysID), year));
-        holidays.addAll(Holidays.getFlexibleAction(config.getProperty(IntProperty.ActionDays1ID), 
-                config.getProperty(IntProperty.ActionDays2ID), year));
-        
-        /* Collect time shift events (if enabled) */
-        if (config.getProperty(BoolProperty.NotifyTimeShift)) {
-            holidays.addAll(Holidays.getFlexibleTimeShift(year));
-        }
-        
-        for (Event e : holidays) {
+        for (Event e : getFlexibleHolidays(year)) {
             if (notify) {
                 addEvent(e, false);
             } else {
-                events.add(e);
+                addToList(e);
             }
         }
         
@@ -293,6 +596,92 @@ public class Calendar implements ErrorListener {
         }
     }
 
+    /**
+     * Returns the flexible holidays of a year (depending on the config). The
+     * holidays are calculated once per year and kept until the config changes,
+     * so browsing back and forth does not calculate them again. May be called
+     * from any thread.
+     * @param year - Year of interest
+     * @return List of flexible holidays of this year (do not modify).
+     */
+    public List<Event> getFlexibleHolidays(int year) {
+        synchronized (flexibleHolidays) {
+            List<Event> holidays = flexibleHolidays.get(year);
+            if (holidays != null) {
+                return holidays;
+            }
+        }
+        
+        /* Collect holiday events (depending on the config and the year) */
+        Flight.Span span = Flight.begin(Flight.Type.holidays);
+        List<Event> holidays = Holidays.getFlexible(config, year);
+        commitHolidays(span, year, "flexible", holidays.size());
+        
+        synchronized (flexibleHolidays) {
+            List<Event> other = flexibleHolidays.get(year);
+            if (other != null) {
+                return other;
+            }
+            flexibleHolidays.put(year, holidays);
+        }
+        return holidays;
+    }
+    
+    /**
+     * Add an event to the list of events and update the statistics.
+     * @param e - Event to add
+     */
+    private void addToList(Event e) {
+        events.add(e);
+        statistics.added(e);
+        searchIndex.update(e);
+    }
+    
+    /**
+     * Remove an event from the list of events and update the statistics.
+     * @param e - Event to remove
+     */
+    private void removeFromList(Event e) {
+        if (events.remove(e)) {
+            statistics.removed(e);
+        }
+    }
+    
+    /**
+     * Returns the aggregates of the list of events (number of user events,
+     * today's events...). These are kept up to date as events are added and removed.
+     * @return the event statistics.
+     */
+    public EventStatistics getStatistics() {
+        return statistics;
+    }
+    
+    /**
+     * Returns the full-text index of the user events and their notes.
+     * @return the search index.
+     */
+    public SearchIndex getSearchIndex() {
+        return searchIndex;
+    }
+    
+    /**
+     * Returns the cache of the occurrences of the events per day.
+     * @return the occurrence cache of this calendar.
+     */
+    public OccurrenceCache getOccurrenceCache() {
+        return occurrenceCache;
+    }
+    
+    /**
+     * Returns the version of the list of events. The version changes whenever
+     * events are added, edited or removed, but not when the flexible holidays
+     * are exchanged while browsing years.
+     * @return the current version of the list of events.
+     */
+    public int getEventsVersion() {
+        return eventsVersion.get();
+    }
+
     /**
      * Updates the static holidays (such as Christmas...).
      * To be called in case of settings changes only.
@@ -316,26 +705,16 @@ public class Calendar implements ErrorListener {
          * Remove all static holidays
          */
         for (Event e : holidays) {
-            events.remove(e);
+            removeFromList(e);
+            cancelAlarms(e);
         }
+        eventsVersion.incrementAndGet();
         
-        /* collect holiday events to add */
-        holidays.clear();
-        holidays.addAll(Holidays.getStaticByLaw(config.getProperty(IntProperty.HolidayID), year));
-        holidays.addAll(Holidays.getStaticSpecial(config.getProperty(IntProperty.SpecialDaysID), year));
-        holidays.addAll(Holidays.getStaticAction(config.getProperty(IntProperty.ActionDays1ID), 
-                config.getProperty(IntProperty.ActionDays2ID), year));
-        
-        /* Collect season events (if enabled) */
-        if (config.getProperty(BoolProperty.NotifySeason)) {
-            holidays.addAll(Holidays.getStaticSeason(year));
-        }
-        
-        for (Event e : holidays) {
+        for (Event e : getStaticHolidays(year)) {
             if (notify) {
                 addEvent(e, false);
             } else {
-                events.add(e);
+                addToList(e);
             }
         }
         
@@ -344,6 +723,37 @@ public class Calendar implements ErrorListener {
         }
     }
 
+    /**
+     * Returns the static holidays (depending on the config). May be called
+     * from any thread.
+     * @param year - Current year
+     * @return List of static holidays.
+     */
+    private List<Event> getStaticHolidays(int year) {
+        Flight.Span span = Flight.begin(Flight.Type.holidays);
+        List<Event> holidays = Holidays.getStatic(config, year);
+        commitHolidays(span, year, "static", holidays.size());
+        return holidays;
+    }
+    
+    /**
+     * Commit a flight recorder event of calculating holidays.
+     * @param span - Span begun before calculating
+     * @param year - Year of the holidays
+     * @param kind - Kind of holidays (flexible or static)
+     * @param count - Number of holidays calculated
+     */
+    private void commitHolidays(Flight.Span span, int year, String kind, int count) {
+        if (span.isRecording()) {
+            span.set("year", year).set("kind", kind).set("holidays", count)
+                .set("config", config.getProperty(IntProperty.HolidayID) + "/" 
+                        + config.getProperty(IntProperty.SpecialDaysID) + "/"
+                        + config.getProperty(IntProperty.ActionDays1ID) + "/" 
+                        + config.getProperty(IntProperty.ActionDays2ID))
+                .commit();
+        }
+    }
+
     /**
      * Returns all events.
      * @return List of all events.
@@ -383,41 +793,36 @@ public class Calendar implements ErrorListener {
     }
 
     /**
-     * Returns all running notification tasks.
-     * @return List of running alarm tasks.
+     * Returns all running notification tasks set by the user.
+     * @return List of running alarm tasks (ordered by fire time).
      */
     public List<AlarmTask> getAlarmTasks() {
-        return pendingAlarms;
+        return pendingAlarms.getAll();
     }
 
     /**
-     * Add an alarm task to the list of running alarm tasks.
+     * Schedule an alarm task and add it to the list of running alarm tasks.
      * If there is already a task with for the same event, this
      * task will be replaced.
      * @param x - AlarmTask to add
      */
     public void addAlarmTask(AlarmTask x) {
         log.fine("[addPendingEvent] " + x.getEvent().getName());
-        if (pendingAlarms.contains(x)) {
+        if (pendingAlarms.get(x.getEvent()) == x) {
             return;
         }
         
-        /* remove duplicate alarm task */
-        int i, size = pendingAlarms.size();
-        for (i = 0; i < size; i++) {
-            if (pendingAlarms.get(i).getEvent().equals(x.getEvent())) {
-                pendingAlarms.get(i).cancel();
-                pendingAlarms.remove(i);
-                gui.putMessage(Msg.getMessage("guiMessageAlarmChanged", new String[] {x.getEvent().getName()}));
-                break;
-            }
-        }
+        AlarmScheduler.schedule(x);
         
-        if (i == size) {
+        /* replace duplicate alarm task */
+        AlarmTask old = pendingAlarms.put(x);
+        if (old != null) {
+            old.cancel();
+            gui.putMessage(Msg.getMessage("guiMessageAlarmChanged", new String[] {x.getEvent().getName()}));
+        } else {
             gui.putMessage(Msg.getMessage("guiMessageAlarmSet", new String[] {x.getEvent().getName()}));
         }
         
-        pendingAlarms.add(x);
         gui.updateStatusBar();
     }
 
@@ -428,14 +833,52 @@ public class Calendar implements ErrorListener {
      */
     public void removeAlarmTask(AlarmTask x) {
         pendingAlarms.remove(x);
+        reminders.remove(x);
         gui.updateStatusBar();
     }
 
+    /**
+     * Schedule the automatic reminder for an event. A reminder scheduled
+     * for the same event before will be cancelled.
+     * @param e - Event to remind of
+     * @param delay - Time to wait in milliseconds
+     */
+    private void scheduleReminder(Event e, long delay) {
+        AlarmTask at = new AlarmTask(this, e, delay);
+        AlarmScheduler.schedule(at);
+        AlarmTask old = reminders.put(at);
+        if (old != null) {
+            old.cancel();
+        }
+    }
+
+    /**
+     * Cancel all alarm tasks of an event and remove it from the reminder planner.
+     * To be called when an event is removed.
+     * @param e - Event to cancel the alarms for
+     */
+    private void cancelAlarms(Event e) {
+        planner.remove(e);
+        AlarmTask at = pendingAlarms.remove(e);
+        if (at != null) {
+            at.cancel();
+        }
+        at = reminders.remove(e);
+        if (at != null) {
+            at.cancel();
+        }
+    }
+
     /**
      * Main function.
      * @param args - Command line arguments
      */
     public static void main(String[] args) {
+        /* query mode: print or export events without GUI */
+        if (Agenda.isQuery(args)) {
+            System.exit(Agenda.run(args));
+        }
+        
         /* use default dimension */
         int width = -1, height = -1;
             
@@ -448,6 +891,9 @@ public class Calendar implements ErrorListener {
         /* default log level */
         String logLevel = "INFO";
         
+        /* date to show on start */
+        Date startDate = null;
+        
         /*
          * Parse command line parameters
          */
@@ -468,6 +914,15 @@ public class Calendar implements ErrorListener {
             } else if (s.equals("--view=DAY")) {
                 view = View.day;
                 
+            } else if (s.startsWith("--date=")) {
+                try {
+                    startDate = new Date(s.substring("--date=".length()));
+                } catch (ParseException e) {
+                    System.err.println("Cannot parse \"" + s + "\"");
+                    System.err.println("Use format YYYYMMDD!");
+                    System.exit(1);
+                }
+                
             } else if (s.startsWith("--logLevel=")) {
                 logLevel = s.substring("--logLevel=".length());
             
@@ -483,6 +938,12 @@ public class Calendar implements ErrorListener {
                 versioninfo();
                 System.exit(0);
                 
+            } else if (s.equals("--serve")) {
+                serveAddress = "";
+                
+            } else if (s.startsWith("--serve=")) {
+                serveAddress = s.substring("--serve=".length());
+                
             } else if (s.startsWith("--size=")) {
                 String w = s.substring(7, s.lastIndexOf("x"));
                 String h = s.substring(s.lastIndexOf("x") + 1, s.length());
@@ -511,50 +972,41 @@ public class Calendar implements ErrorListener {
         Log.setLoggingTextArea(logTextArea);
         Log.setLevel(logLevel);
         log = Log.getLogger(Calendar.class);
+        AsyncLogHandler.install(log);
         
         /*
-         * Check if lock file exists
+         * Try to lock the workspace. If another calendar holds the lock, hand
+         * over the command line arguments. The running calendar will appear.
+         * Never launch a second calendar while the lock is held by another one
+         * (both would write the same files).
          */
-        if (new File(workspaceArg + File.separator + Const.LOCKFILE).exists()) {
-            /*
-             * Call running calendar to appear. This will create a maximize-file.
-             * The running calendar is frequently looking for this file. If the file
-             * is detected by a already running calendar process it will be deleted.
-             * The deleting of the maximize-file is the signal for this process that
-             * there is an already running calendar process.
-             */
-            log.info("Lockfile exists. Already started?");
-            File maxfile = new File(workspaceArg + File.separator + Const.MAXIMIZEFILE);
-            try {
-                log.fine("create file to call running calendar");
-                /* Create maximize file. */
-                maxfile.createNewFile();
-                /* Wait two seconds for the (possibly) running calendar to react. */
-                Thread.sleep(2 * Date.SEC_1);
-                
-                if (!maxfile.exists()) {
-                    /*
-                     * Exit if running calendar answers
-                     */
+        try {
+            singletonThread = SingletonTask.acquire(workspaceArg);
+            if (singletonThread == null) {
+                log.info("Workspace is locked. Already started?");
+                boolean handedOver = SingletonTask.handOver(workspaceArg, args);
+                if (handedOver) {
                     log.info("calendar is already running. Exit.");
-                    return;
-                
                 } else {
-                    log.info("calendar is not responding. Launching new.");
-                    maxfile.delete();
+                    log.severe("calendar is running but not responding. Exit.");
+                    System.err.println("Calendar is already running on workspace \"" + workspaceArg 
+                            + "\" but does not respond!");
+                    if (!GraphicsEnvironment.isHeadless()) {
+                        JOptionPane.showMessageDialog(null, Msg.getMessage("errorMessageAlreadyRunning"),
+                                Msg.getMessage("errorMessageAlreadyRunningTitle"), JOptionPane.ERROR_MESSAGE);
+                    }
                 }
-                
-            } catch (IOException e) {
-                log.log(Level.WARNING, "problems with the lock file...", e);
-            } catch (InterruptedException e) {
-                log.log(Level.WARNING, "sleep interrupted...", e);
+                AsyncLogHandler.shutdown();
+                System.exit(handedOver ? 0 : 1);
             }
+        } catch (IOException e) {
+            log.log(Level.SEVERE, "cannot lock workspace, launching without singleton check...", e);
         }
         
         /*
-         * Case: no lock file found or running calendar does not answer
+         * Case: workspace locked by this calendar (or the lock cannot be created at all)
          */
-        launchCalendarFrame(new Dimension(width, height), view, workspaceArg);        
+        launchCalendarFrame(new Dimension(width, height), view, startDate, workspaceArg);        
     }
     
     /**
@@ -562,22 +1014,26 @@ public class Calendar implements ErrorListener {
      * calendar process is running parallel (can cause damage to config!).
      * @param size - Size of the new frame 
      * @param view - Desired view to start with
+     * @param startDate - Date to show on start (null for today)
      * @param fworkspace - Workspace path (for config file and events)
      */
-    private static void launchCalendarFrame(final Dimension size, final View view, final String fworkspace) {
+    private static void launchCalendarFrame(final Dimension size, final View view, final Date startDate,
+            final String fworkspace) {
         // Schedule a job for the event-dispatching thread:
         // creating and showing this application's GUI.
         SwingUtilities.invokeLater(new Runnable() {
             
             public void run() {
-                // Create new calendar object 
-                Calendar cal = new Calendar(size, view, false, fworkspace);
+                long start = System.nanoTime();
+                
+                // Create new calendar object (reads the settings only, events follow)
+                final Calendar cal = new Calendar(size, view, false, fworkspace);
                 Configuration config = cal.getConfig();
                 
                 // Load config items
                 View confView       = (View) config.getProperty(EnumProperty.DefaultView);
                 Style confStyle     = (Style) config.getProperty(EnumProperty.Style);
-                RemindOption remind = (RemindOption) config.getProperty(EnumProperty.Remind);
+                final RemindOption remind = (RemindOption) config.getProperty(EnumProperty.Remind);
                 
                 // Create frame to show calendar
                 CalendarFrame mainFrame = new CalendarFrame(size, view == null ? confView : view, cal);
@@ -589,18 +1045,26 @@ public class Calendar implements ErrorListener {
                 }
                 cal.setGUI(mainFrame);
                 GUIUtils.setParentComponent(mainFrame);
+                Metrics.register(cal);
+                EdtWatchdog.install();
+                final AgendaServer agendaServer = serveAddress == null ? null 
+                        : AgendaServer.start(cal, serveAddress);
+                if (startDate != null) {
+                    mainFrame.jumpTo(startDate);
+                }
                 
                 // Start task to maintain singleton (prevent subsequent start of calendars
                 // in order to prevent overwriting of config file)
-                singletonThread = new SingletonTask(mainFrame);
-                singletonThread.start();
+                if (singletonThread != null) {
+                    singletonThread.setFrame(mainFrame);
+                    singletonThread.start();
+                }
         
                 /*
-                 * Refresh at midnight (task) (plus 10 seconds to prevent timing errors)
+                 * Refresh at midnight (task)
                  */
                 refreshAtMidnight = new Timer(true);
-                refreshAtMidnight.schedule(new CalendarRefreshTask(mainFrame),
-                        Date.minutesToMidnight() * Date.MIN_1 + 10 * Date.SEC_1);
+                scheduleMidnightRefresh(cal);
                 
                 /*
                  * Start auto update after 5 minutes
@@ -614,48 +1078,72 @@ public class Calendar implements ErrorListener {
                  * Add shutdown hook for a graceful shutdown
                  */
                 Runtime.getRuntime().addShutdownHook(new Thread() {
-                    private final File lockFile = new File(cal.getPath(Const.LOCKFILE));
                     @Override
                     public void run() {
                         log.info("shutdown, remove lock, cancel all tasks");
-                        // delete lock file
-                        lockFile.delete();
                         // close GUI
                         mainFrame.shutdown();
-                        // stop singleton thread
-                        if (singletonThread != null) {
-                            singletonThread.stopit();
-                        }
                         // cancel all alarm tasks
-                        for (AlarmTask at : cal.getAlarmTasks()) {
-                            at.cancel();
-                        }
+                        cal.pendingAlarms.cancelAll();
+                        cal.reminders.cancelAll();
+                        AlarmScheduler.shutdown();
                         // stop auto updater
                         if (autoUpdateTimer != null) {
                             autoUpdateTimer.cancel();
                         }
-                        // close all loggers/handlers
+                        // stop agenda server
+                        if (agendaServer != null) {
+                            agendaServer.stop();
+                        }
+                        // persist the search index
+                        cal.searchIndex.save();
+                        // stop singleton thread (removes lock) only now: 
+                        // the next instance must not read the workspace while it is written
+                        if (singletonThread != null) {
+                            singletonThread.stopit();
+                        }
+                        // write pending log records, close all loggers/handlers
+                        AsyncLogHandler.shutdown();
                         Log.closeAll();
                     }
                 });
                 
-                if (cal.isFirstStartup()) {
-                    /* show welcome (help) window in case of first launch of this program */
-                    new CalendarWelcomeFrame(mainFrame);
+                logPhase("frame", start);
                 
-                } else {
-                    /* Collect events to notify */
-                    List<Event> events2notify = cal.getEvents2Notify(remind, true);
+                // Load the events in the background, schedule reminders when published
+                cal.startup(new Runnable() {
                     
-                    /* show table of coming events */
-                    if (!events2notify.isEmpty()) {
-                        new TableOfNotifications(cal, events2notify);
+                    @Override
+                    public void run() {
+                        if (cal.isFirstStartup()) {
+                            /* show welcome (help) window in case of first launch of this program */
+                            new CalendarWelcomeFrame(mainFrame);
+                        
+                        } else {
+                            /* Collect events to notify */
+                            List<Event> events2notify = cal.getEvents2Notify(remind, true);
+                            
+                            /* show table of coming events */
+                            if (!events2notify.isEmpty()) {
+                                new TableOfNotifications(cal, events2notify);
+                            }
+                        }
                     }
-                }
+                });
             }
         });
     }
 
+    /**
+     * Schedule the next refresh at midnight (plus 10 seconds to prevent timing errors).
+     * The refresh task will call this again, so the calendar is refreshed every night.
+     * @param cal - Calendar to refresh
+     */
+    public static void scheduleMidnightRefresh(Calendar cal) {
+        refreshAtMidnight.schedule(new CalendarRefreshTask(cal),
+                Date.minutesToMidnight() * Date.MIN_1 + 10 * Date.SEC_1);
+    }
+
     /**
      * Print version information on stdout.
      */
@@ -675,13 +1163,21 @@ public class Calendar implements ErrorListener {
         System.out.println("--workspace=[path]            Start calendar with a certain working directory");
         System.out.println("--view=[YEAR|MONTH|WEEK|DAY]  Start calendar with a specified view");
         System.out.println("--size=WIDTHxHEIGHT           Start calendar with size WIDTH and HEIGHT");
+        System.out.println("--date=YYYYMMDD               Start calendar showing a certain date");
+        System.out.println("                                (jumps to the date if already running)");
         System.out.println("--logLevel=[level]            Start calendar with log level [level]");
         System.out.println("                                Possible values: ALL,CONFIG,FINE,FINER,");
         System.out.println("                                FINEST,INFO,OFF,SEVERE,WARNING");
         System.out.println("--version                     Print version on stdout and exit");
+        System.out.println("--serve[=[host:]port]         Serve the events via HTTP (default localhost:" 
+                + AgendaServer.DEFAULT_PORT + ")");
+        Agenda.usage();
         System.out.println();
         System.out.println("Call \"java -jar " + Const.FILENAME + " [options]\" to start calendar with options.");
         System.out.println("Or simply doubleclick to start without options.");
+        System.out.println("Scripts should call \"java -cp " + Const.FILENAME + " " + Agenda.class.getName() 
+                + " [options]\" for queries,");
+        System.out.println("which does not load AWT or Swing at all.");
     }
 
     /**
@@ -783,12 +1279,7 @@ public class Calendar implements ErrorListener {
         /* 
          * Avoid corruption if not yet fully launched 
          */
-        if (!fullyLaunched) {
-            log.warning("edit requested BUT application NOT FULLY LAUNCHED!!!");
-            JOptionPane.showMessageDialog(gui.getFrame(), 
-                    Msg.getMessage("errorMessageNotYetFullyStarted"), 
-                    Msg.getMessage("errorMessageNotYetFullyStartedTitle"), 
-                    JOptionPane.WARNING_MESSAGE);
+        if (!checkFullyLaunched("edit")) {
             return false;
         }
 
@@ -803,17 +1294,32 @@ public class Calendar implements ErrorListener {
          * Remove old event, copy the ID, add new event
          */
         Event oldEvent = getEventByID(oldID);
-        events.remove(oldEvent);
+        removeFromList(oldEvent);
+        planner.remove(oldEvent);
         newEvent.setID(oldID);
-        events.add(newEvent);
+        addToList(newEvent);
+        eventsVersion.incrementAndGet();
+        RemindOption defaultRemind = (RemindOption) config.getProperty(EnumProperty.Remind);
+        planner.plan(newEvent, getNextPlanningDay(newEvent, defaultRemind));
 
         /*
          * Update alarm task if exists
          */
-        for (AlarmTask a : pendingAlarms) {
-            if (a.getEvent().equals(oldEvent)) {
-                a.setEvent(newEvent);
-            }
+        AlarmTask alarm = pendingAlarms.get(oldEvent);
+        if (alarm != null) {
+            pendingAlarms.setEvent(alarm, newEvent);
+        }
+        
+        /*
+         * Re-schedule the automatic reminder (date or remind setting might have changed)
+         */
+        AlarmTask reminder = reminders.remove(oldEvent);
+        if (reminder != null) {
+            reminder.cancel();
+        }
+        long notifyTimer = checkNotification(newEvent, defaultRemind);
+        if (notifyTimer > 0) {
+            scheduleReminder(newEvent, notifyTimer);
         }
         
         /* Edit this event in the table of notifications frame (if present). */
@@ -836,6 +1342,13 @@ public class Calendar implements ErrorListener {
      * @param event - Event to copy with the original ID (not -1)
      */
     public void copyEvent(Event event) {
+        /* 
+         * Avoid corruption if not yet fully launched (the ID might belong to an event not yet loaded)
+         */
+        if (!checkFullyLaunched("copy")) {
+            return;
+        }
+        
         /* Check if event to copy has attachments */
         File srcEventDir = new File(workspace + File.separator
                 + Const.EVENT_DIR + File.separator + event.getID());
@@ -858,6 +1371,13 @@ public class Calendar implements ErrorListener {
      * @return true weather or not this event was successfully added.
      */
     public boolean newEvent(Event event) {
+        /* 
+         * Avoid corruption if not yet fully launched (the ID might belong to an event not yet loaded)
+         */
+        if (!checkFullyLaunched("new event")) {
+            return false;
+        }
+        
         boolean ret = addEvent(event, true);
         if (ret) {
             gui.putMessage(Msg.getMessage("guiMessageEventAdded", new String[] {event.getName()}));
@@ -879,12 +1399,15 @@ public class Calendar implements ErrorListener {
         }
         
         if (appletMode) {
-            events.add(event);
+            addToList(event);
+            eventsVersion.incrementAndGet();
             return true;
         }
 
-        log.fine("NEW EVENT: " + event.getDate().print()
-                + " -> " + event.getName() + " (" + event.getType().name() + ")");
+        if (log.isLoggable(Level.FINE)) {
+            log.fine("NEW EVENT: " + event.getDate().print()
+                    + " -> " + event.getName() + " (" + event.getType().name() + ")");
+        }
 
         /*
          * Does this event already exist?
@@ -923,17 +1446,21 @@ public class Calendar implements ErrorListener {
             if (event.getID() == -1) {
                 event.setID(genID());
             }
-            log.fine(" ID=" + event.getID());
+            if (log.isLoggable(Level.FINE)) {
+                log.fine(" ID=" + event.getID());
+            }
         }
 
-        events.add(event);
+        addToList(event);
+        eventsVersion.incrementAndGet();
         gui.update();
         gui.updateStatusBar();
 
         /*
          * If time to wait matches the config, launch a new notification
          */
-        long notifyTimer = checkNotification(event, (RemindOption) config.getProperty(EnumProperty.Remind));
+        RemindOption defaultRemind = (RemindOption) config.getProperty(EnumProperty.Remind);
+        long notifyTimer = checkNotification(event, defaultRemind);
         if (notifyTimer == 0) {
             
             /* Add this event in the table of notifications frame (if present). */
@@ -948,9 +1475,9 @@ public class Calendar implements ErrorListener {
 //                new Notification(this, event);
 //            }
         } else if (notifyTimer != -1) {
-            Timer timer = new Timer(true);
-            timer.schedule(new AlarmTask(this, event, notifyTimer), notifyTimer);
+            scheduleReminder(event, notifyTimer);
         }
+        planner.plan(event, getNextPlanningDay(event, defaultRemind));
 
         if (saveAfter) {
             save();
@@ -972,19 +1499,15 @@ public class Calendar implements ErrorListener {
         }
         
         if (appletMode) {
-            events.remove(e);
+            removeFromList(e);
+            eventsVersion.incrementAndGet();
             return true;
         }
         
         /* 
          * Avoid corruption if not yet fully launched 
          */
-        if (!fullyLaunched) {
-            log.warning("deletion requested BUT application NOT FULLY LAUNCHED!!!");
-            JOptionPane.showMessageDialog(gui.getFrame(), 
-                    Msg.getMessage("errorMessageNotYetFullyStarted"), 
-                    Msg.getMessage("errorMessageNotYetFullyStartedTitle"), 
-                    JOptionPane.WARNING_MESSAGE);
+        if (!checkFullyLaunched("deletion")) {
             return false;
         }
 
@@ -1053,14 +1576,10 @@ public class Calendar implements ErrorListener {
         /*
          * Remove this event from the list of events to notify.
          */
-        events.remove(e);
-        for (AlarmTask a : pendingAlarms) {
-            if (a.getEvent().equals(e)) {
-                a.cancel();
-                pendingAlarms.remove(a);
-                break;
-            }
-        }
+        removeFromList(e);
+        searchIndex.remove(e.getID());
+        eventsVersion.incrementAndGet();
+        cancelAlarms(e);
         
         /* Remove this event from the table of notifications frame (if present). */
         if (tableOfNotis != null && tableOfNotis.isVisible()) {
@@ -1108,7 +1627,10 @@ public class Calendar implements ErrorListener {
             tableOfNotis.eventExceptionAdded(event, exceptionDate);
         }
         
+        statistics.removed(event);
         event.addExceptionDate(exceptionDate);
+        statistics.added(event);
+        eventsVersion.incrementAndGet();
         
         gui.update();
         gui.putMessage(Msg.getMessage("guiMessageEventExceptionAdded", 
@@ -1136,12 +1658,7 @@ public class Calendar implements ErrorListener {
         /* 
          * Avoid corruption if not yet fully launched 
          */
-        if (!fullyLaunched) {
-            log.warning("save requested BUT application NOT FULLY LAUNCHED!!!");
-            JOptionPane.showMessageDialog(gui.getFrame(), 
-                    Msg.getMessage("errorMessageNotYetFullyStarted"), 
-                    Msg.getMessage("errorMessageNotYetFullyStartedTitle"), 
-                    JOptionPane.WARNING_MESSAGE);
+        if (!checkFullyLaunched("save")) {
             return;
         }
         
@@ -1157,6 +1674,8 @@ public class Calendar implements ErrorListener {
             return;
         }
 
+        long start = Metrics.SAVE.start();
+        Flight.Span span = Flight.begin(Flight.Type.save);
         try {
             BufferedWriter out = new BufferedWriter(new OutputStreamWriter(
                     new FileOutputStream(new File(filename)), Const.ENCODING));
@@ -1192,6 +1711,9 @@ public class Calendar implements ErrorListener {
             out.close();
         } catch (Exception e) {
             log.log(Level.SEVERE, "cannot save...", e);
+        } finally {
+            Metrics.SAVE.stop(start);
+            span.set("bytes", new File(filename).length()).set("events", v.size()).commit();
         }
     }
 
@@ -1257,7 +1779,28 @@ public class Calendar implements ErrorListener {
     }
 
     /**
-     * Find an empty ID.
+     * Check if the calendar is fully launched, i.e. all events are loaded. If not,
+     * a warning is shown to the user.
+     * <br>Until then no events must be created, changed or saved: the events not yet
+     * loaded (and their IDs) are unknown and would be lost or corrupted.
+     * @param action - Requested action (for logging)
+     * @return True if the calendar is fully launched.
+     */
+    public boolean checkFullyLaunched(String action) {
+        if (fullyLaunched) {
+            return true;
+        }
+        log.warning(action + " requested BUT application NOT FULLY LAUNCHED!!!");
+        JOptionPane.showMessageDialog(gui.getFrame(), 
+                Msg.getMessage("errorMessageNotYetFullyStarted"), 
+                Msg.getMessage("errorMessageNotYetFullyStartedTitle"), 
+                JOptionPane.WARNING_MESSAGE);
+        return false;
+    }
+
+    /**
+     * Find an empty ID. Only valid once the calendar is fully launched
+     * (see {@link #checkFullyLaunched(String)}).
      * @return unused ID
      */
     public int genID() {
@@ -1285,6 +1828,21 @@ public class Calendar implements ErrorListener {
         return null;
     }
     
+    /**
+     * Returns the events with specific IDs (in one pass over all events).
+     * @param ids - IDs of interest
+     * @return IDs mapped to their events (IDs without event are missing).
+     */
+    public Map<Integer, Event> getEventsByID(Set<Integer> ids) {
+        Map<Integer, Event> found = new HashMap<Integer, Event>(ids.size() * 2);
+        for (Event e : events) {
+            if (ids.contains(e.getID()) && !found.containsKey(e.getID())) {
+                found.put(e.getID(), e);
+            }
+        }
+        return found;
+    }
+    
     /**
      * Returns the event with a specific ID and name.
      * @param id - ID
@@ -1391,11 +1949,11 @@ public class Calendar implements ErrorListener {
         RemindOption remind = event.getRemind();
         if (remind == null) {
             // use default reminder, if no event specific available
-            log.fine("remind=DEFAULT");
             remind = defaultRemindOption;
         }
-
-        log.fine("remind=" + remind);
+        if (log.isLoggable(Level.FINE)) {
+            log.fine("remind=" + (event.getRemind() == null ? "DEFAULT " : "") + remind);
+        }
         
         if (remind.equals(RemindOption.noRemind)) {
             // No reminder desired
@@ -1427,10 +1985,10 @@ public class Calendar implements ErrorListener {
             if (dayDiff <= remind.getQuantifier()) {
                 // time has come: notify immediately
                 return 0;
-            } else if (dayDiff < 6) {
+            } else if (dayDiff - remind.getQuantifier() <= ReminderPlanner.HORIZON_DAYS) {
                 // still in the future: set timer
-                // to save resources we only consider events up to 5 days in future
-                // we assume no one runs this program for longer than 5 days without restart 
+                // to save resources we only consider reminders within the horizon,
+                // the others are set by the reminder planner at one of the next midnights
                 long minutesToMidnight = Date.minutesToMidnight();
                 return Date.MIN_1 * (Date.MINS_OF_DAY * (dayDiff - remind.getQuantifier() - 1L) + minutesToMidnight);
             }
@@ -1439,6 +1997,67 @@ public class Calendar implements ErrorListener {
         return -1;
     }
     
+    /**
+     * Returns the day when the reminder of an event has to be planned again. This is either
+     * the day the reminder enters the horizon or (for frequent events) the day after the
+     * next occurrence.
+     * @param event - Event of interest
+     * @param defaultRemindOption - Remind option to apply if the event does not have an individual remind option
+     * @return Day to look at this event again or null if there is nothing more to plan.
+     */
+    private Date getNextPlanningDay(Event event, RemindOption defaultRemindOption) {
+        RemindOption remind = event.getRemind() == null ? defaultRemindOption : event.getRemind();
+        if (remind.equals(RemindOption.noRemind)) {
+            return null;
+        }
+        
+        Date nextDate = event.getNextDate();
+        long dayDiff = nextDate.dayDiff();
+        if (dayDiff < 0) {
+            // no more occurrences in future
+            return null;
+        }
+        
+        Date planningDay = new Date();
+        if (remind.ordinal() >= RemindOption.before1d.ordinal()
+                && dayDiff - remind.getQuantifier() > ReminderPlanner.HORIZON_DAYS) {
+            // reminder is beyond the horizon: look again when it enters the horizon
+            planningDay.add(java.util.Calendar.DAY_OF_MONTH, 
+                    (int) (dayDiff - remind.getQuantifier() - ReminderPlanner.HORIZON_DAYS));
+            return planningDay;
+        
+        } else if (event.getFrequency() != Frequency.OCCUR_ONCE) {
+            // frequent event: plan the following occurrence after this one is over
+            planningDay.add(java.util.Calendar.DAY_OF_MONTH, (int) dayDiff + 1);
+            return planningDay;
+        }
+        
+        return null;
+    }
+    
+    /**
+     * To be called at each midnight rollover. Sets the timers for all reminders that
+     * have just entered the horizon and re-plans frequent events whose occurrence is over.
+     */
+    public void dayChanged() {
+        statistics.dayChanged(events, new Date());
+        List<Event> due = planner.takeDue(new Date());
+        log.info("day changed: " + due.size() + " events to plan");
+        
+        RemindOption defaultRemind = (RemindOption) config.getProperty(EnumProperty.Remind);
+        for (Event e : due) {
+            long notifyTimer = checkNotification(e, defaultRemind);
+            if (notifyTimer != -1) {
+                scheduleReminder(e, notifyTimer);
+            }
+            planner.plan(e, getNextPlanningDay(e, defaultRemind));
+        }
+        
+        if (gui != null) {
+            gui.update();
+        }
+    }
+    
     /**
      * Creates a list of events to notify. 
      * @param remindOption - Default remind setting for events with no individual setting
@@ -1446,24 +2065,36 @@ public class Calendar implements ErrorListener {
      * @return List of events to notify.
      */
     public List<Event> getEvents2Notify(RemindOption remindOption, boolean activateTimer) {
+        long start = Metrics.EVENTS_TO_NOTIFY.start();
         List<Event> events2notify = new ArrayList<Event>();
+        boolean fine = log.isLoggable(Level.FINE);
         for (Event e : events) {
-            log.fine("check event: " + e.getName());
+            if (fine) {
+                log.fine("check event: " + e.getName());
+            }
             long notifyTimer = checkNotification(e, remindOption);
             
             if (notifyTimer == 0) {
                 /* Event is ready for notification. */
-                log.fine("notify!");
+                if (fine) {
+                    log.fine("notify!");
+                }
                 events2notify.add(e);
             
             } else if (notifyTimer != -1 && activateTimer) {
                 /* Notification for this event is in the future. */
-                log.fine("set timer for: " + e.getName());
-                Timer timer = new Timer(true);
-                timer.schedule(new AlarmTask(this, e, notifyTimer), notifyTimer);
+                if (fine) {
+                    log.fine("set timer for: " + e.getName());
+                }
+                scheduleReminder(e, notifyTimer);
+            }
+            
+            if (activateTimer) {
+                planner.plan(e, getNextPlanningDay(e, remindOption));
             }
         }
         
+        Metrics.EVENTS_TO_NOTIFY.stop(start);
         return events2notify;
     }
     
@@ -25,7 +25,9 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStreamWriter;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Scanner;
 import java.util.logging.Level;
@@ -34,6 +36,7 @@ import java.util.logging.Logger;
 import de.jsteltze.calendar.UI.EventPanel;
 import de.jsteltze.calendar.config.Const;
 import de.jsteltze.calendar.config.enums.RemindOption;
+import de.jsteltze.calendar.metrics.Metrics;
 import de.jsteltze.common.Log;
 import de.jsteltze.common.Msg;
 import de.jsteltze.common.calendar.Date;
@@ -462,7 +465,7 @@ public class Event extends EventComparator
         Event cloned = new Event(start, end, s, et, f, r, iD);
         cloned.setCategory(this.category);
         for (Date d : exceptionDates) {
-            cloned.addExceptionDate(d);
+            cloned.addExceptionDate(d.clone());
         }
         return cloned;
     }
@@ -473,6 +476,7 @@ public class Event extends EventComparator
      * @return True if this event takes place on the date.
      */
     public boolean match(Date date) {
+        Metrics.MATCHES.increment();
         if (this.frequency == Frequency.OCCUR_ONCE) {
             /* Case 1: unique event */
             if (this.getDate().sameDateAs(date)) {
@@ -611,31 +615,39 @@ public class Event extends EventComparator
      */
     public static List<Event> sortByDate(List<Event> events, 
             boolean withFrequency, boolean asc) {
-        /* Insert sort */
-        List<Event> res = new ArrayList<Event>();
-        for (Event e : events) {
-            long time = (withFrequency ? e.getNextDate() : e.getDate()).getTimeInMillis();
-            int i = 0;
-            
-            if (e.getType().isHoliday()) {
-                /* 
-                 * Special case for holidays:
-                 * Always move them to the front
-                 */
-                for ( ; i < res.size(); i++) {
-                    if (time <= (withFrequency ? res.get(i).getNextDate() : res.get(i).getDate()).getTimeInMillis()) {
-                        break;
-                    }
+        /* Calculate the sort keys once (getNextDate() is expensive for frequent events) */
+        final int n = events.size();
+        final long[] times = new long[n];
+        final boolean[] holidays = new boolean[n];
+        Date today = new Date();
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            Event e = events.get(i);
+            times[i] = (withFrequency ? e.getNextDate(today) : e.getDate()).getTimeInMillis();
+            holidays[i] = e.getType().isHoliday();
+            order[i] = i;
+        }
+        
+        /*
+         * Merge sort by time. In ambiguous cases holidays come first (the latest
+         * holiday of the input first), followed by the other events in input order.
+         */
+        Arrays.sort(order, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer a, Integer b) {
+                if (times[a] != times[b]) {
+                    return times[a] < times[b] ? -1 : 1;
                 }
-            
-            } else {
-                for ( ; i < res.size(); i++) {
-                    if (time < (withFrequency ? res.get(i).getNextDate() : res.get(i).getDate()).getTimeInMillis()) {
-                        break;
-                    }
+                if (holidays[a] != holidays[b]) {
+                    return holidays[a] ? -1 : 1;
                 }
+                return holidays[a] ? b - a : a - b;
             }
-            res.add(i, e);
+        });
+        
+        List<Event> res = new ArrayList<Event>(n);
+        for (int i : order) {
+            res.add(events.get(i));
         }
         
         /* Sort the reverse for descending order */ 
@@ -777,6 +789,7 @@ public class Event extends EventComparator
 
             out.write(notes);
             out.close();
+            parent.getSearchIndex().notesChanged(id, notes, notesTxt.lastModified());
         } catch (Exception e) {
             LOG.log(Level.SEVERE, "error while trying to write notes to a file...", e);
         }
@@ -800,6 +813,7 @@ public class Event extends EventComparator
             if (!eventDir.delete()) {
                 LOG.warning("cannot delete directory: " + eventDir.getName());
             }
+            parent.getSearchIndex().notesChanged(id, "", 0);
         }
     }
     
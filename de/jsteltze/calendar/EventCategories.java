@@ -92,7 +92,7 @@ public final class EventCategories {
         urlMap.put("Film", EventCategories.class.getResource("/media/categories/movie20.png"));
         urlMap.put("Technik", EventCategories.class.getResource("/media/categories/tools20.png"));
         urlMap.put("wichtig", EventCategories.class.getResource("/media/categories/important20.png"));
-        urlMap.put("Grn", EventCategories.class.getResource("/media/categories/green20.png"));
+        urlMap.put("Grün", EventCategories.class.getResource("/media/categories/green20.png"));
         urlMap.put("Blau", EventCategories.class.getResource("/media/categories/blue20.png"));
         urlMap.put("Gelb", EventCategories.class.getResource("/media/categories/yellow20.png"));
         urlMap.put("Rot", EventCategories.class.getResource("/media/categories/red20.png"));
@@ -37,6 +37,7 @@ import de.jsteltze.calendar.UI.GUIUtils;
 import de.jsteltze.calendar.config.Configuration;
 import de.jsteltze.calendar.config.Const;
 import de.jsteltze.calendar.frames.CalendarFrame;
+import de.jsteltze.calendar.metrics.Flight;
 import de.jsteltze.common.Log;
 import de.jsteltze.common.calendar.Date;
 
@@ -101,9 +102,9 @@ public final class EventExportHandler {
                     if (haveICAL) {
                         for (Event event : events) {
                             if (Frequency.isByEndOfMonth(event.getFrequency())) {
-                                freqHint = "<br><br><b>Hinweis:</b> Ereignisse mit der monatlichen Regelmigkeit "
+                                freqHint = "<br><br><b>Hinweis:</b> Ereignisse mit der monatlichen Regelmäßigkeit "
                                         + "<i>x Tage vor Ende des Monats</i><br>"
-                                        + "knnen nicht ins iCal-Format abgebildet werden.<br><br>"
+                                        + "können nicht ins iCal-Format abgebildet werden.<br><br>"
                                         + "Das Ereignis wurde als einmaliges Ereignis gespeichert.";
                                 break;
                             }
@@ -112,9 +113,9 @@ public final class EventExportHandler {
                     
                     // check if config settings shall be exported to iCal
                     if (haveICAL && config != null && !config.equals(Configuration.DEFAULT_CONFIG)) {
-                        configHint = "<br><br><b>Hinweis:</b> Kalender-Einstellungen knnen nicht in das iCal-Format"
+                        configHint = "<br><br><b>Hinweis:</b> Kalender-Einstellungen können nicht in das iCal-Format"
                                 + "exportiert werden!<br>."
-                                + "Die Einstellungen wurden bersprungen.";
+                                + "Die Einstellungen wurden übersprungen.";
                     }
                     
                     // check if events have notes/attachments -> cannot be exported to xml
@@ -122,10 +123,10 @@ public final class EventExportHandler {
                         for (Event event : events) {
                             if (event.getAttachment(parent.getWorkspace()) != null 
                                     || !event.getNotes(parent.getWorkspace()).isEmpty()) {
-                                attachmentHint = "<br><br><b>Hinweis:</b> Anhnge oder Notizen von Ereignissen knnen "
+                                attachmentHint = "<br><br><b>Hinweis:</b> Anhänge oder Notizen von Ereignissen können "
                                         + "beim XML-Export nicht mit exportiert werden!<br>"
                                         + "Diese Daten befinden sich im Ordner <i>" + Const.EVENT_DIR + "</i><br>"
-                                        + "und mssen manuell mit bertragen werden.";
+                                        + "und müssen manuell mit übertragen werden.";
                                 break;
                             }
                         }
@@ -191,16 +192,30 @@ public final class EventExportHandler {
         
         BufferedWriter out = new BufferedWriter(new OutputStreamWriter(
                 new FileOutputStream(dst), Const.ENCODING));
+        writeIcal(out, events, parent.getWorkspace());
+        out.close();
+    }
+    
+    /**
+     * Write events iCalendar (ICS) encoded (without asking for an email address).
+     * @param out - Writer to write the calendar to (will not be closed here)
+     * @param events - Events to write
+     * @param workspace - Working directory (for notes and attachments)
+     * @throws IOException in case of any IO error
+     */
+    public static void writeIcal(BufferedWriter out, List<Event> events, String workspace) throws IOException {
+        Flight.Span span = Flight.begin(Flight.Type.icalExport);
+        long attachmentBytes = 0;
         out.write("BEGIN:VCALENDAR\n"
             + "VERSION:2.0\n"
             + "METHOD:PUBLISH\n");
         for (Event event : events) {
-            exportIcal(out, event, event.getNotes(parent.getWorkspace()), 
-                    event.getAttachment(parent.getWorkspace()));
+            attachmentBytes += exportIcal(out, event, event.getNotes(workspace), event.getAttachment(workspace));
         }
         
         out.write("END:VCALENDAR\n");
-        out.close();
+        out.flush();
+        span.set("vevents", events.size()).set("attachmentBytes", attachmentBytes).commit();
     }
     
     /**
@@ -210,11 +225,13 @@ public final class EventExportHandler {
      * @param event - Event to write
      * @param notes - This events notes (or empty string or null)
      * @param attachment - Attachment file for this event (or null)
+     * @return the size of the attachment written in bytes.
      * @throws IOException if an error occurred during writing
      */
-    private static void exportIcal(BufferedWriter writer, Event event, String notes, File attachment) 
+    private static long exportIcal(BufferedWriter writer, Event event, String notes, File attachment) 
             throws IOException {
         final int base64LineLength = 64;
+        long attachmentBytes = 0;
         
         Date icsEndDate = null;
         if (event.getEndDate() == null) {
@@ -238,6 +255,7 @@ public final class EventExportHandler {
             String b64 = null;
             try {
                 byte[] bytes = Files.readAllBytes(attachment.toPath());
+                attachmentBytes = bytes.length;
                 b64 = DatatypeConverter.printBase64Binary(bytes);
                 writer.write("ATTACH;ENCODING=BASE64;VALUE=BINARY;X-FILENAME="
                         + attachment.getName() + ":");
@@ -258,5 +276,6 @@ public final class EventExportHandler {
                 + (event.getFrequency() != Frequency.OCCUR_ONCE 
                         ? Frequency.getIcal(event.getFrequency(), event.getDate()) : "")
                 + "\nEND:VEVENT\n");
+        return attachmentBytes;
     }
 }
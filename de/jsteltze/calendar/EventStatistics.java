@@ -0,0 +1,207 @@
+/**
+ *  java-kalender - Java Calendar for Germany
+ *  Copyright (C) 2012  Johannes Steltzer
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.jsteltze.calendar;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import de.jsteltze.calendar.Event.EventType;
+import de.jsteltze.common.calendar.Date;
+
+/**
+ * Aggregates of the list of events, maintained as events are added and removed.
+ * The status bar and the tray icon read these instead of scanning all events
+ * after each change.
+ * @author Johannes Steltzer
+ *
+ */
+public class EventStatistics {
+
+    /** Number of user events (non-holidays). */
+    private int userEvents;
+
+    /** Number of holiday events (including flexible holidays of other years). */
+    private int holidays;
+
+    /** Category mapped to the number of user events of this category. */
+    private final Map<String, Integer> categories;
+
+    /** Event type mapped to the number of events of this type. */
+    private final Map<EventType, Integer> types;
+
+    /** Day the list of today's events was built for. */
+    private Date today;
+
+    /** Events taking place today. */
+    private final List<Event> todaysEvents;
+
+    /**
+     * Construct new empty statistics.
+     */
+    public EventStatistics() {
+        this.categories = new HashMap<String, Integer>();
+        this.types = new EnumMap<EventType, Integer>(EventType.class);
+        this.todaysEvents = new ArrayList<Event>();
+        this.today = new Date();
+    }
+
+    /**
+     * Build the statistics from scratch.
+     * @param events - All events
+     * @param day - Current day
+     */
+    public synchronized void reset(List<Event> events, Date day) {
+        userEvents = 0;
+        holidays = 0;
+        categories.clear();
+        types.clear();
+        todaysEvents.clear();
+        today = day.clone();
+        for (Event e : events) {
+            added(e);
+        }
+    }
+
+    /**
+     * Rebuild the list of today's events (to be called at midnight).
+     * @param events - All events
+     * @param day - New current day
+     */
+    public synchronized void dayChanged(List<Event> events, Date day) {
+        today = day.clone();
+        todaysEvents.clear();
+        for (Event e : events) {
+            if (e.match(today)) {
+                todaysEvents.add(e);
+            }
+        }
+    }
+
+    /**
+     * Account for an event added to the list of events.
+     * @param e - Added event
+     */
+    public synchronized void added(Event e) {
+        if (e.getType() == EventType.user) {
+            userEvents++;
+            String cat = e.getCategory();
+            if (cat != null) {
+                Integer count = categories.get(cat);
+                categories.put(cat, count == null ? 1 : count + 1);
+            }
+        } else {
+            holidays++;
+        }
+        Integer typeCount = types.get(e.getType());
+        types.put(e.getType(), typeCount == null ? 1 : typeCount + 1);
+
+        if (e.match(today)) {
+            todaysEvents.add(e);
+        }
+    }
+
+    /**
+     * Account for an event removed from the list of events.
+     * @param e - Removed event
+     */
+    public synchronized void removed(Event e) {
+        if (e.getType() == EventType.user) {
+            userEvents--;
+            String cat = e.getCategory();
+            if (cat != null) {
+                Integer count = categories.get(cat);
+                if (count == null || count <= 1) {
+                    categories.remove(cat);
+                } else {
+                    categories.put(cat, count - 1);
+                }
+            }
+        } else {
+            holidays--;
+        }
+        Integer typeCount = types.get(e.getType());
+        if (typeCount == null || typeCount <= 1) {
+            types.remove(e.getType());
+        } else {
+            types.put(e.getType(), typeCount - 1);
+        }
+
+        todaysEvents.remove(e);
+    }
+
+    /**
+     * Returns the number of user events (non-holidays).
+     * @return the number of user events.
+     */
+    public synchronized int getUserEventCount() {
+        return userEvents;
+    }
+
+    /**
+     * Returns the number of holiday events currently in the list of events.
+     * @return the number of holiday events.
+     */
+    public synchronized int getHolidayCount() {
+        return holidays;
+    }
+
+    /**
+     * Returns the event types and their count.
+     * @return Event types mapped to their count.
+     */
+    public synchronized Map<EventType, Integer> getTypeCounts() {
+        return new EnumMap<EventType, Integer>(types);
+    }
+
+    /**
+     * Returns the events taking place today.
+     * @return a copy of the list of today's events.
+     */
+    public synchronized List<Event> getTodaysEvents() {
+        return new ArrayList<Event>(todaysEvents);
+    }
+
+    /**
+     * Returns the categories of the user events and their count.
+     * @return Categories mapped to their count, sorted by count (highest first).
+     */
+    public synchronized LinkedHashMap<String, Integer> getCategoryCounts() {
+        List<Map.Entry<String, Integer>> entries = new ArrayList<Map.Entry<String, Integer>>(categories.entrySet());
+        Collections.sort(entries, new Comparator<Map.Entry<String, Integer>>() {
+
+            @Override
+            public int compare(Map.Entry<String, Integer> a, Map.Entry<String, Integer> b) {
+                int diff = b.getValue() - a.getValue();
+                return diff != 0 ? diff : b.getKey().compareTo(a.getKey());
+            }
+        });
+
+        LinkedHashMap<String, Integer> sorted = new LinkedHashMap<String, Integer>();
+        for (Map.Entry<String, Integer> entry : entries) {
+            sorted.put(entry.getKey(), entry.getValue());
+        }
+        return sorted;
+    }
+}
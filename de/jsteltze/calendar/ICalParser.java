@@ -37,6 +37,8 @@ import java.util.regex.Pattern;
 import javax.xml.bind.DatatypeConverter;
 
 import de.jsteltze.calendar.config.Const;
+import de.jsteltze.calendar.metrics.Flight;
+import de.jsteltze.calendar.metrics.Metrics;
 import de.jsteltze.common.Log;
 import de.jsteltze.common.calendar.Date;
 
@@ -69,6 +71,8 @@ public class ICalParser {
      */
     public ICalParser(File icalFile, Calendar parent) {
         LOG.fine("start parsing ical file: " + icalFile.getName());
+        long start = Metrics.ICAL_PARSE.start();
+        Flight.Span span = Flight.begin(Flight.Type.icalImport);
         try {
             StringBuffer buf = new StringBuffer();
             Scanner scanner = new Scanner(icalFile, Const.ENCODING);
@@ -93,7 +97,7 @@ public class ICalParser {
             scanner.close();
             
             if (!errorMessages.isEmpty()) {
-                String msg = "<html>Einige Informationen aus der iCal-Datei konnten nicht (vollstndig)<br>" 
+                String msg = "<html>Einige Informationen aus der iCal-Datei konnten nicht (vollständig)<br>" 
                         + "verarbeitet werden:<br><p style=\"font-family:monospace; background-color:white; "
                         + "border-width:1px; border-style:solid; border-color:gray; padding:2.5em\">";
                 for (String line : errorMessages) {
@@ -107,7 +111,40 @@ public class ICalParser {
             LOG.log(Level.WARNING, "cannot parse ical file...", e);
             parent.errorOccurred("<html>Die Datei <b>" + icalFile.getName() 
                     + "</b> kann nicht importiert werden!<br></html>", "Import fehlgeschlagen", e);
+        } finally {
+            Metrics.ICAL_PARSE.stop(start);
+            if (span.isRecording()) {
+                long attachmentBytes = 0;
+                for (String vevent : attachments.values()) {
+                    attachmentBytes += getAttachmentSize(vevent);
+                }
+                span.set("vevents", parsedEvents.size()).set("attachmentBytes", attachmentBytes).commit();
+            }
+        }
+    }
+    
+    /**
+     * Returns the decoded size of the base64 encoded attachment of a VEVENT.
+     * @param vevent - Complete VEVENT block (null if it has no attachment)
+     * @return the size of the attachment in bytes.
+     */
+    private static long getAttachmentSize(String vevent) {
+        if (vevent == null) {
+            return 0;
+        }
+        long chars = 0;
+        boolean attach = false;
+        for (String line : vevent.split("\n")) {
+            if (line.startsWith("ATTACH")) {
+                attach = true;
+                chars += line.length() - line.indexOf(':') - 1;
+            } else if (attach && (line.startsWith("\t") || line.startsWith(" "))) {
+                chars += line.trim().length();
+            } else {
+                attach = false;
+            }
         }
+        return chars * 3 / 4;
     }
     
     /**
@@ -139,10 +176,10 @@ public class ICalParser {
             }
             
             if (summary == null) {
-                errorMessages.add("VEVENT enthlt kein SUMMARY. Wird bersprungen.");
+                errorMessages.add("VEVENT enthält kein SUMMARY. Wird übersprungen.");
                 return;
             } else if (dtStart == null) {
-                errorMessages.add("VEVENT '" + summary + "' enthlt kein DTSTART. Wird bersprungen.");
+                errorMessages.add("VEVENT '" + summary + "' enthält kein DTSTART. Wird übersprungen.");
                 return;
             }
             
@@ -161,7 +198,7 @@ public class ICalParser {
                 frequency = parseRRule(rrule, startDate);
             } catch (ParseException pe) {
                 errorMessages.add("RRULE von VEVENT '" + summary + "' kann nicht geparst/konvertiert werden: '" 
-                        + rrule + "'. Das Ereignis erhlt keine Regelmigkeit.");
+                        + rrule + "'. Das Ereignis erhält keine Regelmäßigkeit.");
             }
             
             Event parsedEvent = new Event(startDate, summary, frequency, -1);
@@ -171,7 +208,7 @@ public class ICalParser {
             parsedEvents.add(parsedEvent);
         } catch (Exception e) {
             errorMessages.add("Parsing-Fehler bei VEVENT" + (summary == null ? "" : (" '" + summary + "'")) 
-                    + ": " + e.getLocalizedMessage() + ". Wird bersprungen.");
+                    + ": " + e.getLocalizedMessage() + ". Wird übersprungen.");
         }
     }
     
@@ -232,7 +269,7 @@ public class ICalParser {
             }
             
             caller.errorOccurred("<html>Die angehangene Datei kann nicht importiert werden!"
-                    + "<br>Nur Anhnge in spezieller iCal-Syntax knnen decodiert werden.</html>", 
+                    + "<br>Nur Anhänge in spezieller iCal-Syntax können decodiert werden.</html>", 
                     "Anhang kann nicht importiert werden", e);
         }
     }
@@ -0,0 +1,136 @@
+/**
+ *  java-kalender - Java Calendar for Germany
+ *  Copyright (C) 2012  Johannes Steltzer
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.jsteltze.calendar;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import de.jsteltze.common.calendar.Date;
+
+/**
+ * Sliding reminder horizon. Alarm timers are only set for reminders that fire
+ * within the next {@link #HORIZON_DAYS} days. All other events are kept here,
+ * indexed by the day they have to be looked at again (either because their
+ * reminder enters the horizon or because their current occurrence is over and
+ * the next one needs to be planned). At each midnight rollover only the events
+ * indexed for that day are taken out, so a planning pass costs
+ * O(events entering the window) instead of O(all events).
+ * @author Johannes Steltzer
+ *
+ */
+public class ReminderPlanner {
+
+    /** Number of days ahead for which alarm timers are set. */
+    public static final int HORIZON_DAYS = 5;
+
+    /** Day key (see {@link #dayKey(Date)}) mapped to the events to look at that day. */
+    private final TreeMap<Integer, List<Event>> index;
+
+    /** Reverse index: event mapped to its day key. */
+    private final Map<Event, Integer> planned;
+
+    /**
+     * Construct a new empty reminder planner.
+     */
+    public ReminderPlanner() {
+        this.index = new TreeMap<Integer, List<Event>>();
+        this.planned = new HashMap<Event, Integer>();
+    }
+
+    /**
+     * Returns a sortable key for the day of a date (time is ignored).
+     * @param date - Date of interest
+     * @return key of format YYYYMMDD.
+     */
+    private static int dayKey(Date date) {
+        return date.get(java.util.Calendar.YEAR) * 10000
+                + date.get(java.util.Calendar.MONTH) * 100
+                + date.get(java.util.Calendar.DAY_OF_MONTH);
+    }
+
+    /**
+     * Plan an event to be looked at again on a certain day. A previous
+     * plan for the same event will be replaced.
+     * @param event - Event to plan
+     * @param day - Day to look at the event again. If null, the event
+     * is only removed from the planner
+     */
+    public synchronized void plan(Event event, Date day) {
+        remove(event);
+        if (day == null) {
+            return;
+        }
+
+        int key = dayKey(day);
+        List<Event> bucket = index.get(key);
+        if (bucket == null) {
+            bucket = new ArrayList<Event>();
+            index.put(key, bucket);
+        }
+        bucket.add(event);
+        planned.put(event, key);
+    }
+
+    /**
+     * Remove an event from the planner (e.g. because it was deleted).
+     * @param event - Event to remove
+     */
+    public synchronized void remove(Event event) {
+        Integer key = planned.remove(event);
+        if (key == null) {
+            return;
+        }
+
+        List<Event> bucket = index.get(key);
+        bucket.remove(event);
+        if (bucket.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    /**
+     * Take out all events that are planned for a certain day or earlier.
+     * @param today - Current day
+     * @return List of events that have to be looked at again (might be empty).
+     */
+    public synchronized List<Event> takeDue(Date today) {
+        List<Event> due = new ArrayList<Event>();
+        SortedMap<Integer, List<Event>> head = index.headMap(dayKey(today) + 1);
+        for (List<Event> bucket : head.values()) {
+            for (Event e : bucket) {
+                planned.remove(e);
+            }
+            due.addAll(bucket);
+        }
+        head.clear();
+        return due;
+    }
+
+    /**
+     * Returns the number of events currently planned.
+     * @return the number of events currently planned.
+     */
+    public synchronized int size() {
+        return planned.size();
+    }
+}
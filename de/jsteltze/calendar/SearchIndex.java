@@ -0,0 +1,743 @@
+/**
+ *  java-kalender - Java Calendar for Germany
+ *  Copyright (C) 2012  Johannes Steltzer
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.jsteltze.calendar;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import de.jsteltze.calendar.config.Const;
+import de.jsteltze.common.Log;
+
+/**
+ * Inverted full-text index over the user events: names, categories and notes
+ * (Kalender.Events/&lt;id&gt;/notes.txt). Each word is mapped to the events
+ * containing it, weighted by where it occurs (name before category before notes).
+ * The index is built in the background at startup, persisted next to Kalender.xml
+ * and kept up to date as events and notes change. At startup only notes whose file
+ * changed since the index was written are read again.
+ * @author Johannes Steltzer
+ *
+ */
+public class SearchIndex {
+
+    /** Weight of a word in the event name. */
+    private static final int WEIGHT_NAME = 10;
+
+    /** Weight of a word in the event category. */
+    private static final int WEIGHT_CATEGORY = 5;
+
+    /** Weight of a word in the event notes. */
+    private static final int WEIGHT_NOTES = 1;
+
+    /** Minimum length of an indexed word. */
+    private static final int MIN_WORD_LENGTH = 2;
+
+    /** Version of the index file format. */
+    private static final int FILE_VERSION = 1;
+
+    /**
+     * Search hit: an event ID and its score.
+     */
+    public static final class Hit {
+
+        /** Event ID. */
+        private final int id;
+
+        /** Score (higher is better). */
+        private final int score;
+
+        /**
+         * Construct a new hit.
+         * @param id - Event ID
+         * @param score - Score
+         */
+        private Hit(int id, int score) {
+            this.id = id;
+            this.score = score;
+        }
+
+        /**
+         * Returns the ID of the event found.
+         * @return the event ID.
+         */
+        public int getID() {
+            return id;
+        }
+
+        /**
+         * Returns the score of this hit (higher is better).
+         * @return the score.
+         */
+        public int getScore() {
+            return score;
+        }
+    }
+
+    /**
+     * Indexed words of a single event.
+     */
+    private static final class Document {
+
+        /** Words of name and category mapped to their weight. */
+        private Map<String, Integer> meta = Collections.emptyMap();
+
+        /** Words of the notes mapped to their weight. */
+        private Map<String, Integer> notes = Collections.emptyMap();
+
+        /** Last modification time of the notes file (0 if none). */
+        private long notesModified;
+
+        /**
+         * Returns all word maps of this document. The maps are never modified
+         * (only replaced), so they can be read without holding the lock.
+         * @return word maps of name/category and notes.
+         */
+        private List<Map<String, Integer>> getWords() {
+            List<Map<String, Integer>> words = new ArrayList<Map<String, Integer>>(2);
+            words.add(meta);
+            words.add(notes);
+            return words;
+        }
+    }
+
+    /** Word mapped to the IDs of the events containing it and their weight. */
+    private final TreeMap<String, Map<Integer, Integer>> postings;
+
+    /** Event ID mapped to its indexed words. */
+    private final Map<Integer, Document> documents;
+
+    /** File to persist the index (null if not persisted). */
+    private final File file;
+
+    /** Working directory (for the notes files). */
+    private final String workspace;
+
+    /** True once the index was built completely. */
+    private volatile boolean ready;
+
+    /** True if the index changed since it was last saved. */
+    private boolean dirty;
+
+    /**
+     * IDs of the events added, changed or removed since the running build started
+     * (null if no build is running). The build works on the events as they were
+     * when it started, so it must not touch these.
+     */
+    private Set<Integer> touched;
+
+    /** Background thread for building and saving the index. */
+    private final ExecutorService worker;
+
+    /** Logger. */
+    private static final Logger LOG = Log.getLogger(SearchIndex.class);
+
+    /**
+     * Construct a new empty search index.
+     * @param workspace - Working directory containing the events folder
+     * @param file - File to persist the index or null
+     */
+    public SearchIndex(String workspace, File file) {
+        this.workspace = workspace;
+        this.file = file;
+        this.postings = new TreeMap<String, Map<Integer, Integer>>();
+        this.documents = new HashMap<Integer, Document>();
+        this.worker = Executors.newSingleThreadExecutor(new ThreadFactory() {
+
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread t = new Thread(r, "SearchIndex");
+                t.setDaemon(true);
+                t.setPriority(Thread.MIN_PRIORITY);
+                return t;
+            }
+        });
+    }
+
+    /**
+     * Split a text into lower case words.
+     * @param text - Text to split
+     * @param minLength - Minimum length of a word
+     * @return List of words (in order of appearance).
+     */
+    private static List<String> tokenize(String text, int minLength) {
+        List<String> words = new ArrayList<String>();
+        if (text == null) {
+            return words;
+        }
+        String lower = text.toLowerCase(Locale.GERMAN);
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean letter = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+            if (letter && start == -1) {
+                start = i;
+            } else if (!letter && start != -1) {
+                if (i - start >= minLength) {
+                    words.add(lower.substring(start, i));
+                }
+                start = -1;
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Add the words of a text to a weight map.
+     * @param weights - Word mapped to its weight
+     * @param text - Text to add
+     * @param weight - Weight of each occurrence
+     */
+    private static void addWords(Map<String, Integer> weights, String text, int weight) {
+        for (String word : tokenize(text, MIN_WORD_LENGTH)) {
+            Integer old = weights.get(word);
+            weights.put(word, old == null ? weight : old + weight);
+        }
+    }
+
+    /**
+     * Returns the weighted words of name and category of an event.
+     * @param e - Event of interest
+     * @return Word mapped to its weight.
+     */
+    private static Map<String, Integer> getMetaWords(Event e) {
+        Map<String, Integer> meta = new HashMap<String, Integer>();
+        addWords(meta, e.getName(), WEIGHT_NAME);
+        addWords(meta, e.getCategory(), WEIGHT_CATEGORY);
+        return meta;
+    }
+
+    /**
+     * Returns the weighted words of notes.
+     * @param notes - Notes text
+     * @return Word mapped to its weight.
+     */
+    private static Map<String, Integer> getNotesWords(String notes) {
+        Map<String, Integer> words = new HashMap<String, Integer>();
+        addWords(words, notes, WEIGHT_NOTES);
+        return words;
+    }
+
+    /**
+     * Returns the notes file of an event.
+     * @param id - Event ID
+     * @return the notes file (might not exist).
+     */
+    private File getNotesFile(int id) {
+        return new File(workspace + File.separator + Const.EVENT_DIR
+                + File.separator + id + File.separator + Const.NOTES_FILE);
+    }
+
+    /**
+     * Add the words of a document to the postings.
+     * @param id - Event ID
+     * @param doc - Document to add
+     */
+    private void post(int id, Document doc) {
+        for (Map<String, Integer> words : doc.getWords()) {
+            for (Map.Entry<String, Integer> word : words.entrySet()) {
+                Map<Integer, Integer> ids = postings.get(word.getKey());
+                if (ids == null) {
+                    ids = new HashMap<Integer, Integer>(4);
+                    postings.put(word.getKey(), ids);
+                }
+                Integer old = ids.get(id);
+                ids.put(id, old == null ? word.getValue() : old + word.getValue());
+            }
+        }
+    }
+
+    /**
+     * Remove the words of a document from the postings.
+     * @param id - Event ID
+     * @param doc - Document to remove
+     */
+    private void unpost(int id, Document doc) {
+        for (Map<String, Integer> words : doc.getWords()) {
+            for (String word : words.keySet()) {
+                Map<Integer, Integer> ids = postings.get(word);
+                if (ids != null) {
+                    ids.remove(id);
+                    if (ids.isEmpty()) {
+                        postings.remove(word);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the document of an event (creates an empty one if not present).
+     * @param id - Event ID
+     * @return the document of this event.
+     */
+    private Document getDocument(int id) {
+        Document doc = documents.get(id);
+        if (doc == null) {
+            doc = new Document();
+            documents.put(id, doc);
+        }
+        return doc;
+    }
+
+    /**
+     * Index (or re-index) name and category of an event. The indexed notes are kept.
+     * Holidays are not indexed.
+     * @param e - Event to index
+     */
+    public synchronized void update(Event e) {
+        if (e.getID() == -1) {
+            return;
+        }
+        touch(e.getID());
+        index(e);
+    }
+
+    /**
+     * Remember an event changed while a build is running.
+     * @param id - Event ID
+     */
+    private void touch(int id) {
+        if (touched != null) {
+            touched.add(id);
+        }
+    }
+
+    /**
+     * Returns whether or not an event changed since the running build started.
+     * @param id - Event ID
+     * @return true if the build must not touch this event.
+     */
+    private boolean isTouched(int id) {
+        return touched != null && touched.contains(id);
+    }
+
+    /**
+     * Index (or re-index) name and category of an event.
+     * @param e - Event to index
+     */
+    private void index(Event e) {
+        Map<String, Integer> meta = getMetaWords(e);
+        Document doc = getDocument(e.getID());
+        if (meta.equals(doc.meta)) {
+            return;
+        }
+        unpost(e.getID(), doc);
+        doc.meta = meta;
+        post(e.getID(), doc);
+        dirty = true;
+    }
+
+    /**
+     * Index new notes of an event.
+     * @param id - Event ID
+     * @param notes - New notes (empty if removed)
+     * @param modified - Last modification time of the notes file (0 if removed)
+     */
+    public synchronized void notesChanged(int id, String notes, long modified) {
+        if (id == -1) {
+            return;
+        }
+        touch(id);
+        indexNotes(id, notes, modified);
+    }
+
+    /**
+     * Index the notes of an event.
+     * @param id - Event ID
+     * @param notes - Notes (empty if none)
+     * @param modified - Last modification time of the notes file (0 if none)
+     */
+    private void indexNotes(int id, String notes, long modified) {
+        Document doc = getDocument(id);
+        unpost(id, doc);
+        doc.notes = getNotesWords(notes);
+        doc.notesModified = modified;
+        post(id, doc);
+        dirty = true;
+    }
+
+    /**
+     * Remove an event from the index.
+     * @param id - Event ID
+     */
+    public synchronized void remove(int id) {
+        touch(id);
+        Document doc = documents.remove(id);
+        if (doc != null) {
+            unpost(id, doc);
+            dirty = true;
+        }
+    }
+
+    /**
+     * Search for events containing all words of a query. Each query word
+     * matches all indexed words starting with it.
+     * @param query - Search text
+     * @param max - Maximum number of hits to return
+     * @return Hits ordered by score (best first).
+     */
+    public synchronized List<Hit> search(String query, int max) {
+        List<String> words = tokenize(query, 1);
+        if (words.isEmpty()) {
+            return new ArrayList<Hit>();
+        }
+
+        Map<Integer, Integer> scores = null;
+        for (String word : words) {
+            Map<Integer, Integer> wordScores = new HashMap<Integer, Integer>();
+            for (Map.Entry<String, Map<Integer, Integer>> term
+                    : postings.subMap(word, word + Character.MAX_VALUE).entrySet()) {
+                /* exact matches count twice */
+                int factor = term.getKey().length() == word.length() ? 2 : 1;
+                for (Map.Entry<Integer, Integer> posting : term.getValue().entrySet()) {
+                    if (scores == null || scores.containsKey(posting.getKey())) {
+                        Integer old = wordScores.get(posting.getKey());
+                        int add = posting.getValue() * factor;
+                        wordScores.put(posting.getKey(), old == null ? add : old + add);
+                    }
+                }
+            }
+
+            if (scores != null) {
+                for (Map.Entry<Integer, Integer> entry : wordScores.entrySet()) {
+                    entry.setValue(entry.getValue() + scores.get(entry.getKey()));
+                }
+            }
+            scores = wordScores;
+            if (scores.isEmpty()) {
+                break;
+            }
+        }
+
+        List<Hit> hits = new ArrayList<Hit>(scores.size());
+        for (Map.Entry<Integer, Integer> entry : scores.entrySet()) {
+            hits.add(new Hit(entry.getKey(), entry.getValue()));
+        }
+        Collections.sort(hits, new Comparator<Hit>() {
+
+            @Override
+            public int compare(Hit a, Hit b) {
+                if (a.score != b.score) {
+                    return b.score - a.score;
+                }
+                return a.id - b.id;
+            }
+        });
+        return hits.size() > max ? new ArrayList<Hit>(hits.subList(0, max)) : hits;
+    }
+
+    /**
+     * Returns whether or not the index was built completely.
+     * @return true if the index is complete.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Returns the number of indexed words.
+     * @return the number of indexed words.
+     */
+    public synchronized int getNumberOfWords() {
+        return postings.size();
+    }
+
+    /**
+     * Build the index in the background: load the persisted index, then index
+     * all events and the notes changed since. Events no longer present are removed.
+     * Events added, changed or removed meanwhile (see {@link #touched}) are left as they are.
+     * @param events - All user events (copy)
+     */
+    public void build(final List<Event> events) {
+        synchronized (this) {
+            touched = new HashSet<Integer>();
+        }
+        worker.execute(new Runnable() {
+
+            @Override
+            public void run() {
+                long start = System.currentTimeMillis();
+                load();
+                int notesRead = 0;
+                Set<Integer> ids = new HashSet<Integer>();
+                for (Event e : events) {
+                    if (e.getID() == -1) {
+                        continue;
+                    }
+                    ids.add(e.getID());
+                    synchronized (SearchIndex.this) {
+                        if (!isTouched(e.getID())) {
+                            index(e);
+                        }
+                    }
+                    if (reindexNotes(e.getID())) {
+                        notesRead++;
+                    }
+                }
+
+                synchronized (SearchIndex.this) {
+                    Iterator<Integer> it = documents.keySet().iterator();
+                    while (it.hasNext()) {
+                        int id = it.next();
+                        if (!ids.contains(id) && !isTouched(id)) {
+                            unpost(id, documents.get(id));
+                            it.remove();
+                            dirty = true;
+                        }
+                    }
+                    touched = null;
+                }
+                ready = true;
+                LOG.info("search index ready: " + events.size() + " events, " + notesRead
+                        + " notes read, " + getNumberOfWords() + " words ("
+                        + (System.currentTimeMillis() - start) + " ms)");
+                save();
+            }
+        });
+    }
+
+    /**
+     * Index the notes of an event again if the notes file changed since it was indexed.
+     * @param id - Event ID
+     * @return true if the notes were read.
+     */
+    private boolean reindexNotes(int id) {
+        File notesFile = getNotesFile(id);
+        long modified = notesFile.exists() ? notesFile.lastModified() : 0;
+        synchronized (this) {
+            Document doc = documents.get(id);
+            if (doc != null && doc.notesModified == modified) {
+                return false;
+            }
+        }
+
+        String notes = modified == 0 ? "" : readNotes(notesFile);
+        synchronized (this) {
+            /* event might have been removed or notes written meanwhile */
+            if (isTouched(id) && !documents.containsKey(id)) {
+                return false;
+            }
+            Document doc = getDocument(id);
+            if (doc.notesModified <= modified) {
+                indexNotes(id, notes, modified);
+            }
+        }
+        return modified != 0;
+    }
+
+    /**
+     * Read a notes file (same encoding as it was written in).
+     * @param notesFile - File to read
+     * @return the content of this file or "" in case of errors.
+     */
+    private static String readNotes(File notesFile) {
+        StringBuilder sb = new StringBuilder();
+        Reader in = null;
+        try {
+            in = new InputStreamReader(new FileInputStream(notesFile));
+            char[] buf = new char[4096];
+            int len;
+            while ((len = in.read(buf)) != -1) {
+                sb.append(buf, 0, len);
+            }
+        } catch (IOException e) {
+            LOG.log(Level.WARNING, "cannot read " + notesFile, e);
+        } finally {
+            if (in != null) {
+                try {
+                    in.close();
+                } catch (IOException e) {
+                    LOG.log(Level.FINE, "", e);
+                }
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Load the persisted index (if any). A corrupt or outdated file is ignored.
+     */
+    private void load() {
+        if (file == null || !file.exists()) {
+            return;
+        }
+
+        DataInputStream in = null;
+        try {
+            in = new DataInputStream(new BufferedInputStream(new GZIPInputStream(new FileInputStream(file))));
+            if (in.readInt() != FILE_VERSION) {
+                LOG.info("search index outdated, rebuilding");
+                return;
+            }
+            int numDocs = in.readInt();
+            Map<Integer, Document> loaded = new HashMap<Integer, Document>(numDocs * 2);
+            for (int i = 0; i < numDocs; i++) {
+                int id = in.readInt();
+                Document doc = new Document();
+                doc.notesModified = in.readLong();
+                doc.meta = readWords(in);
+                doc.notes = readWords(in);
+                loaded.put(id, doc);
+            }
+
+            synchronized (this) {
+                for (Map.Entry<Integer, Document> entry : loaded.entrySet()) {
+                    if (!documents.containsKey(entry.getKey()) && !isTouched(entry.getKey())) {
+                        documents.put(entry.getKey(), entry.getValue());
+                        post(entry.getKey(), entry.getValue());
+                    }
+                }
+            }
+            LOG.fine("search index loaded: " + numDocs + " events");
+        } catch (IOException e) {
+            LOG.log(Level.WARNING, "cannot load search index, rebuilding", e);
+        } finally {
+            if (in != null) {
+                try {
+                    in.close();
+                } catch (IOException e) {
+                    LOG.log(Level.FINE, "", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Read a word map.
+     * @param in - Stream to read
+     * @return Word mapped to its weight.
+     * @throws IOException in case of errors.
+     */
+    private static Map<String, Integer> readWords(DataInputStream in) throws IOException {
+        int size = in.readInt();
+        Map<String, Integer> words = new HashMap<String, Integer>(size * 2);
+        for (int i = 0; i < size; i++) {
+            String word = in.readUTF();
+            words.put(word, in.readInt());
+        }
+        return words;
+    }
+
+    /**
+     * Write a word map.
+     * @param out - Stream to write
+     * @param words - Word mapped to its weight
+     * @throws IOException in case of errors.
+     */
+    private static void writeWords(DataOutputStream out, Map<String, Integer> words) throws IOException {
+        out.writeInt(words.size());
+        for (Map.Entry<String, Integer> word : words.entrySet()) {
+            out.writeUTF(word.getKey());
+            out.writeInt(word.getValue());
+        }
+    }
+
+    /**
+     * Persist the index (if changed since last saved). The file is written to
+     * a temporary file first which then atomically replaces the index, so a crash leaves
+     * either the old or the new index (unless the file system does not support
+     * atomic moves; then the index is replaced non-atomically).
+     */
+    public void save() {
+        Map<Integer, Document> snapshot = new HashMap<Integer, Document>();
+        synchronized (this) {
+            if (file == null || !dirty || !ready) {
+                return;
+            }
+            for (Map.Entry<Integer, Document> entry : documents.entrySet()) {
+                Document copy = new Document();
+                copy.meta = entry.getValue().meta;
+                copy.notes = entry.getValue().notes;
+                copy.notesModified = entry.getValue().notesModified;
+                snapshot.put(entry.getKey(), copy);
+            }
+            dirty = false;
+        }
+
+        File tmp = new File(file.getPath() + ".tmp");
+        DataOutputStream out = null;
+        boolean saved = false;
+        try {
+            out = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(new FileOutputStream(tmp))));
+            out.writeInt(FILE_VERSION);
+            out.writeInt(snapshot.size());
+            for (Map.Entry<Integer, Document> entry : snapshot.entrySet()) {
+                out.writeInt(entry.getKey());
+                out.writeLong(entry.getValue().notesModified);
+                writeWords(out, entry.getValue().meta);
+                writeWords(out, entry.getValue().notes);
+            }
+            out.close();
+            out = null;
+
+            try {
+                Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, 
+                        StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                LOG.fine("atomic move not supported: " + e.getMessage());
+                Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+            saved = true;
+            LOG.fine("search index saved: " + snapshot.size() + " events");
+        } catch (IOException e) {
+            LOG.log(Level.WARNING, "cannot save search index", e);
+        } finally {
+            if (out != null) {
+                try {
+                    out.close();
+                } catch (IOException e) {
+                    LOG.log(Level.FINE, "", e);
+                }
+            }
+            if (!saved) {
+                synchronized (this) {
+                    dirty = true;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,210 @@
+/**
+ *  java-kalender - Java Calendar for Germany
+ *  Copyright (C) 2012  Johannes Steltzer
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.jsteltze.calendar.UI;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.logging.Logger;
+
+import de.jsteltze.common.Log;
+import de.jsteltze.common.calendar.Date;
+import de.jsteltze.common.calendar.Moon;
+import de.jsteltze.common.calendar.Moon.MoonState;
+import de.jsteltze.common.calendar.Zodiac;
+
+/**
+ * Per-year lookup tables for moon phases and zodiac starts. Calculating
+ * these for each cell on each paint is expensive, so the values of a whole
+ * year are calculated once and kept in a small LRU cache. When a year is
+ * requested, the adjacent years are calculated in the background.
+ * @author Johannes Steltzer
+ *
+ */
+public final class AstroCache {
+
+    /** Maximum number of years to keep. */
+    private static final int MAX_YEARS = 5;
+
+    /** Marker for days without a zodiac start. */
+    private static final byte NO_ZODIAC = -1;
+
+    /** Moon states (by ordinal). */
+    private static final MoonState[] MOON_STATES = MoonState.values();
+
+    /** Zodiacs (by ordinal). */
+    private static final Zodiac[] ZODIACS = Zodiac.values();
+
+    /**
+     * Tables of one year (index = day of year - 1).
+     */
+    private static final class YearTable {
+
+        /** Ordinal of the moon state of each day. */
+        private final byte[] moon;
+
+        /** Ordinal of the zodiac starting on each day (or NO_ZODIAC). */
+        private final byte[] zodiac;
+
+        /**
+         * Calculate the tables for a year.
+         * @param year - Year to calculate
+         */
+        private YearTable(int year) {
+            Date date = new Date(year, java.util.Calendar.JANUARY, 1);
+            int days = date.getActualMaximum(java.util.Calendar.DAY_OF_YEAR);
+            moon = new byte[days];
+            zodiac = new byte[days];
+            for (int i = 0; i < days; i++) {
+                moon[i] = (byte) Moon.getMoonPhase(date).ordinal();
+                Zodiac z = Zodiac.getStartsByDate(date);
+                zodiac[i] = z == null ? NO_ZODIAC : (byte) z.ordinal();
+                date.add(java.util.Calendar.DAY_OF_MONTH, 1);
+            }
+        }
+    }
+
+    /** Calculated years (least recently used first). */
+    private static final Map<Integer, YearTable> YEARS = new LinkedHashMap<Integer, YearTable>(MAX_YEARS, .75f, true) {
+
+        /** Default serial version UID. */
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, YearTable> eldest) {
+            return size() > MAX_YEARS;
+        }
+    };
+
+    /** Background thread for calculating adjacent years. */
+    private static final ExecutorService PREFETCHER = Executors.newSingleThreadExecutor(new ThreadFactory() {
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread t = new Thread(r, "AstroCache");
+            t.setDaemon(true);
+            t.setPriority(Thread.MIN_PRIORITY);
+            return t;
+        }
+    });
+
+    /** Logger. */
+    private static final Logger LOG = Log.getLogger(AstroCache.class);
+
+    /**
+     * Hidden constructor.
+     */
+    private AstroCache() { }
+
+    /**
+     * Returns the moon phase of a date.
+     * @param date - Date of interest
+     * @return the moon phase of this date.
+     */
+    public static MoonState getMoonPhase(Date date) {
+        if (date.hasTime()) {
+            return Moon.getMoonPhase(date);
+        }
+        return MOON_STATES[getTable(date.get(java.util.Calendar.YEAR)).moon[dayIndex(date)]];
+    }
+
+    /**
+     * Returns the zodiac starting on a date.
+     * @param date - Date of interest
+     * @return the zodiac starting on this date or null.
+     */
+    public static Zodiac getStartsByDate(Date date) {
+        if (date.hasTime()) {
+            return Zodiac.getStartsByDate(date);
+        }
+        byte z = getTable(date.get(java.util.Calendar.YEAR)).zodiac[dayIndex(date)];
+        return z == NO_ZODIAC ? null : ZODIACS[z];
+    }
+
+    /**
+     * Returns the table index of a date.
+     * @param date - Date of interest
+     * @return the day of year - 1.
+     */
+    private static int dayIndex(Date date) {
+        return date.get(java.util.Calendar.DAY_OF_YEAR) - 1;
+    }
+
+    /**
+     * Returns the tables of a year (calculate if not cached yet) and
+     * schedule the adjacent years for calculation.
+     * @param year - Year of interest
+     * @return the tables of this year.
+     */
+    private static YearTable getTable(int year) {
+        YearTable table;
+        synchronized (YEARS) {
+            table = YEARS.get(year);
+        }
+        if (table != null) {
+            return table;
+        }
+
+        table = calculate(year);
+        prefetch(year - 1);
+        prefetch(year + 1);
+        return table;
+    }
+
+    /**
+     * Calculate the tables of a year and add them to the cache.
+     * @param year - Year to calculate
+     * @return the tables of this year.
+     */
+    private static YearTable calculate(int year) {
+        LOG.fine("calculate moon and zodiac for " + year);
+        YearTable table = new YearTable(year);
+        synchronized (YEARS) {
+            YEARS.put(year, table);
+        }
+        return table;
+    }
+
+    /**
+     * Calculate the tables of a year in the background (if not cached yet).
+     * @param year - Year to calculate
+     */
+    private static void prefetch(final int year) {
+        synchronized (YEARS) {
+            if (YEARS.containsKey(year)) {
+                return;
+            }
+        }
+
+        PREFETCHER.execute(new Runnable() {
+
+            @Override
+            public void run() {
+                synchronized (YEARS) {
+                    if (YEARS.containsKey(year)) {
+                        return;
+                    }
+                }
+                calculate(year);
+            }
+        });
+    }
+}
@@ -20,13 +20,18 @@ package de.jsteltze.calendar.UI;
 
 import java.awt.Dimension;
 import java.awt.Graphics;
+import java.awt.Graphics2D;
 import java.awt.Point;
+import java.awt.Rectangle;
 import java.awt.event.KeyEvent;
 import java.awt.event.KeyListener;
 import java.awt.event.MouseEvent;
 import java.awt.event.MouseListener;
 import java.awt.event.MouseMotionListener;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.logging.Logger;
 
@@ -36,9 +41,15 @@ import javax.swing.event.PopupMenuListener;
 
 import de.jsteltze.calendar.Calendar;
 import de.jsteltze.calendar.Event;
+import de.jsteltze.calendar.UI.OccurrenceCache.Occurrences;
+import de.jsteltze.calendar.config.ColorSet;
+import de.jsteltze.calendar.config.Configuration.BoolProperty;
 import de.jsteltze.calendar.config.Configuration.IntProperty;
 import de.jsteltze.calendar.config.enums.View;
+import de.jsteltze.calendar.frames.SearchDialog;
 import de.jsteltze.calendar.frames.TabelOfEventsMulitDay;
+import de.jsteltze.calendar.metrics.Flight;
+import de.jsteltze.calendar.metrics.Metrics;
 import de.jsteltze.common.Log;
 import de.jsteltze.common.calendar.Date;
 
@@ -75,9 +86,21 @@ public abstract class CalendarCanvas
      * divided into cells, arranged as a table. Each
      * cell may represent a date. This makes it easier
      * to address a single date or a set of dates.
+     * The cells are kept between repaints and only rebuilt if
+     * the viewed period, the settings or the events change.
      */
     protected Cell[][] matrix;
     
+    /** Key (see {@link #getCellsKey(Date)}) the cells in 'matrix' were built for. */
+    private String cellsKey;
+    
+    /**
+     * True while painting if the cells in 'matrix' are rebuilt (new cells must
+     * be created and the events registered), false if the existing cells are
+     * only painted again.
+     */
+    protected boolean rebuildCells;
+    
     /**
      * The cell the mouse is currently over This is just
      * to prevent the program from repainting all the
@@ -85,6 +108,15 @@ public abstract class CalendarCanvas
      */
     private Cell mouseHover;
     
+    /**
+     * Off-screen image of the calendar grid (see {@link #drawCalendarGrid(Graphics)}).
+     * The grid is static content and only rendered again if the key changes.
+     */
+    private BufferedImage gridImage;
+    
+    /** Key (see {@link #getGridKey(double)}) the grid image was rendered for. */
+    private String gridKey;
+    
     /** Year, month, week or day. */
     protected View view;
     
@@ -160,6 +192,7 @@ public abstract class CalendarCanvas
         this.markedDates = new ArrayList<Date>();
         this.strgDates = new ArrayList<Date>();
         this.matrix = null;
+        this.cellsKey = null;
         this.highlightedHeadline = -1;
         this.selectedEvent = null;
     }
@@ -195,16 +228,52 @@ public abstract class CalendarCanvas
     @Override
     public void paintComponent(Graphics g) {
         super.paintComponent(g);
+        long start = Metrics.PAINT.start();
+        Flight.Span span = Flight.begin(Flight.Type.paint);
         
-        LOG.fine("paintComponent");
         daysOfWeek = Date.weekDayList(calendar.getConfig().getProperty(IntProperty.FirstDayOfWeek));
         Cell.initColors(this);
-        drawCalendar(g);
-        fillCalendar(g);
+        
+        /* Only some cells are dirty (e.g. selection changed) -> repaint these cells only */
+        Rectangle clip = g.getClipBounds();
+        if (clip != null && matrix != null && getCellsKey(getViewedDay()).equals(cellsKey) 
+                && paintCells(g, clip)) {
+            LOG.fine("paintComponent (cells only)");
+        } else {
+            LOG.fine("paintComponent");
+            drawCalendar(g);
+            fillCalendar(g);
+        }
         
         if (popup != null) {
             popup.repaint();
         }
+        Metrics.PAINT.stop(start);
+        if (span.isRecording()) {
+            commitPaint(span, clip);
+        }
+    }
+    
+    /**
+     * Commit a flight recorder event of painting: the view and the number 
+     * of cells and events painted.
+     * @param span - Span begun before painting
+     * @param clip - Painted area (null for all)
+     */
+    private void commitPaint(Flight.Span span, Rectangle clip) {
+        int cells = 0;
+        int events = 0;
+        if (matrix != null) {
+            for (Cell[] column : matrix) {
+                for (Cell c : column) {
+                    if (c != null && (clip == null || getCellBounds(c).intersects(clip))) {
+                        cells++;
+                        events += c.getEvents().size();
+                    }
+                }
+            }
+        }
+        span.set("view", view.name()).set("cells", cells).set("events", events).commit();
     }
     
     /**
@@ -246,30 +315,185 @@ public abstract class CalendarCanvas
      */
     private void drawCalendar(Graphics g) {
         calcDim();
-        drawCalendarGrid(g);
+        drawGrid(g);
+    }
+    
+    /**
+     * Returns a key for everything the grid depends on: view, size, 
+     * scaling, colors and the first day of week.
+     * @param scale - Scale factor of the target graphics (HiDPI)
+     * @return Key for the current grid.
+     */
+    private String getGridKey(double scale) {
+        return view + "|" + getWidth() + "x" + getHeight() + "|" + scale + "|" + daysOfWeek[0]
+                + "|" + Arrays.toString(calendar.getConfig().getColors());
+    }
+    
+    /**
+     * Draw the calendar grid. The grid is rendered into an off-screen image
+     * once and afterwards just copied, as long as the size, the colors and
+     * the first day of week do not change.
+     * @param g - Graphics to paint on
+     */
+    private void drawGrid(Graphics g) {
+        if (getWidth() <= 0 || getHeight() <= 0 || !(g instanceof Graphics2D)) {
+            drawCalendarGrid(g);
+            return;
+        }
+        
+        Graphics2D g2 = (Graphics2D) g;
+        AffineTransform transform = g2.getTransform();
+        double scale = Math.max(1.0, transform.getScaleX());
+        String key = getGridKey(scale);
+        if (gridImage == null || !key.equals(gridKey)) {
+            LOG.fine("render grid image " + key);
+            gridImage = new BufferedImage((int) Math.ceil(getWidth() * scale), 
+                    (int) Math.ceil(getHeight() * scale), BufferedImage.TYPE_INT_ARGB);
+            Graphics2D imageGraphics = gridImage.createGraphics();
+            imageGraphics.setRenderingHints(g2.getRenderingHints());
+            imageGraphics.scale(scale, scale);
+            drawCalendarGrid(imageGraphics);
+            imageGraphics.dispose();
+            gridKey = key;
+        }
+        g.drawImage(gridImage, 0, 0, getWidth(), getHeight(), null);
+    }
+    
+    /**
+     * Restore an area of the grid (e.g. to reset a highlighted headline) by
+     * filling it with the background color and copying the grid image on top.
+     * @param g - Graphics to paint on
+     * @param x - X position of the area
+     * @param y - Y position of the area
+     * @param w - Width of the area
+     * @param h - Height of the area
+     */
+    protected void restoreGrid(Graphics g, int x, int y, int w, int h) {
+        g.setColor(calendar.getConfig().getColors()[ColorSet.BACKGROUND]);
+        g.fillRect(x, y, w, h);
+        
+        if (gridImage == null) {
+            Graphics clipped = g.create();
+            clipped.clipRect(x, y, w, h);
+            drawCalendarGrid(clipped);
+            clipped.dispose();
+            return;
+        }
+        
+        double scale = gridImage.getWidth() / (double) getWidth();
+        g.drawImage(gridImage, x, y, x + w, y + h, (int) (x * scale), (int) (y * scale), 
+                (int) ((x + w) * scale), (int) ((y + h) * scale), null);
     }
     
     /**
      * Fill the drawn calendar in with dates and events, depending on the currently viewed date.
      * @param g - Graphics to paint on
-     * @param events - Events to paint
+     * @param occurrences - Events to paint (null if the cells are not rebuilt)
      * @param date - Currently viewed date 
      */
-    protected abstract void fillCalendarContent(Graphics g, List<Event> events, Date date);
+    protected abstract void fillCalendarContent(Graphics g, Occurrences occurrences, Date date);
 
     /**
-     * Fill the drawn calendar with dates and events, depending on 
-     * the currently viewed date.
-     * @param g - Graphics to paint on
+     * Returns a copy of the currently viewed date without time.
+     * @return the currently viewed day.
      */
-    private void fillCalendar(Graphics g) {
-        List<Event> events = new ArrayList<Event>(calendar.getAllEvents());
+    private Date getViewedDay() {
         Date date = calendar.getViewedDate().clone();
         date.setHasTime(false);
+        return date;
+    }
+    
+    /**
+     * Returns a key for everything the cells depend on: the viewed date,
+     * todays date and the settings affecting the cell contents. If the key
+     * changes, the cells need to be rebuilt.
+     * @param date - Currently viewed date
+     * @return Key for the current cells.
+     */
+    private String getCellsKey(Date date) {
+        return date.print() + "|" + new Date().print() + "|" + daysOfWeek[0]
+                + "|" + calendar.getConfig().getProperty(BoolProperty.ShowMoon)
+                + "|" + calendar.getConfig().getProperty(BoolProperty.ShowZodiac);
+    }
 
-        matrix = new Cell[cols][rows];
+    /**
+     * Fill the drawn calendar with dates and events, depending on 
+     * the currently viewed date. The cells are only rebuilt if necessary.
+     * @param g - Graphics to paint on
+     */
+    private void fillCalendar(Graphics g) {
+        Date date = getViewedDay();
+        String key = getCellsKey(date);
+        
+        Occurrences occurrences = null;
+        rebuildCells = matrix == null || !key.equals(cellsKey);
+        if (rebuildCells) {
+            LOG.fine("rebuild cells");
+            occurrences = calendar.getOccurrenceCache().get();
+            matrix = new Cell[cols][rows];
+            cellsKey = key;
+        }
 
-        fillCalendarContent(g, events, date);
+        fillCalendarContent(g, occurrences, date);
+        rebuildCells = false;
+    }
+    
+    /**
+     * Returns the area of a cell on this canvas.
+     * @param c - Cell of interest
+     * @return Rectangle covered by the cell.
+     */
+    protected Rectangle getCellBounds(Cell c) {
+        return new Rectangle(clear_left + c.col * width, clear_up + c.row * height, width + 1, height + 1);
+    }
+    
+    /**
+     * Request a repaint of a single cell only.
+     * @param c - Cell to repaint
+     */
+    public void repaintCell(Cell c) {
+        repaint(getCellBounds(c));
+    }
+    
+    /**
+     * Paint the cells within a clip area again (without rebuilding them).
+     * This is only possible if the clip area consists of cells only.
+     * @param g - Graphics to paint on
+     * @param clip - Clip area to repaint
+     * @return True if the cells were painted, false if the clip area
+     *         contains more than cells (requires a full repaint).
+     */
+    private boolean paintCells(Graphics g, Rectangle clip) {
+        Rectangle cellsArea = new Rectangle(clear_left, clear_up, cols * width + 1, rows * height + 1);
+        if (!cellsArea.contains(clip)) {
+            return false;
+        }
+        
+        List<Cell> dirty = new ArrayList<Cell>();
+        for (int b = 0; b < rows; b++) {
+            for (int a = 0; a < cols; a++) {
+                Rectangle bounds = new Rectangle(clear_left + a * width, clear_up + b * height, 
+                        width + 1, height + 1);
+                if (!bounds.intersects(clip)) {
+                    continue;
+                }
+                if (matrix[a][b] != null) {
+                    dirty.add(matrix[a][b]);
+                } else if (clip.intersects(bounds.x + 1, bounds.y + 1, width - 1, height - 1)) {
+                    /* content of empty cells (e.g. days of other months) is painted by the canvas */
+                    return false;
+                }
+            }
+        }
+        
+        /* grid lines (only within the clip area) */
+        drawGrid(g);
+        
+        Dimension space = new Dimension(width, height);
+        for (Cell c : dirty) {
+            c.paint(g, space);
+        }
+        return true;
     }
     
     /**
@@ -452,7 +676,7 @@ public abstract class CalendarCanvas
                 for (int j = 0; j < cols; j++) {
                     if (matrix[j][i] != null) {
                         if (matrix[j][i].containsEvent(selectedEvent)) {
-                            matrix[j][i].paint(this.getGraphics(), new Dimension(width, height));
+                            repaintCell(matrix[j][i]);
                         }
                     }
                 }
@@ -467,10 +691,11 @@ public abstract class CalendarCanvas
     }
 
     /**
-     * Repaint the calendar canvas.
+     * Rebuild and repaint the calendar canvas (e.g. after events changed).
      */
     public void update() {
         mouseHover = null;
+        cellsKey = null;
         repaint();
     }
 
@@ -1015,6 +1240,12 @@ public abstract class CalendarCanvas
         if (this.view != View.day && k.getKeyCode() == KeyEvent.VK_CONTROL) {
             strgPressed = true;
         }
+        /* STRG+F: search all events (names, categories and notes) */
+        else if (k.getKeyCode() == KeyEvent.VK_F && k.isControlDown() && calendar.getGUI().getFrame() != null) {
+            strgPressed = false;
+            strgDates.clear();
+            new SearchDialog(calendar);
+        }
     }
 
     @Override
@@ -21,10 +21,11 @@ package de.jsteltze.calendar.UI;
 import java.awt.Dimension;
 import java.awt.Graphics;
 import java.awt.Point;
-import java.util.List;
+import java.awt.Rectangle;
 
 import de.jsteltze.calendar.Calendar;
 import de.jsteltze.calendar.Event;
+import de.jsteltze.calendar.UI.OccurrenceCache.Occurrences;
 import de.jsteltze.calendar.config.Const;
 import de.jsteltze.calendar.config.enums.View;
 import de.jsteltze.common.calendar.Date;
@@ -89,43 +90,50 @@ public class CalendarCanvasDay
     }
     
     @Override
-    protected void fillCalendarContent(Graphics g, List<Event> events, Date date) {
+    protected Rectangle getCellBounds(Cell c) {
+        Rectangle bounds = super.getCellBounds(c);
+        if (c.row == 0) {
+            /* include the header above the first row */
+            bounds.add(new Rectangle(clear_left + c.col * width, clear_up - 19, 300, 20));
+        }
+        return bounds;
+    }
+    
+    @Override
+    protected void fillCalendarContent(Graphics g, Occurrences occurrences, Date date) {
         /* For both days do... */
         for (int i = 0; i < cols; i++) {
-            Date localDate = date.clone();
-            localDate.add(java.util.Calendar.DAY_OF_MONTH, i);
-            for (int j = 0; j < rows; j++) {
-                if (j == 0) {
-                    localDate.setHasTime(false);
-                } else {
-                    localDate.setHasTime(true);
-                    localDate.set(java.util.Calendar.HOUR_OF_DAY, j - 1);
-                    localDate.set(java.util.Calendar.MINUTE, 0);
-                }
-                matrix[i][j] = new CellDay(this, i, j, localDate.clone());
-
-                if (markedDates.contains(localDate)) {
-                    matrix[i][j].setSelected(true);
+            if (rebuildCells) {
+                Date localDate = date.clone();
+                localDate.add(java.util.Calendar.DAY_OF_MONTH, i);
+                for (int j = 0; j < rows; j++) {
+                    if (j == 0) {
+                        localDate.setHasTime(false);
+                    } else {
+                        localDate.setHasTime(true);
+                        localDate.set(java.util.Calendar.HOUR_OF_DAY, j - 1);
+                        localDate.set(java.util.Calendar.MINUTE, 0);
+                    }
+                    matrix[i][j] = new CellDay(this, i, j, localDate.clone());
+    
+                    if (markedDates.contains(localDate)) {
+                        matrix[i][j].setSelected(true);
+                    }
                 }
-
-                matrix[i][j].paint(g, new Dimension(width, height));
-            }
-
-            for (Event e : events) {
-                if (e.match(localDate)) {
+    
+                /* Register events */
+                for (Event e : occurrences.getEvents(localDate)) {
                     if (e.getDate().hasTime()) {
-                        matrix[i][e.getDate().get(java.util.Calendar.HOUR_OF_DAY) + 1]
-                                .addEvent(e);
-                        matrix[i][e.getDate().get(java.util.Calendar.HOUR_OF_DAY) + 1]
-                                .paint(g, new Dimension(width, height));
-                    }
-
-                    else {
+                        matrix[i][e.getDate().get(java.util.Calendar.HOUR_OF_DAY) + 1].addEvent(e);
+                    } else {
                         matrix[i][0].addEvent(e);
-                        matrix[i][0].paint(g, new Dimension(width, height));
                     }
                 }
             }
+            
+            for (int j = 0; j < rows; j++) {
+                matrix[i][j].paint(g, new Dimension(width, height));
+            }
         }
     }
     
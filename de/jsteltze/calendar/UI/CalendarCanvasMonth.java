@@ -29,6 +29,7 @@ import java.util.logging.Logger;
 
 import de.jsteltze.calendar.Calendar;
 import de.jsteltze.calendar.Event;
+import de.jsteltze.calendar.UI.OccurrenceCache.Occurrences;
 import de.jsteltze.calendar.config.ColorSet;
 import de.jsteltze.calendar.config.Const;
 import de.jsteltze.calendar.config.enums.View;
@@ -126,13 +127,7 @@ public class CalendarCanvasMonth
         /* unmark day of week */
         if (highlightedHeadline < HIGHLIGHT_COLUMN) {
             final int fontHeight = 17;
-            g.setColor(calendar.getConfig().getColors()[ColorSet.BACKGROUND]);
-            g.fillRect(10 + highlightedHeadline * width, clear_up - fontHeight, width, fontHeight);
-            g.setColor(Color.BLACK);
-            g.setFont(Const.FONT_MONTH_DAY_OF_WEEK);
-            g.drawString(Date.dayOfWeek2String(daysOfWeek[highlightedHeadline > 6 
-                    ? highlightedHeadline - 8 : highlightedHeadline], true), 
-                    10 + highlightedHeadline * width, clear_up - 5);
+            restoreGrid(g, 10 + highlightedHeadline * width, clear_up - fontHeight, width, fontHeight);
         
         /* unmark calendar week */
         } else if (highlightedHeadline < HIGHLIGHT_MONTH_LEFT) {
@@ -257,7 +252,7 @@ public class CalendarCanvasMonth
     }
     
     @Override
-    protected void fillCalendarContent(Graphics g, List<Event> events, Date date) {
+    protected void fillCalendarContent(Graphics g, Occurrences occurrences, Date date) {
         date.set(java.util.Calendar.DAY_OF_MONTH, 1);
         int col, row;
 
@@ -300,15 +295,15 @@ public class CalendarCanvasMonth
             /* for each day do... */
             for (int day = 1; day <= maxDays; day++) {
                 date.set(java.util.Calendar.DAY_OF_MONTH, day);
-                matrix[col][row] = new CellMonth(this, col, row, date.clone());
-                if (markedDates.contains(date)) {
-                    LOG.fine("selection contains: " + date.print());
-                    matrix[col][row].setSelected(true);
-                }
-
-                /* Register events */
-                for (Event e : events) {
-                    if (e.match(date)) {
+                if (rebuildCells) {
+                    matrix[col][row] = new CellMonth(this, col, row, date.clone());
+                    if (markedDates.contains(date)) {
+                        LOG.fine("selection contains: " + date.print());
+                        matrix[col][row].setSelected(true);
+                    }
+    
+                    /* Register events */
+                    for (Event e : occurrences.getEvents(date)) {
                         matrix[col][row].addEvent(e);
                     }
                 }
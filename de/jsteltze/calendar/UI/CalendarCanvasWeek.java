@@ -23,11 +23,11 @@ import java.awt.Dimension;
 import java.awt.FontMetrics;
 import java.awt.Graphics;
 import java.awt.Point;
-import java.util.List;
 import java.util.logging.Logger;
 
 import de.jsteltze.calendar.Calendar;
 import de.jsteltze.calendar.Event;
+import de.jsteltze.calendar.UI.OccurrenceCache.Occurrences;
 import de.jsteltze.calendar.config.Const;
 import de.jsteltze.calendar.config.enums.View;
 import de.jsteltze.common.Log;
@@ -121,7 +121,7 @@ public class CalendarCanvasWeek
     }
     
     @Override
-    protected void fillCalendarContent(Graphics g, List<Event> events, Date date) {
+    protected void fillCalendarContent(Graphics g, Occurrences occurrences, Date date) {
         int col, row;
 
         /* find first day of upper week */
@@ -146,15 +146,15 @@ public class CalendarCanvasWeek
 
             for (int i = 0; i < 7; i++) {
 
-                matrix[col][row] = new CellWeek(this, col, row, date.clone());
-                if (markedDates.contains(date)) {
-                    LOG.fine("selection contains: " + date.print());
-                    matrix[col][row].setSelected(true);
-                }
-
-                /* Register events */
-                for (Event e : events) {
-                    if (e.match(date)) {
+                if (rebuildCells) {
+                    matrix[col][row] = new CellWeek(this, col, row, date.clone());
+                    if (markedDates.contains(date)) {
+                        LOG.fine("selection contains: " + date.print());
+                        matrix[col][row].setSelected(true);
+                    }
+    
+                    /* Register events */
+                    for (Event e : occurrences.getEvents(date)) {
                         matrix[col][row].addEvent(e);
                     }
                 }
@@ -25,10 +25,12 @@ import java.awt.Graphics;
 import java.awt.Point;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import de.jsteltze.calendar.Calendar;
 import de.jsteltze.calendar.Event;
+import de.jsteltze.calendar.UI.OccurrenceCache.Occurrences;
 import de.jsteltze.calendar.config.ColorSet;
 import de.jsteltze.calendar.config.Const;
 import de.jsteltze.calendar.config.enums.View;
@@ -147,14 +149,7 @@ public class CalendarCanvasYear
         
         /* unmark month */
         if (highlightedHeadline < HIGHLIGHT_CALENDAR_WEEK) {
-            int spaces_left[] = {6, 5, 5, 7, 7, 6, 10, 5, 4, 7, 4, 4};
-            g.setFont(Const.FONT_YEAR_MONTH_NAME);
-            g.setColor(calendar.getConfig().getColors()[ColorSet.BACKGROUND]);
-            g.fillRect(0, clear_up + height * highlightedHeadline, 
-                    clear_left, height);
-            g.setColor(Color.black);
-            g.drawString(Date.month2String(highlightedHeadline, true), spaces_left[highlightedHeadline], 
-                        clear_up - 5 + height * (highlightedHeadline + 1));
+            restoreGrid(g, 0, clear_up + height * highlightedHeadline, clear_left, height);
         
         /* unmark calendar weeks */
         } else if (highlightedHeadline < 24) {
@@ -181,15 +176,10 @@ public class CalendarCanvasYear
         /* unmark day of week */
         } else if (highlightedHeadline < HIGHLIGHT_COLUMN + cols) {
             int index = highlightedHeadline - HIGHLIGHT_COLUMN;
-            g.setFont(Const.FONT_YEAR_DAY_OF_WEEK.deriveFont((float) fontsizeYear));
             int base = index % 7;
             while (base < cols) {
-                g.setColor(calendar.getConfig().getColors()[ColorSet.BACKGROUND]);
-                g.fillRect(clear_left + base * width - 1, clear_up - fontsizeYear - 2, 
+                restoreGrid(g, clear_left + base * width - 1, clear_up - fontsizeYear - 2, 
                         width, fontsizeYear);
-                g.setColor(Const.COLOR_DEF_FONT);
-                g.drawString(Date.dayOfWeek2String(daysOfWeek[index % 7], true), 
-                        clear_left + base * width, clear_up - 2);
                 base += 7;
             }
         
@@ -280,7 +270,7 @@ public class CalendarCanvasYear
     }
     
     @Override
-    protected void fillCalendarContent(Graphics g, List<Event> events, Date date) {
+    protected void fillCalendarContent(Graphics g, Occurrences occurrences, Date date) {
         int viewedYear = date.get(java.util.Calendar.YEAR);
         
         /* print year label */
@@ -305,12 +295,21 @@ public class CalendarCanvasYear
             for (int day = 0; day < maxDays; day++) {
                 date.add(java.util.Calendar.DAY_OF_MONTH, day == 0 ? 0 : 1);
 
-                matrix[startCol + day][month] = new CellYear(this, startCol + day, month, date.clone());
-
-                if (markedDates.contains(date)) {
-                    LOG.fine("selection contains: " + day + "."
-                            + month + "." + viewedYear);
-                    matrix[startCol + day][month].setSelected(true);
+                if (rebuildCells) {
+                    matrix[startCol + day][month] = new CellYear(this, startCol + day, month, date.clone());
+    
+                    if (markedDates.contains(date)) {
+                        if (LOG.isLoggable(Level.FINE)) {
+                            LOG.fine("selection contains: " + day + "."
+                                    + month + "." + viewedYear);
+                        }
+                        matrix[startCol + day][month].setSelected(true);
+                    }
+                    
+                    /* Register events */
+                    for (Event e : occurrences.getEvents(date)) {
+                        matrix[startCol + day][month].addEvent(e);
+                    }
                 }
 
                 /* Print week numbers */
@@ -323,13 +322,6 @@ public class CalendarCanvasYear
                                     + (month + 1) * height);
                 }
 
-                /* Register events */
-                for (Event e : events) {
-                    if (e.match(date)) {
-                        matrix[startCol + day][month].addEvent(e);
-                    }
-                }
-
                 matrix[startCol + day][month].paint(g, new Dimension(width, height));
             }
         }    
@@ -30,6 +30,7 @@ import java.awt.event.ActionListener;
 import java.awt.event.MouseEvent;
 import java.awt.event.MouseListener;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -61,6 +62,7 @@ import de.jsteltze.calendar.frames.JumpToDialog;
 import de.jsteltze.calendar.frames.Settings;
 import de.jsteltze.calendar.frames.TableOfEventsSingleDay;
 import de.jsteltze.calendar.tasks.AlarmTask;
+import de.jsteltze.calendar.tasks.MinuteTicker;
 import de.jsteltze.calendar.tasks.RefreshDateTask;
 import de.jsteltze.common.ImageButton;
 import de.jsteltze.common.ImageButtonGroup;
@@ -150,6 +152,9 @@ public class CalendarPanel
     /** Refresh date&time every minute. */
     private RefreshDateTask refreshDateTask;
     
+    /** Coalesces update requests for the calendar view and the status bar. */
+    private RepaintScheduler repaintScheduler;
+    
     /** Logger. */
     private static final Logger LOG = Log.getLogger(CalendarPanel.class);
     
@@ -164,6 +169,19 @@ public class CalendarPanel
         this.view = view;
         this.calendar = calendar;
         this.appletMode = appletMode;
+        this.repaintScheduler = new RepaintScheduler(new Runnable() {
+            
+            @Override
+            public void run() {
+                canvas.update();
+            }
+        }, new Runnable() {
+            
+            @Override
+            public void run() {
+                refreshStatusBar();
+            }
+        });
         
         canvas = CalendarCanvas.create(calendar, view);
         //canvas = new CalendarCanvas(calendar, view);
@@ -173,7 +191,7 @@ public class CalendarPanel
         msgPutter = new MessageTransparator(infoLabel);
         msgPutter.start();
         refreshDateTask = new RefreshDateTask(dateLabel);
-        refreshDateTask.start();
+        MinuteTicker.subscribe(refreshDateTask);
     }
 
     /**
@@ -267,7 +285,7 @@ public class CalendarPanel
         holidaysLabel = new LinkLabel("x Feiertage", "Alle Feiertage anzeigen", (Window) null);
         holidaysLabel.addMouseListener(this);
         notificationsLabel = new JLabel("x Erinnerungen aktiv");
-        updateStatusBar();
+        refreshStatusBar();
         
         eventsLabel.setFont(Const.FONT_STATUSBAR);
         holidaysLabel.setFont(Const.FONT_STATUSBAR);
@@ -323,11 +341,20 @@ public class CalendarPanel
         canvas.unmarkAll();
     }
     
+    /**
+     * Request an update of the number of events, holidays and pending notifications
+     * in the bottom status bar. The update is done at the next repaint tick
+     * (see {@link RepaintScheduler}).
+     */
+    public void updateStatusBar() {
+        repaintScheduler.requestStatusBar();
+    }
+    
     /**
      * Update the number of events, holidays and pending notifications
      * in the bottom status bar.
      */
-    public void updateStatusBar() {
+    private void refreshStatusBar() {
         int numLawHolidays = Holidays.getNumberOfHolidays(calendar.getConfig().getProperty(IntProperty.HolidayID));
         int numSpecialDays = Holidays.getNumberOfHolidays(calendar.getConfig().getProperty(IntProperty.SpecialDaysID));
         int numActionDays  = Holidays.getNumberOfHolidays(calendar.getConfig().getProperty(IntProperty.ActionDays1ID))
@@ -338,8 +365,9 @@ public class CalendarPanel
         
         //cannot use this, since flexible holidays may occure twice
         //int num_events = calendar.getAllEvents().size() - num_holidays;
-        int numEvents = calendar.getAllUserEvents().size();
-        int numNotis = calendar.getAlarmTasks().size();
+        int numEvents = calendar.getStatistics().getUserEventCount();
+        List<AlarmTask> alarms = calendar.getAlarmTasks();
+        int numNotis = alarms.size();
         eventsLabel.setText(numEvents + " Ereignis" + (numEvents == 1 ? "" : "se"));
         holidaysLabel.setText(numTotal + " Feier-/Aktionstag" + (numTotal == 1 ? "" : "e"));
         notificationsLabel.setText(numNotis + " Erinnerung" + (numNotis == 1 ? "" : "en") + " aktiv");
@@ -349,8 +377,8 @@ public class CalendarPanel
                 + " laufende Erinnerung" + (numNotis > 1 ? "en" : "");
         if (numNotis > 0) {
             toolTip += ":<hr>";
-            for (AlarmTask at : calendar.getAlarmTasks()) {
-                Date alarmTime = new Date(System.currentTimeMillis() + at.scheduledExecutionTime());
+            for (AlarmTask at : alarms) {
+                Date alarmTime = new Date(at.scheduledExecutionTime());
                 toolTip += "<img src='" +  CalendarPanel.class.getResource("/media/clock_alarm32.png") 
                         + "' width='12' height='12'>&nbsp;"
                         + "<font color='gray'>" + alarmTime.print(PrintFormat.HHmm_Uhr) 
@@ -360,8 +388,8 @@ public class CalendarPanel
         notificationsLabel.setToolTipText(toolTip + "</html>");
         
         // tooltip for all events: show top 3 categories
-        toolTip = "<html>Alle <b>" + numEvents + " Ereignisse</b> (auer Feiertage) auflisten";
-        LinkedHashMap<String, Integer> countedCategories = EventCategories.count(calendar.getAllUserEvents());
+        toolTip = "<html>Alle <b>" + numEvents + " Ereignisse</b> (außer Feiertage) auflisten";
+        LinkedHashMap<String, Integer> countedCategories = calendar.getStatistics().getCategoryCounts();
         if (!countedCategories.isEmpty()) {
             toolTip += ":<hr>";
             int top = 0, countCats = 0;
@@ -474,7 +502,7 @@ public class CalendarPanel
         infoLabel.setForeground(Color.gray);
         updateLabel = new LinkLabel("Update");
         updateLabel.addMouseListener(this);
-        JLabel updateLabel2 = new JLabel(" verfgbar");
+        JLabel updateLabel2 = new JLabel(" verfügbar");
         updateLabel.setFont(Const.FONT_STATUSBAR);
         updateLabel2.setFont(Const.FONT_STATUSBAR);
         updateLabel2.setForeground(Color.gray);
@@ -484,10 +512,19 @@ public class CalendarPanel
     }
     
     /**
-     * Update the calendar (in case of new events / removed events).
+     * Update the calendar (in case of new events / removed events). The update
+     * is done at the next repaint tick (see {@link RepaintScheduler}).
      */
     public void update() {
-        canvas.update();
+        repaintScheduler.requestView();
+    }
+    
+    /**
+     * Returns the scheduler coalescing the update requests of this panel.
+     * @return the repaint scheduler.
+     */
+    public RepaintScheduler getRepaintScheduler() {
+        return repaintScheduler;
     }
     
     /**
@@ -503,8 +540,9 @@ public class CalendarPanel
      * tasks.
      */
     public void shutdown() {
+        repaintScheduler.stop();
         if (refreshDateTask != null) {
-            refreshDateTask.stopit();
+            MinuteTicker.unsubscribe(refreshDateTask);
         }
         if (msgPutter != null) {
             msgPutter.stopit();
@@ -531,7 +569,7 @@ public class CalendarPanel
     public void mousePressed(MouseEvent m) {
         if (m.getSource().equals(settings)) {
             if (appletMode) {
-                putInfoMessage("IN DIESEM ONLINE-APPLET KNNEN KEINE EINSTELLUNGEN GENDERT WERDEN!");
+                putInfoMessage("IN DIESEM ONLINE-APPLET KÖNNEN KEINE EINSTELLUNGEN GEÄNDERT WERDEN!");
             } else {
                 new Settings(calendar);
             }
@@ -585,13 +623,13 @@ public class CalendarPanel
     private void showGregorMessage() {
         JPanel content = new JPanel(new BorderLayout(20, 20));
         content.add(new JLabel("<html>Der heute weltweit verwendete gregorianische Kalender<br>"
-                + "wurde 1582 durch Papst Gregor XIII. eingefhrt.<br>"
-                + "Eine Darstellung frherer Jahre in dieser Ansicht wird<br>"
-                + "nicht untersttzt.<br>"
+                + "wurde 1582 durch Papst Gregor XIII. eingeführt.<br>"
+                + "Eine Darstellung früherer Jahre in dieser Ansicht wird<br>"
+                + "nicht unterstützt.<br>"
                 + "Vor dem gregorianischen Kalender war der julianische Kalender<br>"
-                + "im Einsatz (eingefhrt von Julius Caesar).</html>"), BorderLayout.CENTER);
+                + "im Einsatz (eingeführt von Julius Caesar).</html>"), BorderLayout.CENTER);
         JPanel linkPanel = new JPanel(new GridLayout(3, 1));
-        JLabel linkTitle = new JLabel("weiterfhrende Links:");
+        JLabel linkTitle = new JLabel("weiterführende Links:");
         linkTitle.setForeground(Color.DARK_GRAY);
         linkPanel.add(linkTitle);
         linkPanel.add(new LinkLabel("    http://de.wikipedia.org/wiki/Gregor_XIII.", 
@@ -608,7 +646,7 @@ public class CalendarPanel
      * Jump to a any date.
      * @param x - Date to jump to
      */
-    private void jumpTo(Date x) {
+    public void jumpTo(Date x) {
         LOG.info("jump to date " + x.print());
         
         /*
@@ -628,6 +666,7 @@ public class CalendarPanel
 
         calendar.setViewedDate(x);
         canvas.repaint();
+        calendar.getOccurrenceCache().prefetch(view, x);
     }
 
     @Override
@@ -655,6 +694,7 @@ public class CalendarPanel
                 remove(canvas);
                 canvas = CalendarCanvas.create(calendar, view);
                 add(canvas);
+                calendar.getOccurrenceCache().prefetch(view, calendar.getViewedDate());
                 if (!appletMode) {
                     Configuration config = calendar.getConfig().clone();
                     config.setProperty(EnumProperty.DefaultView, view);
@@ -66,12 +66,12 @@ public class CalendarPopupMenu
     /** Popup menu items. */
     private JMenuItem newItem = new JMenuItem("Neues Ereignis", 
                     new ImageIcon(CalendarPopupMenu.class.getResource("/media/event_new20.png"))), 
-            overviewItem = new JMenuItem("bersicht ffnen", 
+            overviewItem = new JMenuItem("Übersicht öffnen", 
                     new ImageIcon(new ImageIcon(CalendarPopupMenu.class.getResource("/media/calendar_new64.png"))
                             .getImage().getScaledInstance(20, 20, Image.SCALE_SMOOTH))), 
             editItem = new JMenuItem("Bearbeiten", 
                     new ImageIcon(CalendarPopupMenu.class.getResource("/media/event_edit20.png"))), 
-            deleteItem = new JMenuItem("Lschen", 
+            deleteItem = new JMenuItem("Löschen", 
                     new ImageIcon(CalendarPopupMenu.class.getResource("/media/event_delete20.png"))), 
             deleteSingleItem = new JMenuItem("nur dieses Datum", 
                     new ImageIcon(CalendarPopupMenu.class.getResource("/media/event_delete_single20.png"))), 
@@ -80,13 +80,13 @@ public class CalendarPopupMenu
             remindItem = new JMenuItem("Erinnerung aufrufen", 
                     new ImageIcon(new ImageIcon(CalendarPopupMenu.class.getResource("/media/clock_alarm32.png"))
                             .getImage().getScaledInstance(20, 20, Image.SCALE_SMOOTH))), 
-            showAttachmentItem = new JMenuItem("Anhang ffnen", 
+            showAttachmentItem = new JMenuItem("Anhang öffnen", 
                     new ImageIcon(CalendarPopupMenu.class.getResource("/media/attachment20.png"))),
             showNotesItem = new JMenuItem("Notizen anzeigen", 
                     new ImageIcon(CalendarPopupMenu.class.getResource("/media/notes20.png"))),
             copyItem = new JMenuItem("Kopieren", 
                     new ImageIcon(CalendarPopupMenu.class.getResource("/media/event_copy20.png"))),
-            pasteItem = new JMenuItem("Einfgen", 
+            pasteItem = new JMenuItem("Einfügen", 
                     new ImageIcon(CalendarPopupMenu.class.getResource("/media/event_paste20.png"))), 
             cutItem = new JMenuItem("Ausschneiden", 
                     new ImageIcon(CalendarPopupMenu.class.getResource("/media/event_cut20.png"))),
@@ -141,7 +141,7 @@ public class CalendarPopupMenu
         
         if (selectedEvent.getType() != EventType.user) {
             editItem.setEnabled(false);
-            deleteItem.setText(selectedEvent.getType().isHoliday() ? "Feiertage einstellen" : "Einstellungen ffnen");
+            deleteItem.setText(selectedEvent.getType().isHoliday() ? "Feiertage einstellen" : "Einstellungen öffnen");
             copyItem.setEnabled(false);
             cutItem.setEnabled(false);
         }
@@ -184,7 +184,7 @@ public class CalendarPopupMenu
         }
         
         if (selectedEvent.getType().equals(EventType.user) && selectedEvent.getFrequency() != Frequency.OCCUR_ONCE) {
-            JMenu deleteMenu = new JMenu("Lschen");
+            JMenu deleteMenu = new JMenu("Löschen");
             deleteMenu.setIcon(new ImageIcon(CalendarPopupMenu.class.getResource("/media/event_delete20.png")));
             deleteMenu.add(deleteSingleItem);
             deleteMenu.add(deleteAllItem);
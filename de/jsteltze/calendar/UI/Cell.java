@@ -20,12 +20,15 @@ package de.jsteltze.calendar.UI;
 
 import java.awt.Color;
 import java.awt.Dimension;
+import java.awt.Font;
 import java.awt.FontMetrics;
 import java.awt.Graphics;
 import java.awt.Point;
+import java.awt.font.FontRenderContext;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -41,7 +44,6 @@ import de.jsteltze.common.ColorUtil;
 import de.jsteltze.common.GraphicUtils;
 import de.jsteltze.common.calendar.Date;
 import de.jsteltze.common.calendar.Date.PrintFormat;
-import de.jsteltze.common.calendar.Moon;
 import de.jsteltze.common.calendar.Moon.MoonState;
 import de.jsteltze.common.calendar.Zodiac;
 
@@ -158,12 +160,12 @@ public abstract class Cell {
             
             // set the moon phase
             if (canvas.getOwner().getConfig().getProperty(BoolProperty.ShowMoon)) {
-                moonPhase = Moon.getMoonPhase(this.date);
+                moonPhase = AstroCache.getMoonPhase(this.date);
             }
             
             // set the zodiac
             if (canvas.getOwner().getConfig().getProperty(BoolProperty.ShowZodiac)) {
-                zodiac = Zodiac.getStartsByDate(this.date);
+                zodiac = AstroCache.getStartsByDate(this.date);
             }
             
             int dayOfWeek = date.get(java.util.Calendar.DAY_OF_WEEK);
@@ -266,7 +268,7 @@ public abstract class Cell {
      */
     public void setSelected(boolean x) {
         selected = x;
-        paint(canvas.getGraphics(), canvas.calcDim());
+        canvas.repaintCell(this);
     }
 
     /**
@@ -299,7 +301,7 @@ public abstract class Cell {
             }
         }
 
-        paint(canvas.getGraphics(), canvas.calcDim());
+        canvas.repaintCell(this);
     }
     
     /**
@@ -717,7 +719,8 @@ public abstract class Cell {
     
     /**
      * Cuts a string to fit a specific width. If the string needs to be cut,
-     * '...' will be appended.
+     * '...' will be appended. Results are cached, since the same labels are
+     * cut again on each paint.
      * @param orig - Original string
      * @param width - Available width
      * @param g - Graphics object (contains the font to apply)
@@ -726,11 +729,106 @@ public abstract class Cell {
      */
     public static String cut(String orig, int width, Graphics g) {
         FontMetrics fm = g.getFontMetrics();
-        String tmp = orig;
-        int len = orig.length();
-        while (fm.stringWidth(tmp) > width - 2 && len > 0) {
-            tmp = orig.substring(0, --len) + "...";
+        CutKey key = new CutKey(orig, fm.getFont(), fm.getFontRenderContext(), width);
+        synchronized (CUT_CACHE) {
+            String cutted = CUT_CACHE.get(key);
+            if (cutted != null) {
+                return cutted;
+            }
+        }
+        
+        String cutted = cut(orig, width, fm);
+        synchronized (CUT_CACHE) {
+            CUT_CACHE.put(key, cutted);
+        }
+        return cutted;
+    }
+    
+    /**
+     * Cuts a string to fit a specific width (uncached).
+     * @param orig - Original string
+     * @param width - Available width
+     * @param fm - Font metrics to apply
+     * @return Original string if enough space available, cutted
+     * string otherwise.
+     */
+    private static String cut(String orig, int width, FontMetrics fm) {
+        if (fm.stringWidth(orig) <= width - 2 || orig.isEmpty()) {
+            return orig.equals("...") ? orig.substring(0, 1) : orig;
+        }
+        
+        /* binary search for the longest prefix that fits (together with '...') */
+        int low = 1, high = orig.length() - 1, len = 0;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (fm.stringWidth(orig.substring(0, mid) + "...") <= width - 2) {
+                len = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return len == 0 ? orig.substring(0, 1) : orig.substring(0, len) + "...";
+    }
+    
+    /** Maximum number of cached cut strings. */
+    private static final int CUT_CACHE_SIZE = 1024;
+    
+    /** Cache of cut strings (least recently used first). */
+    private static final Map<CutKey, String> CUT_CACHE = new LinkedHashMap<CutKey, String>(64, .75f, true) {
+        
+        /** Default serial version UID. */
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<CutKey, String> eldest) {
+            return size() > CUT_CACHE_SIZE;
+        }
+    };
+    
+    /**
+     * Key for the cache of cut strings.
+     */
+    private static final class CutKey {
+        
+        /** Original string. */
+        private final String orig;
+        
+        /** Font to apply. */
+        private final Font font;
+        
+        /** Render context (anti-aliasing and fractional metrics change the widths). */
+        private final FontRenderContext frc;
+        
+        /** Available width. */
+        private final int width;
+        
+        /**
+         * Construct a new key.
+         * @param orig - Original string
+         * @param font - Font to apply
+         * @param frc - Font render context
+         * @param width - Available width
+         */
+        private CutKey(String orig, Font font, FontRenderContext frc, int width) {
+            this.orig = orig;
+            this.font = font;
+            this.frc = frc;
+            this.width = width;
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof CutKey)) {
+                return false;
+            }
+            CutKey k = (CutKey) o;
+            return width == k.width && orig.equals(k.orig) && font.equals(k.font) && frc.equals(k.frc);
+        }
+        
+        @Override
+        public int hashCode() {
+            return (orig.hashCode() * 31 + font.hashCode()) * 31 + width;
         }
-        return tmp.equals("...") ? orig.substring(0, 1) : tmp;
     }
 }
\ No newline at end of file
@@ -159,7 +159,7 @@ public class CellDay extends Cell {
         } else if (dayDiff == 1) {
             header += "Morgen: ";
         } else if (dayDiff == 2) {
-            header += "bermorgen: ";
+            header += "Übermorgen: ";
         }
         header += date.print(PrintFormat.DDD_DDMMYYYY);
         
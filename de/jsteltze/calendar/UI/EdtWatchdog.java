@@ -0,0 +1,165 @@
+/**
+ *  java-kalender - Java Calendar for Germany
+ *  Copyright (C) 2012  Johannes Steltzer
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.jsteltze.calendar.UI;
+
+import java.awt.AWTEvent;
+import java.awt.EventQueue;
+import java.awt.Toolkit;
+import java.util.logging.Logger;
+
+import de.jsteltze.calendar.metrics.Metrics;
+import de.jsteltze.common.Log;
+
+/**
+ * Watchdog of the event dispatch thread. Replaces the system event queue to
+ * measure how long each AWT event takes to dispatch (see
+ * {@link Metrics#EDT_DISPATCH}). A daemon thread checks the running dispatch
+ * every {@link #CHECK_INTERVAL} ms; if it takes longer than {@link #STALL_THRESHOLD} ms,
+ * the stack of the EDT is captured and written to the log and the metrics,
+ * so it shows which operation freezes the GUI.
+ * @author Johannes Steltzer
+ *
+ */
+public final class EdtWatchdog extends EventQueue {
+
+    /** Duration of a dispatch to be reported as stall in milliseconds. */
+    public static final long STALL_THRESHOLD = 500;
+
+    /** Time between two checks of the running dispatch in milliseconds. */
+    private static final long CHECK_INTERVAL = 100;
+
+    /** Maximum number of stack frames to report. */
+    private static final int MAX_FRAMES = 40;
+
+    /** Installed watchdog (null if not installed). */
+    private static EdtWatchdog instance;
+
+    /** Start of the running dispatch in nanoseconds (0 while waiting for events). */
+    private volatile long dispatchStart;
+
+    /** Event currently dispatched. */
+    private volatile AWTEvent dispatched;
+
+    /** Event dispatch thread. */
+    private volatile Thread edt;
+
+    /** Number of dispatches so far (to recognize nested dispatches of modal dialogs). */
+    private volatile long dispatches;
+
+    /** Start of the dispatch reported as stall (0 if none). */
+    private volatile long stallStart;
+
+    /** Logger. */
+    private static final Logger LOG = Log.getLogger(EdtWatchdog.class);
+
+    /**
+     * Hidden constructor.
+     */
+    private EdtWatchdog() { }
+
+    /**
+     * Replace the system event queue by the watchdog and start watching.
+     */
+    public static synchronized void install() {
+        if (instance != null) {
+            return;
+        }
+        instance = new EdtWatchdog();
+        Toolkit.getDefaultToolkit().getSystemEventQueue().push(instance);
+
+        Thread watcher = new Thread(new Runnable() {
+
+            @Override
+            public void run() {
+                while (true) {
+                    try {
+                        Thread.sleep(CHECK_INTERVAL);
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    instance.check();
+                }
+            }
+        }, "EdtWatchdog");
+        watcher.setDaemon(true);
+        watcher.start();
+        LOG.fine("EDT watchdog installed (threshold " + STALL_THRESHOLD + " ms)");
+    }
+
+    @Override
+    protected void dispatchEvent(AWTEvent event) {
+        edt = Thread.currentThread();
+        long seq = ++dispatches;
+        long start = System.nanoTime();
+        dispatchStart = start;
+        dispatched = event;
+        try {
+            super.dispatchEvent(event);
+        } finally {
+            /* back in the event loop (of this or an outer modal dispatch) */
+            dispatchStart = 0;
+            dispatched = null;
+            long millis = (System.nanoTime() - start) / 1000000;
+            if (dispatches == seq) {
+                /* not blocked by a modal dialog pumping nested events */
+                Metrics.EDT_DISPATCH.record(millis);
+            }
+            if (stallStart == start) {
+                stallStart = 0;
+                LOG.warning("EDT stall ended after " + millis + " ms");
+            }
+        }
+    }
+
+    /**
+     * Check the running dispatch and report it if it exceeds the threshold.
+     * Runs on the watchdog thread.
+     */
+    private void check() {
+        long start = dispatchStart;
+        Thread thread = edt;
+        AWTEvent event = dispatched;
+        if (start == 0 || thread == null || start == stallStart) {
+            return;
+        }
+        long millis = (System.nanoTime() - start) / 1000000;
+        if (millis < STALL_THRESHOLD) {
+            return;
+        }
+
+        StackTraceElement[] stack = thread.getStackTrace();
+        if (start != dispatchStart) {
+            /* dispatch finished meanwhile, the stack belongs to another one */
+            return;
+        }
+        stallStart = start;
+
+        StringBuilder report = new StringBuilder("EDT blocked for " + millis + " ms by " 
+                + (event == null ? "?" : event.getClass().getName() 
+                        + (event.getSource() == null ? "" : " from " + event.getSource().getClass().getName())));
+        for (int i = 0; i < stack.length && i < MAX_FRAMES; i++) {
+            report.append("\n\tat ").append(stack[i]);
+        }
+        if (stack.length > MAX_FRAMES) {
+            report.append("\n\t... ").append(stack.length - MAX_FRAMES).append(" more");
+        }
+        LOG.warning(report.toString());
+        Metrics.edtStalled(report.toString());
+    }
+}
@@ -117,8 +117,8 @@ public class EventPanel {
                     Desktop.getDesktop().open(event.getAttachment(workspace));
                 } catch (IOException e) {
                     LOG.log(Level.SEVERE, "[mouseClicked] error while trying to open attached file...", e);
-                    GUIUtils.showErrorMessage("Der Anhang kann nicht geffnet werden!", 
-                            "Anhang kann nicht geffnet werden", e);
+                    GUIUtils.showErrorMessage("Der Anhang kann nicht geöffnet werden!", 
+                            "Anhang kann nicht geöffnet werden", e);
                 }
             }
 
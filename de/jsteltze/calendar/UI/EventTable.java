@@ -20,13 +20,17 @@ package de.jsteltze.calendar.UI;
 
 import java.awt.Component;
 import java.awt.Dimension;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Vector;
 import java.util.logging.Logger;
 
 import javax.swing.JTable;
 import javax.swing.ListSelectionModel;
+import javax.swing.Timer;
 import javax.swing.table.DefaultTableCellRenderer;
 import javax.swing.table.DefaultTableModel;
 import javax.swing.table.TableModel;
@@ -72,6 +76,27 @@ public class EventTable
     /** The desired table columns. */
     private List<Columns> columns;
     
+    /** Search index: one entry per event (same order as 'events'). */
+    private List<IndexEntry> index;
+    
+    /** Last filter text (lower case) and its result (for narrowing down extended queries). */
+    private String lastQuery;
+    
+    /** Entries matching 'lastQuery'. */
+    private List<IndexEntry> lastResult;
+    
+    /** Delays filtering until the user stops typing. */
+    private Timer debounceTimer;
+    
+    /** Filter text and callback waiting for the debounce timer. */
+    private String pendingText;
+    
+    /** Callback to run after the pending filter was applied (or null). */
+    private Runnable pendingCallback;
+    
+    /** Delay in milliseconds between the last keystroke and filtering. */
+    public static final int DEBOUNCE_DELAY = 150;
+    
     /** Logger. */
     private static final Logger LOG = Log.getLogger(EventTable.class);
     
@@ -84,7 +109,7 @@ public class EventTable
         /** Column: event date (=start date). */
         date("Datum", 180, String.class),
         /** Column: event frequency. */
-        freq("Regelmigkeit", 150, String.class),
+        freq("Regelmäßigkeit", 150, String.class),
         /** Column: event time. */
         time("Uhrzeit", 80, String.class),
         /** Column: type of holiday (only applicable if the event is a holiday). */
@@ -144,6 +169,15 @@ public class EventTable
         this.columns    = columns;
         this.filteredEvents.addAll(events);
         
+        /* the model rows are kept by the index, so filtering never builds rows again */
+        this.index = new ArrayList<IndexEntry>(events.size());
+        Vector<?> rows = tableModel.getDataVector();
+        for (int i = 0; i < events.size(); i++) {
+            index.add(new IndexEntry(events.get(i), rows.get(i)));
+        }
+        this.lastQuery  = "";
+        this.lastResult = index;
+        
         /*
          * Setup column sorting
          */
@@ -240,7 +274,7 @@ public class EventTable
     
     @Override
     public void searchRequested(String searchText) {
-        filter(searchText);
+        filterDebounced(searchText, null);
     }
     
     /**
@@ -288,6 +322,51 @@ public class EventTable
         tableModel.removeRow(getSelectedRow());
         events.remove(selected);
         filteredEvents.remove(selected);
+        removeFromIndex(index, selected);
+        if (lastResult != index) {
+            removeFromIndex(lastResult, selected);
+        }
+    }
+    
+    /**
+     * Remove the entry of an event from a list of index entries.
+     * @param entries - List of index entries
+     * @param event - Event to remove
+     */
+    private static void removeFromIndex(List<IndexEntry> entries, Event event) {
+        for (int i = 0; i < entries.size(); i++) {
+            if (entries.get(i).event == event) {
+                entries.remove(i);
+                return;
+            }
+        }
+    }
+    
+    /**
+     * Filter the table of events after the user stopped typing (see {@link #DEBOUNCE_DELAY}).
+     * Each call restarts the delay, so only the latest search text is applied.
+     * @param searchText - Filter text. If text is empty, this restored all events again (no filter)
+     * @param callback - Runs on the EDT after the filter was applied (may be null)
+     */
+    public void filterDebounced(String searchText, Runnable callback) {
+        pendingText = searchText;
+        pendingCallback = callback;
+        if (debounceTimer == null) {
+            debounceTimer = new Timer(DEBOUNCE_DELAY, new ActionListener() {
+                
+                @Override
+                public void actionPerformed(ActionEvent a) {
+                    Runnable then = pendingCallback;
+                    pendingCallback = null;
+                    filter(pendingText);
+                    if (then != null) {
+                        then.run();
+                    }
+                }
+            });
+            debounceTimer.setRepeats(false);
+        }
+        debounceTimer.restart();
     }
     
     /**
@@ -298,43 +377,92 @@ public class EventTable
     public void filter(String searchText) {
         String text = searchText.toLowerCase();
         LOG.fine("filter: " + text);
-        filteredEvents.clear();
-        
-        int count = tableModel.getRowCount();
-        LOG.fine("row count before filter: " + count);
-        
-        // first remove all rows
-        for (int i = 0; i < count; i++) {
-            tableModel.removeRow(0);
-        }
-        
         
+        List<IndexEntry> result;
         if (text.isEmpty()) {
             /*
              * If text field is empty, reset filter (query all events)
              */
-            filteredEvents.addAll(events);
+            result = index;
         
         } else {
             /*
-             * Query events which contain the filter pattern
+             * Query events which contain the filter pattern. If the last query is
+             * extended, only its result needs to be searched again.
              */
-            for (Event e : events) {
-                if (e.getName().toLowerCase().contains(text) // search name
-                        || e.getDate().print(PrintFormat.DMYYYY).contains(text) // search date
-                        || e.getDate().print(PrintFormat.DDMMYYYY).contains(text) // search date
-                        || (e.getCategory() != null && e.getCategory().toLowerCase().contains(text)) // search category
-                        || (e.getDate().hasTime() && e.getDate().print(PrintFormat.HHmm).contains(text)) // search time
-                        || e.getType().getShortName().toLowerCase().contains(text)) { // search type (for holidays)
-                    filteredEvents.add(e);
+            List<IndexEntry> candidates = text.startsWith(lastQuery) ? lastResult : index;
+            result = new ArrayList<IndexEntry>();
+            for (IndexEntry entry : candidates) {
+                if (entry.matches(text)) {
+                    result.add(entry);
                 }
             }
         }
+        lastQuery  = text;
+        lastResult = result;
+        
+        // finally replace all rows at once
+        filteredEvents.clear();
+        @SuppressWarnings("unchecked")
+        Vector<Object> rows = tableModel.getDataVector();
+        rows.clear();
+        for (IndexEntry entry : result) {
+            filteredEvents.add(entry.event);
+            rows.add(entry.row);
+        }
+        tableModel.fireTableDataChanged();
+        LOG.fine("rows after filter: " + rows.size());
+    }
+    
+    /**
+     * Entry of the search index: an event, its table row and the normalized
+     * texts to search in.
+     */
+    private static final class IndexEntry {
+        
+        /** Separates the searchable fields (so a match never spans two fields). */
+        private static final char SEPARATOR = '\u0001';
+        
+        /** The event. */
+        private final Event event;
+        
+        /** The table row of the event. */
+        private final Object row;
+        
+        /** Name, dates, time, category and type (lower case), built on first search. */
+        private String text;
+        
+        /**
+         * Construct a new index entry.
+         * @param event - The event
+         * @param row - The table row of the event
+         */
+        private IndexEntry(Event event, Object row) {
+            this.event = event;
+            this.row   = row;
+        }
         
-        // finally create a new list of filtered events and add them again
-        String[][] content = getTableContent(filteredEvents, columns);
-        for (String[] row : content) {
-            tableModel.addRow(row);
+        /**
+         * Check whether or not the event contains a search text.
+         * @param query - Search text (lower case)
+         * @return true if name, date, time, category or type contain the search text.
+         */
+        private boolean matches(String query) {
+            if (text == null) {
+                StringBuilder sb = new StringBuilder();
+                sb.append(event.getName().toLowerCase()).append(SEPARATOR);
+                sb.append(event.getDate().print(PrintFormat.DMYYYY)).append(SEPARATOR);
+                sb.append(event.getDate().print(PrintFormat.DDMMYYYY)).append(SEPARATOR);
+                if (event.getCategory() != null) {
+                    sb.append(event.getCategory().toLowerCase()).append(SEPARATOR);
+                }
+                if (event.getDate().hasTime()) {
+                    sb.append(event.getDate().print(PrintFormat.HHmm)).append(SEPARATOR);
+                }
+                sb.append(event.getType().getShortName().toLowerCase());
+                text = sb.toString();
+            }
+            return text.indexOf(query) != -1;
         }
     }
     
@@ -163,8 +163,8 @@ public final class GUIUtils {
         // Check if a file selected already exists -> warning message
         if (dstFile.exists()
                 && JOptionPane.showConfirmDialog(parent, "Die Datei \"" + dstFile.getName()
-                        + "\" existiert bereits.\nSoll die Datei berschrieben werden?",
-                        "Datei berschreiben?", JOptionPane.YES_NO_OPTION) == JOptionPane.NO_OPTION) {
+                        + "\" existiert bereits.\nSoll die Datei überschrieben werden?",
+                        "Datei überschreiben?", JOptionPane.YES_NO_OPTION) == JOptionPane.NO_OPTION) {
             return saveFileDialog(title, filters, initDirectory, name);
         }
         
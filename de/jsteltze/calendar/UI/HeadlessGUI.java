@@ -0,0 +1,61 @@
+/**
+ *  java-kalender - Java Calendar for Germany
+ *  Copyright (C) 2012  Johannes Steltzer
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.jsteltze.calendar.UI;
+
+import java.util.logging.Logger;
+
+import de.jsteltze.calendar.applet.CalendarApplet;
+import de.jsteltze.calendar.frames.CalendarFrame;
+import de.jsteltze.common.Log;
+
+/**
+ * Calendar GUI without any window, for tools running the calendar without
+ * display (such as load tests or the command line). Messages are logged.
+ * @author Johannes Steltzer
+ *
+ */
+public class HeadlessGUI implements CalendarGUI {
+
+    /** Logger. */
+    private static final Logger LOG = Log.getLogger(HeadlessGUI.class);
+
+    @Override
+    public void updateStatusBar() { }
+
+    @Override
+    public void update() { }
+
+    @Override
+    public CalendarFrame getFrame() {
+        return null;
+    }
+
+    @Override
+    public CalendarApplet getApplet() {
+        return null;
+    }
+
+    @Override
+    public void putMessage(String msg) {
+        LOG.fine(msg);
+    }
+
+    @Override
+    public void shutdown() { }
+}
@@ -0,0 +1,364 @@
+/**
+ *  java-kalender - Java Calendar for Germany
+ *  Copyright (C) 2012  Johannes Steltzer
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.jsteltze.calendar.UI;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import de.jsteltze.calendar.Calendar;
+import de.jsteltze.calendar.Event;
+import de.jsteltze.calendar.Event.EventType;
+import de.jsteltze.calendar.Frequency;
+import de.jsteltze.calendar.config.enums.View;
+import de.jsteltze.common.Log;
+import de.jsteltze.common.calendar.Date;
+
+/**
+ * Cache of the events occurring on each day (the result of matching all events
+ * against a date). The occurrences are kept per viewed year and version of the
+ * events (see {@link Calendar#getEventsVersion()}). After each navigation the
+ * previous and next period of the current view are calculated in the background,
+ * so stepping through the calendar only needs to look up the cached occurrences.
+ * The events are matched as private copies taken on the event dispatch thread, as
+ * the EDT paints and modifies the events themselves meanwhile.
+ * <br>Each calendar has its own cache (see {@link Calendar#getOccurrenceCache()}), as the
+ * versions of the events of different calendars are unrelated.
+ * @author Johannes Steltzer
+ *
+ */
+public final class OccurrenceCache {
+
+    /** Maximum number of years to keep. */
+    private static final int MAX_YEARS = 5;
+
+    /**
+     * Occurrences of all events for the days of one viewed year.
+     */
+    public static final class Occurrences {
+
+        /** Events to return (the events as they are while viewing this year). */
+        private final List<Event> events;
+
+        /** Copies of the events to match (same order, only used within {@link #match(Date)}). */
+        private final List<Event> copies;
+
+        /** Version of the events. */
+        private final int version;
+
+        /** Day key (YYYYMMDD) mapped to the events occurring on that day. */
+        private final Map<Integer, List<Event>> days;
+
+        /**
+         * Construct new empty occurrences.
+         * @param events - Events to return
+         * @param copies - Copies of the events to match
+         * @param version - Version of the events
+         */
+        private Occurrences(List<Event> events, List<Event> copies, int version) {
+            this.events = events;
+            this.copies = copies;
+            this.version = version;
+            this.days = new ConcurrentHashMap<Integer, List<Event>>();
+        }
+
+        /**
+         * Returns the events occurring on a date. Dates without time are
+         * looked up in the cache (and matched once if not cached yet).
+         * @param date - Date of interest
+         * @return List of events occurring on this date (do not modify).
+         */
+        public List<Event> getEvents(Date date) {
+            if (date.hasTime()) {
+                return match(date);
+            }
+
+            int key = dayKey(date);
+            List<Event> matches = days.get(key);
+            if (matches == null) {
+                matches = match(date);
+                days.put(key, matches);
+            }
+            return matches;
+        }
+
+        /**
+         * Match all events against a date. The copies are matched by one thread at a time.
+         * @param date - Date of interest
+         * @return List of matching events.
+         */
+        private synchronized List<Event> match(Date date) {
+            List<Event> matches = new ArrayList<Event>(2);
+            for (int i = 0; i < copies.size(); i++) {
+                if (copies.get(i).match(date)) {
+                    matches.add(events.get(i));
+                }
+            }
+            return matches;
+        }
+    }
+
+    /** Background thread for calculating the adjacent periods. */
+    private static final ExecutorService PREFETCHER = Executors.newSingleThreadExecutor(new ThreadFactory() {
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread t = new Thread(r, "OccurrenceCache");
+            t.setDaemon(true);
+            t.setPriority(Thread.MIN_PRIORITY);
+            return t;
+        }
+    });
+
+    /** Logger. */
+    private static final Logger LOG = Log.getLogger(OccurrenceCache.class);
+
+    /** Parent calendar. */
+    private final Calendar calendar;
+
+    /** Occurrences by viewed year (least recently used first). */
+    private final Map<Integer, Occurrences> years = new LinkedHashMap<Integer, Occurrences>(MAX_YEARS, .75f, true) {
+
+        /** Default serial version UID. */
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, Occurrences> eldest) {
+            return size() > MAX_YEARS;
+        }
+    };
+
+    /** Events mapped to their copies for matching (only accessed on the EDT). */
+    private final Map<Event, Event> copies = new IdentityHashMap<Event, Event>();
+
+    /** Version of the events copied. */
+    private int copiesVersion = -1;
+
+    /** Number of the latest navigation. Prefetches of older navigations are dropped. */
+    private final AtomicInteger navigations = new AtomicInteger();
+
+    /**
+     * Construct a new empty cache.
+     * @param calendar - Parent calendar
+     */
+    public OccurrenceCache(Calendar calendar) {
+        this.calendar = calendar;
+    }
+
+    /**
+     * Returns a sortable key for the day of a date (time is ignored).
+     * @param date - Date of interest
+     * @return key of format YYYYMMDD.
+     */
+    private static int dayKey(Date date) {
+        return date.get(java.util.Calendar.YEAR) * 10000
+                + date.get(java.util.Calendar.MONTH) * 100
+                + date.get(java.util.Calendar.DAY_OF_MONTH);
+    }
+
+    /**
+     * Returns the occurrences for the currently viewed year. To be called on
+     * the event dispatch thread.
+     * @return the occurrences of the current events.
+     */
+    public Occurrences get() {
+        int year = calendar.getViewedDate().get(java.util.Calendar.YEAR);
+        int version = calendar.getEventsVersion();
+        synchronized (years) {
+            Occurrences occ = years.get(year);
+            if (occ != null && occ.version == version) {
+                return occ;
+            }
+        }
+
+        List<Event> events = new ArrayList<Event>(calendar.getAllEvents());
+        Occurrences occ = new Occurrences(events, copy(events, version), version);
+        synchronized (years) {
+            years.put(year, occ);
+        }
+        return occ;
+    }
+
+    /**
+     * Calculate the occurrences of the previous and next period in the background.
+     * To be called on the event dispatch thread after a navigation.
+     * @param view - Current view
+     * @param viewed - Currently viewed date
+     */
+    public void prefetch(View view, Date viewed) {
+        final int navigation = navigations.incrementAndGet();
+        final int version = calendar.getEventsVersion();
+        final int thisYear = new Date().get(java.util.Calendar.YEAR);
+
+        /* Events without the flexible holidays of the viewed year (snapshot on the EDT) */
+        final List<Event> base = new ArrayList<Event>();
+        for (Event e : calendar.getAllEvents()) {
+            if (e.getType() == EventType.user || e.getFrequency() != Frequency.OCCUR_ONCE
+                    || e.getDate().get(java.util.Calendar.YEAR) == thisYear) {
+                base.add(e);
+            }
+        }
+        final List<Event> baseCopies = copy(base, version);
+
+        for (int factor = -1; factor <= 1; factor += 2) {
+            final Date dest = viewed.clone();
+            dest.setHasTime(false);
+            if (view == View.year) {
+                dest.add(java.util.Calendar.YEAR, factor);
+            } else if (view == View.month) {
+                dest.add(java.util.Calendar.MONTH, factor);
+            } else if (view == View.week) {
+                dest.add(java.util.Calendar.DAY_OF_MONTH, factor * 7);
+            } else {
+                dest.add(java.util.Calendar.DAY_OF_MONTH, factor);
+            }
+            final Date first = getPeriodStart(view, dest);
+            final Date last = getPeriodEnd(view, first);
+            PREFETCHER.execute(new Runnable() {
+
+                @Override
+                public void run() {
+                    fill(base, baseCopies, version, thisYear, dest.get(java.util.Calendar.YEAR), 
+                            first, last, navigation);
+                }
+            });
+        }
+    }
+
+    /**
+     * Returns copies of events for matching off the EDT. Each event is copied once
+     * per version. To be called on the event dispatch thread.
+     * @param events - Events to copy
+     * @param version - Version of the events
+     * @return the copies (same order).
+     */
+    private List<Event> copy(List<Event> events, int version) {
+        if (version != copiesVersion || copies.size() > 2 * events.size() + 1000) {
+            copies.clear();
+            copiesVersion = version;
+        }
+        List<Event> result = new ArrayList<Event>(events.size());
+        for (Event e : events) {
+            Event copy = copies.get(e);
+            if (copy == null) {
+                copy = e.clone();
+                copies.put(e, copy);
+            }
+            result.add(copy);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the first day shown when viewing a date.
+     * @param view - Current view
+     * @param dest - Viewed date
+     * @return the first day to calculate.
+     */
+    private static Date getPeriodStart(View view, Date dest) {
+        Date date = dest.clone();
+        if (view == View.year) {
+            date.set(java.util.Calendar.DAY_OF_YEAR, 1);
+        } else if (view == View.month) {
+            date.set(java.util.Calendar.DAY_OF_MONTH, 1);
+        } else if (view == View.week) {
+            /* the first week shown might start up to a week before */
+            date.add(java.util.Calendar.DAY_OF_MONTH, -7);
+        }
+        return date;
+    }
+
+    /**
+     * Returns the last day shown after navigating to the previous or next period.
+     * @param view - Current view
+     * @param first - First day of the period (see {@link #getPeriodStart(View, Date)})
+     * @return the last day to calculate.
+     */
+    private static Date getPeriodEnd(View view, Date first) {
+        Date date = first.clone();
+        if (view == View.year) {
+            date.add(java.util.Calendar.YEAR, 1);
+        } else if (view == View.month) {
+            /* month view shows two months */
+            date.add(java.util.Calendar.MONTH, 2);
+        } else if (view == View.week) {
+            date.add(java.util.Calendar.DAY_OF_MONTH, 7 * (CellWeek.ROWS + 1));
+        } else {
+            date.add(java.util.Calendar.DAY_OF_MONTH, CellDay.COLS);
+        }
+        date.add(java.util.Calendar.DAY_OF_MONTH, -1);
+        return date;
+    }
+
+    /**
+     * Calculate the occurrences of a period. Runs on the prefetch thread.
+     * @param base - Events without the flexible holidays of the viewed year
+     * @param baseCopies - Copies of the base events taken on the EDT
+     * @param version - Version of the events
+     * @param thisYear - Current year
+     * @param year - Viewed year
+     * @param first - First day to calculate
+     * @param last - Last day to calculate
+     * @param navigation - Number of the navigation this prefetch was requested for
+     */
+    private void fill(List<Event> base, List<Event> baseCopies, int version, 
+            int thisYear, int year, Date first, Date last, int navigation) {
+        Occurrences occ;
+        synchronized (years) {
+            occ = years.get(year);
+        }
+        if (occ == null || occ.version != version) {
+            /* Events as they will be after jumping to this year */
+            List<Event> events = base;
+            List<Event> copies = baseCopies;
+            if (year != thisYear) {
+                /* flexible holidays are never modified once calculated, so no copies needed */
+                List<Event> holidays = calendar.getFlexibleHolidays(year);
+                events = new ArrayList<Event>(base);
+                events.addAll(holidays);
+                copies = new ArrayList<Event>(baseCopies);
+                copies.addAll(holidays);
+            }
+            occ = new Occurrences(events, copies, version);
+            synchronized (years) {
+                years.put(year, occ);
+            }
+        }
+
+        LOG.fine("prefetch occurrences " + first.print() + " - " + last.print());
+        Date date = first.clone();
+        while (date.dayDiff(last) <= 0) {
+            if (navigation != navigations.get()) {
+                LOG.fine("prefetch outdated");
+                return;
+            }
+            occ.getEvents(date);
+            AstroCache.getMoonPhase(date);
+            date.add(java.util.Calendar.DAY_OF_MONTH, 1);
+        }
+    }
+}
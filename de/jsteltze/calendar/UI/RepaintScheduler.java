@@ -0,0 +1,148 @@
+/**
+ *  java-kalender - Java Calendar for Germany
+ *  Copyright (C) 2012  Johannes Steltzer
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.jsteltze.calendar.UI;
+
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+import javax.swing.Timer;
+
+import de.jsteltze.common.Log;
+
+/**
+ * Coalesces bursts of update requests for the calendar view and the status bar.
+ * A request only marks the target dirty; all dirty targets are refreshed together
+ * on the event dispatch thread at the next tick (at most once per {@link #TICK} ms).
+ * So adding many events in a row (e.g. import or settings changes) causes
+ * one refresh instead of one per event.
+ * @author Johannes Steltzer
+ *
+ */
+public class RepaintScheduler implements ActionListener {
+
+    /** Time between a first request and the refresh in milliseconds. */
+    public static final int TICK = 16;
+
+    /** Refreshes the calendar view. */
+    private final Runnable viewRefresher;
+
+    /** Refreshes the status bar. */
+    private final Runnable statusBarRefresher;
+
+    /** True if the calendar view needs to be refreshed at the next tick. */
+    private final AtomicBoolean viewDirty;
+
+    /** True if the status bar needs to be refreshed at the next tick. */
+    private final AtomicBoolean statusBarDirty;
+
+    /** Number of update requests so far. */
+    private final AtomicLong requested;
+
+    /** Number of update requests merged into an already pending refresh. */
+    private final AtomicLong coalesced;
+
+    /** Timer firing the tick (on the EDT). */
+    private final Timer timer;
+
+    /** Logger. */
+    private static final Logger LOG = Log.getLogger(RepaintScheduler.class);
+
+    /**
+     * Construct a new repaint scheduler.
+     * @param viewRefresher - Refreshes the calendar view (called on the EDT)
+     * @param statusBarRefresher - Refreshes the status bar (called on the EDT)
+     */
+    public RepaintScheduler(Runnable viewRefresher, Runnable statusBarRefresher) {
+        this.viewRefresher = viewRefresher;
+        this.statusBarRefresher = statusBarRefresher;
+        this.viewDirty = new AtomicBoolean();
+        this.statusBarDirty = new AtomicBoolean();
+        this.requested = new AtomicLong();
+        this.coalesced = new AtomicLong();
+        this.timer = new Timer(TICK, this);
+        this.timer.setRepeats(false);
+    }
+
+    /**
+     * Request a refresh of the calendar view. May be called from any thread.
+     */
+    public void requestView() {
+        request(viewDirty);
+    }
+
+    /**
+     * Request a refresh of the status bar. May be called from any thread.
+     */
+    public void requestStatusBar() {
+        request(statusBarDirty);
+    }
+
+    /**
+     * Mark a target dirty and start the timer if this is the first request.
+     * @param dirty - Dirty flag of the target
+     */
+    private void request(AtomicBoolean dirty) {
+        requested.incrementAndGet();
+        if (dirty.getAndSet(true)) {
+            coalesced.incrementAndGet();
+        } else {
+            timer.start();
+        }
+    }
+
+    @Override
+    public void actionPerformed(ActionEvent e) {
+        if (viewDirty.getAndSet(false)) {
+            viewRefresher.run();
+        }
+        if (statusBarDirty.getAndSet(false)) {
+            statusBarRefresher.run();
+        }
+        LOG.finest("flushed (" + coalesced.get() + " of " + requested.get() + " requests coalesced)");
+    }
+
+    /**
+     * Stop the timer. Pending refreshes are dropped.
+     */
+    public void stop() {
+        timer.stop();
+        viewDirty.set(false);
+        statusBarDirty.set(false);
+    }
+
+    /**
+     * Returns the number of update requests since startup.
+     * @return the number of update requests since startup.
+     */
+    public long getRequestedCount() {
+        return requested.get();
+    }
+
+    /**
+     * Returns the number of update requests that were merged into an
+     * already pending refresh (and therefore did not cause a refresh of their own).
+     * @return the number of coalesced update requests.
+     */
+    public long getCoalescedCount() {
+        return coalesced.get();
+    }
+}
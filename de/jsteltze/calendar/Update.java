@@ -158,12 +158,12 @@ public class Update
                  * Notify user and wait for OK
                  */
                 if (JOptionPane.showConfirmDialog(caller.getGUI().getFrame(), 
-                        "<html><b>Es ist ein Update verfgbar: Version " + versionLine + "</b><br><br>"
+                        "<html><b>Es ist ein Update verfügbar: Version " + versionLine + "</b><br><br>"
                         + (description.isEmpty() ? "" : "<p style=\"font-family:monospace; background-color:white; "
                                 + "border-width:1px; border-style:solid; border-color:gray; padding:2.5em\">"
                                 + description + "</p>")
                         + "<br>Soll die neue Version jetzt heruntergeladen und installiert werden?</html>",
-                        "Update verfgbar", JOptionPane.YES_NO_OPTION) == JOptionPane.NO_OPTION) {
+                        "Update verfügbar", JOptionPane.YES_NO_OPTION) == JOptionPane.NO_OPTION) {
                     return;
                 }
                 
@@ -187,7 +187,7 @@ public class Update
             }
         } catch (Exception e) {
             LOG.log(Level.SEVERE, "", e);
-            error("<html>Whrend des Update-Vorgangs ist ein Fehler aufgetreten!"
+            error("<html>Während des Update-Vorgangs ist ein Fehler aufgetreten!"
                     + "<br>Das Update wird abgebrochen.</html>", e);
         }        
     }
@@ -248,7 +248,7 @@ public class Update
             new Thread(this).start();
         } catch (Exception e) {
             LOG.log(Level.SEVERE, "cannot download updater...", e);
-            error("<html>Whrend des Update-Vorgangs ist ein Fehler aufgetreten!<br>Das Update wird abgebrochen."
+            error("<html>Während des Update-Vorgangs ist ein Fehler aufgetreten!<br>Das Update wird abgebrochen."
                     + "</html>", e);
         }
     }
@@ -266,7 +266,7 @@ public class Update
                         + "</html>", null);
                 return;
             }
-            JOptionPane.showMessageDialog(caller.getGUI().getFrame(), "Um das Update abzuschlieen,"
+            JOptionPane.showMessageDialog(caller.getGUI().getFrame(), "Um das Update abzuschließen,"
                     + "\nmuss der Kalender neu gestartet werden.", "Update...", JOptionPane.PLAIN_MESSAGE);
             
             String ownJarName = Const.FILENAME;
@@ -294,7 +294,7 @@ public class Update
             LOG.log(Level.SEVERE, "", e);
             new File(Const.NEW_FILENAME).delete();
             new File(Const.UPDATER).delete();
-            error("<html>Whrend des Update-Vorgangs ist ein Fehler aufgetreten!"
+            error("<html>Während des Update-Vorgangs ist ein Fehler aufgetreten!"
                     + "<br>Das Update wird abgebrochen.</html>", e);
         }
     }
@@ -21,21 +21,27 @@ package de.jsteltze.calendar;
 import java.awt.Color;
 import java.io.File;
 import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.logging.Logger;
 
 import javax.swing.JOptionPane;
+import javax.swing.SwingUtilities;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParserFactory;
 import javax.xml.transform.TransformerException;
 
 import org.w3c.dom.Document;
+import org.w3c.dom.Element;
 import org.w3c.dom.NamedNodeMap;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
+import org.xml.sax.Attributes;
 import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
 
 import de.jsteltze.calendar.Event.EventType;
 import de.jsteltze.calendar.config.Configuration;
@@ -43,6 +49,9 @@ import de.jsteltze.calendar.config.Configuration.BoolProperty;
 import de.jsteltze.calendar.config.Configuration.EnumProperty;
 import de.jsteltze.calendar.config.Configuration.IntProperty;
 import de.jsteltze.calendar.config.enums.RemindOption;
+import de.jsteltze.calendar.metrics.Flight;
+import de.jsteltze.calendar.metrics.Metrics;
+import de.jsteltze.common.ErrorListener;
 import de.jsteltze.common.Log;
 import de.jsteltze.common.Msg;
 import de.jsteltze.common.calendar.Date;
@@ -55,8 +64,8 @@ import de.jsteltze.common.xml.XMLHandler;
  */
 public class XMLParser {
     
-    /** Parsed settings. */
-    private Configuration config = Configuration.DEFAULT_CONFIG.clone();
+    /** Parsed settings (created on demand, so parsing events alone does not load the settings). */
+    private Configuration config;
     
     /** Number of days after which an exception date will be ignored. */
     public static final long MAX_EXCEPTION_DAYS_IN_PAST = 30L;
@@ -64,9 +73,15 @@ public class XMLParser {
     /** Parsed events. */
     private List<Event> events = new ArrayList<Event>();
     
+    /** Event nodes not parsed yet (see {@link #parseEvents(File, Date, Date)}). */
+    private List<Node> deferred = new ArrayList<Node>();
+    
     /** File to parse. */
     private File file;
     
+    /** Receives parse errors instead of an error dialog (null for the dialog). */
+    private ErrorListener errorListener;
+    
     /** Logger. */
     private static Logger logger = Log.getLogger(XMLParser.class);
 
@@ -76,6 +91,15 @@ public class XMLParser {
      */
     public XMLParser() { }
     
+    /**
+     * Report parse errors to a listener instead of showing an error dialog
+     * (e.g. when running without GUI).
+     * @param x - Listener to receive parse errors
+     */
+    public void setErrorListener(ErrorListener x) {
+        this.errorListener = x;
+    }
+    
     /**
      * Parse a XML node with an integer as value. If the content cannot be parsed
      * a error message will be shown and the default value will be returned.
@@ -115,6 +139,7 @@ public class XMLParser {
      * @param configNode - Config node
      */
     private void parseConfig(Node configNode) {
+        getConfig();
         NodeList configNodes = configNode.getChildNodes();
         for (int i = 0; i < configNodes.getLength(); i++) {
             Node node = configNodes.item(i);
@@ -221,148 +246,379 @@ public class XMLParser {
             if (node.getNodeType() != Node.ELEMENT_NODE) {
                 continue;
             }
-            logger.fine("event node: " + node.getNodeValue());
+            Event parsedEvent = parseEvent(node);
+            if (parsedEvent != null) {
+                events.add(parsedEvent);
+            }
+        }
+    }
+    
+    /**
+     * Parse a single event node. If the node cannot be parsed an error message
+     * will be shown.
+     * @param node - Event node
+     * @return the parsed event or null in case of errors.
+     */
+    private Event parseEvent(Node node) {
+        logger.fine("event node: " + node.getNodeValue());
+        
+        NamedNodeMap attrs = node.getAttributes();
+        Node idNode = attrs.getNamedItem("ID");
+        Node dateNode = attrs.getNamedItem("date");
+        Node timeNode = attrs.getNamedItem("time");
+        Node endDateNode = attrs.getNamedItem("endDate");
+        Node freqNode = attrs.getNamedItem("frequency");
+        Node excNode = attrs.getNamedItem("exceptions");
+        Node weeklyNode = attrs.getNamedItem("weekly");
+        Node monthlyNode = attrs.getNamedItem("monthly");
+        Node yearlyNode = attrs.getNamedItem("yearly");
+        Node remindNode = attrs.getNamedItem("remind");
+        Node categoryNode = attrs.getNamedItem("category");
+        
+        try {
+            // Parse name
+            String eventName = node.getTextContent().trim();
             
-            NamedNodeMap attrs = node.getAttributes();
-            Node idNode = attrs.getNamedItem("ID");
-            Node dateNode = attrs.getNamedItem("date");
-            Node timeNode = attrs.getNamedItem("time");
-            Node endDateNode = attrs.getNamedItem("endDate");
-            Node freqNode = attrs.getNamedItem("frequency");
-            Node excNode = attrs.getNamedItem("exceptions");
-            Node weeklyNode = attrs.getNamedItem("weekly");
-            Node monthlyNode = attrs.getNamedItem("monthly");
-            Node yearlyNode = attrs.getNamedItem("yearly");
-            Node remindNode = attrs.getNamedItem("remind");
-            Node categoryNode = attrs.getNamedItem("category");
+            // Parse date
+            Date startDate = new Date(dateNode.getNodeValue());
+            Date endDate = null;
+            short freq = Frequency.OCCUR_ONCE;
+            RemindOption remind = null;
+            int id = -1;
             
-            try {
-                // Parse name
-                String eventName = node.getTextContent().trim();
-                
-                // Parse date
-                Date startDate = new Date(dateNode.getNodeValue());
-                Date endDate = null;
-                short freq = Frequency.OCCUR_ONCE;
-                RemindOption remind = null;
-                int id = -1;
-                
-                // Parse end date
-                if (endDateNode != null) {
-                    endDate = new Date(endDateNode.getNodeValue());
-                }
-                
-                // Parse time
-                if (timeNode != null) {
-                    startDate = new Date(dateNode.getNodeValue() + "-" + timeNode.getNodeValue());
+            // Parse end date
+            if (endDateNode != null) {
+                endDate = new Date(endDateNode.getNodeValue());
+            }
+            
+            // Parse time
+            if (timeNode != null) {
+                startDate = new Date(dateNode.getNodeValue() + "-" + timeNode.getNodeValue());
+            }
+            
+            // Parse weekly=... (deprecated)
+            if (weeklyNode != null) {
+                if (Boolean.parseBoolean(weeklyNode.getNodeValue())) {
+                    freq |= Frequency.OCCUR_WEEKLY;
                 }
-                
-                // Parse weekly=... (deprecated)
-                if (weeklyNode != null) {
-                    if (Boolean.parseBoolean(weeklyNode.getNodeValue())) {
-                        freq |= Frequency.OCCUR_WEEKLY;
-                    }
+            }
+            
+            // Parse monthly=... (deprecated)
+            if (monthlyNode != null) {
+                if (Boolean.parseBoolean(monthlyNode.getNodeValue())) {
+                    freq |= Frequency.OCCUR_MONTHLY;
                 }
-                
-                // Parse monthly=... (deprecated)
-                if (monthlyNode != null) {
-                    if (Boolean.parseBoolean(monthlyNode.getNodeValue())) {
-                        freq |= Frequency.OCCUR_MONTHLY;
-                    }
+            }
+            
+            // Parse yearly=... (deprecated)
+            if (yearlyNode != null) {
+                if (Boolean.parseBoolean(yearlyNode.getNodeValue())) {
+                    freq |= Frequency.OCCUR_YEARLY;
                 }
-                
-                // Parse yearly=... (deprecated)
-                if (yearlyNode != null) {
-                    if (Boolean.parseBoolean(yearlyNode.getNodeValue())) {
-                        freq |= Frequency.OCCUR_YEARLY;
+            }
+            
+            // Parse frequency
+            if (freqNode != null) {
+                freq = Short.parseShort(freqNode.getNodeValue());
+            }
+            
+            // Parse remind
+            if (remindNode != null) {
+                remind = RemindOption.getFromShort(remindNode.getNodeValue());
+            }
+            
+            // Parse ID
+            if (idNode != null) {
+                id = Integer.parseInt(idNode.getNodeValue());
+            }
+            
+            // Construct the parsed event so far
+            Event parsedEvent = new Event(startDate, endDate, eventName, EventType.user, freq, remind, id);
+            
+            // Parse category
+            if (categoryNode != null) {
+                parsedEvent.setCategory(categoryNode.getNodeValue());
+            }
+            
+            // Parse exceptions
+            if (freq != Frequency.OCCUR_ONCE && excNode != null) {
+                String excNodeStr = excNode.getNodeValue();
+                String[] excDates = excNodeStr.split(",");
+                for (String excDate : excDates) {
+                    Date date = new Date(excDate.trim());
+                    if (date.dayDiff(new Date()) >= -MAX_EXCEPTION_DAYS_IN_PAST) {
+                        parsedEvent.addExceptionDate(date);
+                    } else {
+                        logger.fine("skip exception date " + date.print());
                     }
                 }
-                
-                // Parse frequency
-                if (freqNode != null) {
-                    freq = Short.parseShort(freqNode.getNodeValue());
+            }
+            
+            return parsedEvent;
+            
+        } catch (Exception e) {
+            String line;
+            try {
+                line = XMLHandler.nodeToString(node);
+            } catch (TransformerException ex) {
+                line = node.getNodeName();
+            }
+            showErrorMessage(line);
+            return null;
+        }
+    }
+
+    /**
+     * Parses the specified calendar XML file for settings and events. 
+     * @param inputFile - XML file to parse
+     * @throws ParserConfigurationException if a DocumentBuilder cannot be created which 
+     * satisfies the configuration requested.
+     * @throws IOException if a DocumentBuilder cannot be created which satisfies the configuration requested.
+     * @throws SAXException If any parse errors occur.
+     */
+    public void parse(File inputFile) throws 
+        ParserConfigurationException, SAXException, IOException {
+        this.file = inputFile;
+        long start = Metrics.XML_PARSE.start();
+        Flight.Span span = Flight.begin(Flight.Type.load);
+        try {
+            DocumentBuilderFactory dbBuilderFac = DocumentBuilderFactory.newInstance();
+            DocumentBuilder dbBuilder = dbBuilderFac.newDocumentBuilder();
+            Document doc = dbBuilder.parse(inputFile);
+            doc.getDocumentElement().normalize();
+            
+            Node configNode = doc.getElementsByTagName("Config").item(0);
+            if (configNode != null) {
+                parseConfig(configNode);
+            }
+            
+            Node eventsNode = doc.getElementsByTagName("Events").item(0);
+            if (eventsNode != null) {
+                parseEvents(eventsNode);
+            }
+        } finally {
+            Metrics.XML_PARSE.stop(start);
+            span.set("fileSize", inputFile.length()).set("events", events.size()).commit();
+        }
+    }
+    
+    /**
+     * Streams the events of the specified calendar XML file and parses only the events
+     * which can occur within a window of dates: frequent events and events starting or
+     * ending within the window. All other (historic or far future) events are kept
+     * unparsed and can be parsed afterwards by {@link #parseDeferred()}. 
+     * @param inputFile - XML file to parse
+     * @param from - First day of the window
+     * @param to - Last day of the window
+     * @throws ParserConfigurationException if a parser cannot be created which 
+     * satisfies the configuration requested.
+     * @throws IOException If the file cannot be read.
+     * @throws SAXException If any parse errors occur.
+     */
+    public void parseEvents(File inputFile, Date from, Date to) throws 
+        ParserConfigurationException, SAXException, IOException {
+        this.file = inputFile;
+        final String first = from.print();
+        final String last = to.print();
+        final Document doc = DocumentBuilderFactory.newInstance().newDocumentBuilder().newDocument();
+        final List<Node> eventNodes = new ArrayList<Node>();
+        DefaultHandler handler = new DefaultHandler() {
+            
+            /** Event element currently read (null outside). */
+            private Element current;
+            
+            @Override
+            public void startElement(String uri, String localName, String qName, Attributes attributes) {
+                if (!qName.equals("Event")) {
+                    return;
                 }
-                
-                // Parse remind
-                if (remindNode != null) {
-                    remind = RemindOption.getFromShort(remindNode.getNodeValue());
+                current = doc.createElement(qName);
+                for (int i = 0; i < attributes.getLength(); i++) {
+                    current.setAttribute(attributes.getQName(i), attributes.getValue(i));
                 }
-                
-                // Parse ID
-                if (idNode != null) {
-                    id = Integer.parseInt(idNode.getNodeValue());
+            }
+            
+            @Override
+            public void endElement(String uri, String localName, String qName) {
+                if (current != null && qName.equals("Event")) {
+                    eventNodes.add(current);
+                    current = null;
                 }
-                
-                // Construct the parsed event so far
-                Event parsedEvent = new Event(startDate, endDate, eventName, EventType.user, freq, remind, id);
-                
-                // Parse category
-                if (categoryNode != null) {
-                    parsedEvent.setCategory(categoryNode.getNodeValue());
+            }
+            
+            @Override
+            public void characters(char[] ch, int start, int length) {
+                if (current != null) {
+                    current.appendChild(doc.createTextNode(new String(ch, start, length)));
                 }
-                
-                // Parse exceptions
-                if (freq != Frequency.OCCUR_ONCE && excNode != null) {
-                    String excNodeStr = excNode.getNodeValue();
-                    String[] excDates = excNodeStr.split(",");
-                    for (String excDate : excDates) {
-                        Date date = new Date(excDate.trim());
-                        if (date.dayDiff(new Date()) >= -MAX_EXCEPTION_DAYS_IN_PAST) {
-                            parsedEvent.addExceptionDate(date);
-                        } else {
-                            logger.fine("skip exception date " + date.print());
-                        }
+            }
+        };
+        long start = Metrics.XML_PARSE.start();
+        Flight.Span span = Flight.begin(Flight.Type.load);
+        try {
+            SAXParserFactory.newInstance().newSAXParser().parse(inputFile, handler);
+            
+            for (Node node : eventNodes) {
+                if (isWithin((Element) node, first, last)) {
+                    Event parsedEvent = parseEvent(node);
+                    if (parsedEvent != null) {
+                        events.add(parsedEvent);
                     }
+                } else {
+                    deferred.add(node);
                 }
-                
-                // Finally: add to list of parsed events
-                events.add(parsedEvent);
-                
-            } catch (Exception e) {
-                String line;
-                try {
-                    line = XMLHandler.nodeToString(node);
-                } catch (TransformerException ex) {
-                    line = node.getNodeName();
-                }
-                showErrorMessage(line);
             }
+        } finally {
+            Metrics.XML_PARSE.stop(start);
+            span.set("fileSize", inputFile.length()).set("events", events.size()).commit();
         }
+        logger.fine(events.size() + " events parsed, " + deferred.size() + " deferred");
     }
-
+    
     /**
-     * Parses the specified calendar XML file for settings and events. 
+     * Returns whether or not an event node can occur within a window of dates
+     * (without parsing the whole event).
+     * @param element - Event node
+     * @param first - First day of the window (format of {@link Date#print()})
+     * @param last - Last day of the window (format of {@link Date#print()})
+     * @return true if the event is frequent or starts or ends within the window.
+     */
+    private static boolean isWithin(Element element, String first, String last) {
+        String freq = element.getAttribute("frequency");
+        if (!freq.isEmpty() && !freq.equals(String.valueOf(Frequency.OCCUR_ONCE))
+                || element.hasAttribute("weekly") || element.hasAttribute("monthly") 
+                || element.hasAttribute("yearly")) {
+            return true;
+        }
+        String date = element.getAttribute("date");
+        String endDate = element.hasAttribute("endDate") ? element.getAttribute("endDate") : date;
+        return date.compareTo(last) <= 0 && endDate.compareTo(first) >= 0;
+    }
+    
+    /**
+     * Parses the events skipped by {@link #parseEvents(File, Date, Date)}.
+     * @return List of the events parsed now (also added to the list of all parsed events).
+     */
+    public List<Event> parseDeferred() {
+        List<Event> parsed = new ArrayList<Event>();
+        for (Node node : deferred) {
+            Event parsedEvent = parseEvent(node);
+            if (parsedEvent != null) {
+                parsed.add(parsedEvent);
+            }
+        }
+        deferred.clear();
+        events.addAll(parsed);
+        return parsed;
+    }
+    
+    /**
+     * Parses the settings of the specified calendar XML file. The file is streamed
+     * and reading stops at the end of the config section (which is written before 
+     * the events), so the time does not depend on the number of events. 
      * @param inputFile - XML file to parse
-     * @throws ParserConfigurationException if a DocumentBuilder cannot be created which 
+     * @throws ParserConfigurationException if a parser cannot be created which 
      * satisfies the configuration requested.
-     * @throws IOException if a DocumentBuilder cannot be created which satisfies the configuration requested.
+     * @throws IOException If the file cannot be read.
      * @throws SAXException If any parse errors occur.
      */
-    public void parse(File inputFile) throws 
+    public void parseConfig(File inputFile) throws 
         ParserConfigurationException, SAXException, IOException {
         this.file = inputFile;
-        DocumentBuilderFactory dbBuilderFac = DocumentBuilderFactory.newInstance();
-        DocumentBuilder dbBuilder = dbBuilderFac.newDocumentBuilder();
-        Document doc = dbBuilder.parse(inputFile);
-        doc.getDocumentElement().normalize();
+        final Document doc = DocumentBuilderFactory.newInstance().newDocumentBuilder().newDocument();
+        DefaultHandler handler = new DefaultHandler() {
+            
+            /** Element of the config section currently read (null outside). */
+            private Node current;
+            
+            @Override
+            public void startElement(String uri, String localName, String qName, Attributes attributes) 
+                throws SAXException {
+                if (current == null && !qName.equals("Config")) {
+                    if (qName.equals("Events")) {
+                        /* No config section */
+                        throw new StopParsingException();
+                    }
+                    return;
+                }
+                Element element = doc.createElement(qName);
+                for (int i = 0; i < attributes.getLength(); i++) {
+                    element.setAttribute(attributes.getQName(i), attributes.getValue(i));
+                }
+                if (current == null) {
+                    doc.appendChild(element);
+                } else {
+                    current.appendChild(element);
+                }
+                current = element;
+            }
+            
+            @Override
+            public void endElement(String uri, String localName, String qName) throws SAXException {
+                if (current == null) {
+                    return;
+                }
+                if (qName.equals("Config")) {
+                    throw new StopParsingException();
+                }
+                current = current.getParentNode();
+            }
+            
+            @Override
+            public void characters(char[] ch, int start, int length) {
+                if (current != null) {
+                    current.appendChild(doc.createTextNode(new String(ch, start, length)));
+                }
+            }
+        };
         
-        Node configNode = doc.getElementsByTagName("Config").item(0);
-        if (configNode != null) {
-            parseConfig(configNode);
+        try {
+            SAXParserFactory.newInstance().newSAXParser().parse(inputFile, handler);
+        } catch (StopParsingException e) {
+            logger.fine("config section read, stop parsing");
         }
         
-        Node eventsNode = doc.getElementsByTagName("Events").item(0);
-        if (eventsNode != null) {
-            parseEvents(eventsNode);
+        if (doc.getDocumentElement() != null) {
+            doc.getDocumentElement().normalize();
+            parseConfig(doc.getDocumentElement());
         }
     }
     
+    /**
+     * Thrown by the config handler to stop reading after the config section.
+     */
+    private static final class StopParsingException extends SAXException {
+
+        /** Default serial version UID. */
+        private static final long serialVersionUID = 1L;
+    }
+    
     /**
      * Shows an error massage that there was a problem with a
      * specific line and that this line will be skipped.
      * @param line - Line that could not be parsed
      */
-    private void showErrorMessage(String line) {
+    private void showErrorMessage(final String line) {
+        if (errorListener != null) {
+            errorListener.errorOccurred("Die folgende Zeile aus der Datei " + file.getName() 
+                    + " passt nicht ins Schema und wird ignoriert:\n" + line, "Fehler beim Parsen...", null);
+            return;
+        }
+        if (!SwingUtilities.isEventDispatchThread()) {
+            /* Parsing in the background (startup): show the message on the EDT and wait */
+            try {
+                SwingUtilities.invokeAndWait(new Runnable() {
+                    
+                    @Override
+                    public void run() {
+                        showErrorMessage(line);
+                    }
+                });
+            } catch (InterruptedException | InvocationTargetException e) {
+                logger.warning("cannot show error message: " + e.toString());
+            }
+            return;
+        }
         JOptionPane.showMessageDialog(null,
                 "<html>Die folgende Zeile aus der Datei <i>" + file.getName() 
                 + "</i> passt nicht ins Schema.<br><p style=\"font-family:monospace; background-color:white; "
@@ -385,6 +641,9 @@ public class XMLParser {
      * @return Configuration parsed.
      */
     public Configuration getConfig() {
+        if (config == null) {
+            config = Configuration.DEFAULT_CONFIG.clone();
+        }
         return this.config;
     }
 }
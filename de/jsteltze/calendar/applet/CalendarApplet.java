@@ -75,7 +75,7 @@ public class CalendarApplet
      * Remove selection and throw a message.
      */
     public void newSelection() {
-        putMessage("IN DIESEM ONLINE-APPLET KNNEN KEINE EREIGNISSE GENDERT WERDEN");
+        putMessage("IN DIESEM ONLINE-APPLET KÖNNEN KEINE EREIGNISSE GEÄNDERT WERDEN");
     }
     
     @Override
@@ -60,8 +60,8 @@ public final class ColorSet {
     
     /** Names for the color settings. Index in this array matches color index. */
     public static final String[] NAMES = {"Heute", "Wochenende", 
-        "Feiertag",    "Markierung", "Schriftfarbe fr Ereignisse", 
-        "Schriftfarbe fr Feiertage", "Steuerleiste",  
+        "Feiertag",    "Markierung", "Schriftfarbe für Ereignisse", 
+        "Schriftfarbe für Feiertage", "Steuerleiste",  
         "Erinnerungsfenster", "Hintergrund" };
     
     /**
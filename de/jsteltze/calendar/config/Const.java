@@ -59,8 +59,10 @@ public final class Const {
     public static final String LOCKFILE = "Kalender.lock";
     /** Log file. */
     public static final String LOGFILE = "Kalender.log";
-    /** Maximize file indicating a new instance wants to start. */
-    public static final String MAXIMIZEFILE = "Kalender.maximize";
+    /** Port file holding the address of the running instance. */
+    public static final String PORTFILE = "Kalender.port";
+    /** Full-text search index of events and notes. */
+    public static final String INDEXFILE = "Kalender.index";
     /** Release file with the latest online version number. */
     public static final String RELEASE_FILE = "Kalender.release";
     /** Events folder. */
@@ -26,6 +26,8 @@ import de.jsteltze.calendar.Event;
 import de.jsteltze.calendar.Event.EventType;
 import de.jsteltze.calendar.EventCategories;
 import de.jsteltze.calendar.Frequency;
+import de.jsteltze.calendar.config.Configuration.BoolProperty;
+import de.jsteltze.calendar.config.Configuration.IntProperty;
 import de.jsteltze.calendar.config.enums.HolidayConstants;
 import de.jsteltze.common.calendar.Date;
 import de.jsteltze.common.calendar.DateCalculations;
@@ -62,6 +64,44 @@ public final class Holidays {
         return num;
     }
     
+    /**
+     * Get all static (each year same date) holidays enabled by a configuration:
+     * by law, special days, action days and seasons.
+     * @param config - Configuration
+     * @param year - Year of interest
+     * @return List of static holidays.
+     */
+    public static List<Event> getStatic(Configuration config, int year) {
+        List<Event> holidays = new ArrayList<Event>();
+        holidays.addAll(getStaticByLaw(config.getProperty(IntProperty.HolidayID), year));
+        holidays.addAll(getStaticSpecial(config.getProperty(IntProperty.SpecialDaysID), year));
+        holidays.addAll(getStaticAction(config.getProperty(IntProperty.ActionDays1ID), 
+                config.getProperty(IntProperty.ActionDays2ID), year));
+        if (config.getProperty(BoolProperty.NotifySeason)) {
+            holidays.addAll(getStaticSeason(year));
+        }
+        return holidays;
+    }
+    
+    /**
+     * Get all flexible (date differs each year) holidays of a year enabled by a configuration:
+     * by law, special days, action days and time shifts.
+     * @param config - Configuration
+     * @param year - Year of interest
+     * @return List of flexible holidays of this year.
+     */
+    public static List<Event> getFlexible(Configuration config, int year) {
+        List<Event> holidays = new ArrayList<Event>();
+        holidays.addAll(getFlexibleByLaw(config.getProperty(IntProperty.HolidayID), year));
+        holidays.addAll(getFlexibleSpecial(config.getProperty(IntProperty.SpecialDaysID), year));
+        holidays.addAll(getFlexibleAction(config.getProperty(IntProperty.ActionDays1ID), 
+                config.getProperty(IntProperty.ActionDays2ID), year));
+        if (config.getProperty(BoolProperty.NotifyTimeShift)) {
+            holidays.addAll(getFlexibleTimeShift(year));
+        }
+        return holidays;
+    }
+    
     /**
      * Calculate easter Sunday. Use Lichtenberg. Do not use Gauss.
      * @param year - Year of interest
@@ -164,7 +204,7 @@ public final class Holidays {
             Date date = null;
             switch(h) {
             case GRDO:
-                // Grndonnerstag: 3 days before Easter Sunday
+                // Gründonnerstag: 3 days before Easter Sunday
                 date = ostersonntag.clone();
                 date.add(java.util.Calendar.DAY_OF_MONTH, -3);
                 break;
@@ -193,7 +233,7 @@ public final class Holidays {
                 date.add(java.util.Calendar.DAY_OF_MONTH, 60);
                 break;
             case BUBT:
-                // Bu-und Bettag: first Wednesday before November 22nd 
+                // Buß-und Bettag: first Wednesday before November 22nd 
                 date = new Date(year, java.util.Calendar.NOVEMBER, 22);
                 while (date.get(java.util.Calendar.DAY_OF_WEEK) != java.util.Calendar.WEDNESDAY) {
                     date.add(java.util.Calendar.DAY_OF_MONTH, -1);
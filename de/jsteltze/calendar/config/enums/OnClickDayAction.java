@@ -26,7 +26,7 @@ package de.jsteltze.calendar.config.enums;
 public enum OnClickDayAction {
     
     /** Open the event overview of the selected day. */
-    overview("Ereignisbersicht anzeigen"),
+    overview("Ereignisübersicht anzeigen"),
     
     /** Open a new event dialog for the selected day. */
     newEvent("neues Ereignis erstellen"),
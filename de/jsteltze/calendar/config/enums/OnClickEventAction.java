@@ -26,7 +26,7 @@ package de.jsteltze.calendar.config.enums;
 public enum OnClickEventAction {
     
     /** Open the event notification. */
-    open("Erinnerung ffnen"),
+    open("Erinnerung öffnen"),
     
     /** Edit the event. */
     edit("Ereignis bearbeiten"),
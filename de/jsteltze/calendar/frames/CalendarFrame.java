@@ -45,6 +45,7 @@ import javax.swing.SwingUtilities;
 
 import de.jsteltze.calendar.Calendar;
 import de.jsteltze.calendar.Event;
+import de.jsteltze.calendar.EventStatistics;
 import de.jsteltze.calendar.UI.CalendarGUI;
 import de.jsteltze.calendar.UI.CalendarPanel;
 import de.jsteltze.calendar.UI.GUIUtils;
@@ -189,6 +190,14 @@ public class CalendarFrame
         calendarPanel.update();
     }
 
+    /**
+     * Show a certain date in the calendar.
+     * @param x - Date to jump to
+     */
+    public void jumpTo(Date x) {
+        calendarPanel.jumpTo(x);
+    }
+
     /**
      * Maximize this main windows (set visible again and remove 
      * tray icon from systray). DOES NOT CHANGE FRAME SIZE.
@@ -218,8 +227,8 @@ public class CalendarFrame
      */
     public void updateAvailable(String version) {
         if (atSystray) {
-            trayIcon.displayMessage("Kalender-Update verfgbar", 
-                    "Version " + version + " wurde verffentlicht.", TrayIcon.MessageType.INFO);
+            trayIcon.displayMessage("Kalender-Update verfügbar", 
+                    "Version " + version + " wurde veröffentlicht.", TrayIcon.MessageType.INFO);
         }
         calendarPanel.updateAvailable();
     }
@@ -256,7 +265,7 @@ public class CalendarFrame
         String title = "Java-Kalender" 
                 + "\n - 1 Klick: Statusinformation abrufen"
                 + "\n - Doppelklick: Kalender hervorholen"
-                + "\n - rechte Maustaste: Men";
+                + "\n - rechte Maustaste: Menü";
         
         trayIcon = new TrayIcon(ICON_CAL_16, title, new TrayIconMenu(this));
         trayIcon.addMouseListener(new MouseAdapter() {
@@ -311,12 +320,12 @@ public class CalendarFrame
             if (!SystemTray.isSupported()) {
                 LOG.info("systray not supported!");
                 if (JOptionPane.showOptionDialog(this,
-                        "Das Betriebssystem untersttzt keinen Systray!\n"
+                        "Das Betriebssystem unterstützt keinen Systray!\n"
                                 + "Daher kann der Kalender nicht im Hintergrund laufen.\n\n"
-                                + "Um diese Meldung zuknftig zu vermeiden, muss in den Einstellungen\n"
-                                + "das Verhalten des Programms beim Schlieen des Fensters gendert werden.\n\n"
+                                + "Um diese Meldung zukünftig zu vermeiden, muss in den Einstellungen\n"
+                                + "das Verhalten des Programms beim Schließen des Fensters geändert werden.\n\n"
                                 + "Soll der Kalender jetzt beendet werden?",
-                        "Kein Systray mglich", JOptionPane.YES_NO_OPTION, JOptionPane.QUESTION_MESSAGE,
+                        "Kein Systray möglich", JOptionPane.YES_NO_OPTION, JOptionPane.QUESTION_MESSAGE,
                         null, new String[] {"Beenden", "Abbrechen"}, "Beenden") == 0) {
                     
                     /* call shutdown hook */
@@ -346,8 +355,8 @@ public class CalendarFrame
                         TrayIcon.MessageType.INFO);
             }
         } catch (Exception e) {
-            GUIUtils.showErrorMessage("<html>Der Kalender kann nicht zum Systray hinzugefgt werden!"
-                    + "<br>Der Kalender wird nun beendet...</html>", "Kein Systray mglich", e);
+            GUIUtils.showErrorMessage("<html>Der Kalender kann nicht zum Systray hinzugefügt werden!"
+                    + "<br>Der Kalender wird nun beendet...</html>", "Kein Systray möglich", e);
             
             /* call shutdown hook */
             System.exit(0);
@@ -364,21 +373,19 @@ public class CalendarFrame
         }
         int numHolidays = Holidays.getNumberOfHolidays(calendar.getConfig().getProperty(IntProperty.HolidayID))
                 + Holidays.getNumberOfHolidays(calendar.getConfig().getProperty(IntProperty.SpecialDaysID));
-        List<Event> events = calendar.getAllEvents();
+        EventStatistics statistics = calendar.getStatistics();
         List<AlarmTask> alarms = calendar.getAlarmTasks();
-        String message = "Insgesamt: " + (events.size() - numHolidays) + " Ereignisse, "
+        String message = "Insgesamt: " + statistics.getUserEventCount() + " Ereignisse, "
                 + numHolidays + " Feiertage\n\n";
         message += "Heute:";
         Date now = new Date();
         boolean haveMatches = false;
-        for (Event e : events) {
-            if (e.match(now)) {
-                message += "\n    - " + e.getName();
-                if (e.getDate().hasTime()) {
-                    message += " (" + e.getDate().print(PrintFormat.HHmm_Uhr) + ")";
-                }
-                haveMatches = true;
+        for (Event e : statistics.getTodaysEvents()) {
+            message += "\n    - " + e.getName();
+            if (e.getDate().hasTime()) {
+                message += " (" + e.getDate().print(PrintFormat.HHmm_Uhr) + ")";
             }
+            haveMatches = true;
         }
         if (!haveMatches) {
             message += " keine Ereignisse";
@@ -524,7 +531,7 @@ class TrayIconMenu
      */
     public TrayIconMenu(CalendarFrame cf) {
         super("Kalender Optionen:");
-        maxItem = new MenuItem("Kalender ffnen");
+        maxItem = new MenuItem("Kalender öffnen");
         exitItem = new MenuItem("Kalender beenden");
         maxItem.addActionListener(this);
         exitItem.addActionListener(this);
@@ -103,15 +103,15 @@ public class CalendarWelcomeFrame
         JLabel headerLabel = new JLabel(
                 "<html><h1>Willkommen zum Java-Kalender!</h1>"
                         + "<p style=\"font-size: 105%;\">Dieses Programm ist ein einfach zu bedienender"
-                        + " und platformunabhngiger Kalender.<br>"
+                        + " und platformunabhängiger Kalender.<br>"
                         + "Mit dem Kalender kann man Ereignisse verwalten und Erinnerungen einstellen.</p></html>");
         headerPanel.add(new JLabel(new ImageIcon(CalendarWelcomeFrame.class
                 .getResource("/media/calendar_new64.png"))));
         headerPanel.add(headerLabel);
 
-        tabs.addTab("Oberflche", viewPage("/media/html/gui.html"));
+        tabs.addTab("Oberfläche", viewPage("/media/html/gui.html"));
         tabs.addTab("Ereignisse", viewPage("/media/html/events.html"));
-        tabs.addTab("Regelmigkeiten", viewPage("/media/html/frequency.html"));
+        tabs.addTab("Regelmäßigkeiten", viewPage("/media/html/frequency.html"));
         tabs.addTab("Erinnerungen", viewPage("/media/html/remind.html"));
         tabs.addTab("Einstellungen", viewPage("/media/html/settings.html"));
         tabs.addTab("Intern", viewPage("/media/html/internal.html"));
@@ -119,7 +119,7 @@ public class CalendarWelcomeFrame
 
         JPanel buttonPanel = new JPanel(new BorderLayout());
         JLabel infoText = new JLabel(
-                "ber die Einstellungen kann dieses Fenster jederzeit wieder angezeigt werden.");
+                "Über die Einstellungen kann dieses Fenster jederzeit wieder angezeigt werden.");
         infoText.setForeground(Color.gray);
         buttonPanel.add(infoText, BorderLayout.WEST);
         buttonPanel.add(closeButton, BorderLayout.EAST);
@@ -174,7 +174,7 @@ public class CalendarWelcomeFrame
                 try {
                     Desktop.getDesktop().browse(e.getURL().toURI());
                 } catch (IOException | URISyntaxException e1) {
-                    GUIUtils.showErrorMessage("<html>Die URL <i>" + link + "</i> kann nicht geffnet werden.", 
+                    GUIUtils.showErrorMessage("<html>Die URL <i>" + link + "</i> kann nicht geöffnet werden.", 
                             "URL-Fehler", e1);
                 }
             } else
@@ -270,7 +270,7 @@ public class EditEvent
         JSplitPane splitPane = new JSplitPane(JSplitPane.HORIZONTAL_SPLIT, createNotesPanel(), additionalEast);
         splitPane.setBorder(null);
         splitPane.setResizeWeight(1.0 / 2.0);
-        splitPane.setBorder(GUIUtils.getTiteledBorder("Zustzliche Informationen"));
+        splitPane.setBorder(GUIUtils.getTiteledBorder("Zusätzliche Informationen"));
         extendedSettingsPanel.add(splitPane, BorderLayout.CENTER);
         extendedSettingsPanel.setBorder(new EmptyBorder(5, 5, 5, 5));
 
@@ -312,11 +312,11 @@ public class EditEvent
         super(c.getGUI().getFrame(), true);
         if (ev.getName().length() == 0) {
             if (ev.getFrequency() == Frequency.OCCUR_WEEKLY) {
-                setTitle("Neues wchentliches Ereignis...");
+                setTitle("Neues wöchentliches Ereignis...");
             } else if (ev.getEndDate() == null) {
                 setTitle("Neues Ereignis...");
             } else {
-                setTitle("Neues mehrtgiges Ereignis...");
+                setTitle("Neues mehrtägiges Ereignis...");
             }
         } else {
             setTitle("Ereignis bearbeiten...");
@@ -395,8 +395,8 @@ public class EditEvent
         generalWest.add(new JLabel("Name: "));
         
         nameField.addKeyListener(this);
-        nameField.setToolTipText("Hier die Kurzbeschreibung fr dieses Ereignis eingeben. "
-                + "Dieser Name erscheint in der Kalenderbersicht.");
+        nameField.setToolTipText("Hier die Kurzbeschreibung für dieses Ereignis eingeben. "
+                + "Dieser Name erscheint in der Kalenderübersicht.");
         nameField.setComponentPopupMenu(new JTextAreaContextMenu(nameField));
 
         if (multipleDates == null) {
@@ -421,9 +421,9 @@ public class EditEvent
                 }
             }
         } else {
-            DateListDialog dld = new DateListDialog(this, multipleDates, "Ausgewhlte Tage", "", this);
-            multipleDatesLabel = new LinkLabel("< " + multipleDates.size() + " einzeln ausgewhlte Tage >", 
-                    "Die ausgewhlten Tage anzeigen/ndern", dld);
+            DateListDialog dld = new DateListDialog(this, multipleDates, "Ausgewählte Tage", "", this);
+            multipleDatesLabel = new LinkLabel("< " + multipleDates.size() + " einzeln ausgewählte Tage >", 
+                    "Die ausgewählten Tage anzeigen/ändern", dld);
             
             multipleDatesLabel.setForeground(Color.GRAY);
             generalCenterN.add(multipleDatesLabel);
@@ -519,7 +519,7 @@ public class EditEvent
             }
         }
         
-        frequency.setBorder(GUIUtils.getTiteledBorder("Regelmigkeit"));
+        frequency.setBorder(GUIUtils.getTiteledBorder("Regelmäßigkeit"));
         setFrequencyLabels();
         frequencySupported = true;
         
@@ -592,7 +592,7 @@ public class EditEvent
         chooseButton.setMargin(new Insets(2, 2, 2, 2));
         chooseButton.setEnabled(false);
         chooseButton.addActionListener(this);
-        chooseButton.setToolTipText("Datei auswhlen");
+        chooseButton.setToolTipText("Datei auswählen");
         if (event != null && event.getID() != -1) {
             notesField.setText(event.getNotes(caller.getWorkspace()));
             File attachmentF = event.getAttachment(caller.getWorkspace());
@@ -622,7 +622,7 @@ public class EditEvent
      */
     private JPanel createNotesPanel() {
         notesField.setFont(nameField.getFont());
-        notesField.setToolTipText("Hier ist Platz fr Informationen, die nicht in den Namen passen.");
+        notesField.setToolTipText("Hier ist Platz für Informationen, die nicht in den Namen passen.");
         notesField.setComponentPopupMenu(new JTextAreaContextMenu(notesField));
         JScrollPane pScroll = new JScrollPane(notesField,
                 JScrollPane.VERTICAL_SCROLLBAR_AS_NEEDED, 
@@ -755,6 +755,14 @@ public class EditEvent
     private void submit() {
         LOG.fine("submit");
         
+        /*
+         * Neither create nor change events before all events are loaded:
+         * the ID and the event folder might belong to an event not yet loaded
+         */
+        if (!caller.checkFullyLaunched("submit")) {
+            return;
+        }
+        
         /*
          * Check valid 'Name'
          */
@@ -762,8 +770,8 @@ public class EditEvent
             caller.errorOccurred("Der Name darf nicht leer sein!", "Eingabefehler", null);
             return;
         } else if (nameField.getText().length() > MAX_LEN_NAME) {
-            caller.errorOccurred("<html>Der Name darf " + MAX_LEN_NAME + " Zeichen nicht berschreiten!"
-                    + "<br>Die <i>Notizen</i> knnen fr ausfhrlichere Beschreibungen genutzt werden.",
+            caller.errorOccurred("<html>Der Name darf " + MAX_LEN_NAME + " Zeichen nicht überschreiten!"
+                    + "<br>Die <i>Notizen</i> können für ausführlichere Beschreibungen genutzt werden.",
                     "Name zu lang...", null);
             return;
         }
@@ -861,10 +869,10 @@ public class EditEvent
                 if (categoryBox.getSelectedItem().equals("Geburtstag")
                         && !(freq1.isSelected() && yBox.isSelected() && !mBox.isSelected() && !wBox.isSelected())) {
                     if (JOptionPane.showConfirmDialog(this, 
-                            "<html>Als Kategorie wurde <i>Geburtstag</i> ausgewhlt.<br>"
-                            + "Geburtstage finden gewhnlich jhrlich statt.<br>"
-                            + "Die eingestellte Regelmigkeit entspricht nicht der jhrlichen.<br><br>"
-                            + "Soll das Ereignis trotzdem angelegt werden?", "Regelmigkeit bei Geburtstagen", 
+                            "<html>Als Kategorie wurde <i>Geburtstag</i> ausgewählt.<br>"
+                            + "Geburtstage finden gewöhnlich jährlich statt.<br>"
+                            + "Die eingestellte Regelmäßigkeit entspricht nicht der jährlichen.<br><br>"
+                            + "Soll das Ereignis trotzdem angelegt werden?", "Regelmäßigkeit bei Geburtstagen", 
                             JOptionPane.YES_NO_OPTION) == JOptionPane.NO_OPTION) {
                         return;
                     }
@@ -920,9 +928,9 @@ public class EditEvent
             
             if (!event.attachmentIsLink(caller.getWorkspace())) {
                 int answer = JOptionPane.showConfirmDialog(this, "Der bestehende Anhang dieses Ereignisses "
-                        + "war eine Kopie einer Datei.\nSoll diese Kopie wirklich gelscht werden?\n\n"
+                        + "war eine Kopie einer Datei.\nSoll diese Kopie wirklich gelöscht werden?\n\n"
                         + "Bei 'Nein' wird der alte Anhang beibehalten.",
-                        "Alten Anhang lschen...", JOptionPane.YES_NO_CANCEL_OPTION,
+                        "Alten Anhang löschen...", JOptionPane.YES_NO_CANCEL_OPTION,
                         JOptionPane.QUESTION_MESSAGE);
                 
                 if (answer == JOptionPane.NO_OPTION) {
@@ -954,9 +962,9 @@ public class EditEvent
             boolean asLink;
             Object[] options = {"Link", "Kopie", "Abbruch"};
             int auswahl = JOptionPane.showOptionDialog(caller.getGUI().getFrame(),
-                    "Soll der neue Anhang ein Link auf die ausgewhlte Datei sein\n"
+                    "Soll der neue Anhang ein Link auf die ausgewählte Datei sein\n"
                     + "oder soll eine Kopie erstellt werden?\n\nLinks sind speichereffizient, "
-                    + "aber wenn die Originaldatei\nverschoben oder gelscht wird, "
+                    + "aber wenn die Originaldatei\nverschoben oder gelöscht wird, "
                     + "funktioniert der Link nicht mehr.",
                     "Neuer Anhang...", JOptionPane.DEFAULT_OPTION,
                     JOptionPane.QUESTION_MESSAGE, null, options, options[0]);
@@ -1177,7 +1185,7 @@ public class EditEvent
             this.exceptionDates = dates;
         } else {
             this.multipleDates = dates;
-            multipleDatesLabel.setText("< " + multipleDates.size() + " einzeln ausgewhlte Tage >");
+            multipleDatesLabel.setText("< " + multipleDates.size() + " einzeln ausgewählte Tage >");
         }
     }
 }
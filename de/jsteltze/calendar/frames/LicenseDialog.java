@@ -153,7 +153,7 @@ public final class LicenseDialog {
             new IconInfo(Msg.getMessage("IconsClockIcon"), "/media/clock_alarm32.png", 
                     "WooCons", "Creative Commons Attribution", "Janik Baumgartner"),
             new IconInfo(Msg.getMessage("IconsDateIcon"), "/media/categories/date20.png",
-                    "Green And Blue", "Creative Commons Attribution", "Juan Miguel Gmez Wilson"),
+                    "Green And Blue", "Creative Commons Attribution", "Juan Miguel Gómez Wilson"),
             new IconInfo(Msg.getMessage("IconsTravelIcon"), "/media/categories/travel20.png",
                     "Standard Transport", "Freeware Non-commercial", "Aha-Soft"),
             new IconInfo(Msg.getMessage("IconsImportantIcon"), "/media/categories/important20.png",
@@ -281,7 +281,7 @@ public final class LicenseDialog {
     private static List<LibraryInfo> libs = Arrays.asList(
             new LibraryInfo("timechoosers.jar", 
                     new LinkLabel("Palantir Technologies", "https://www.palantir.com/", "https://www.palantir.com/"), 
-                    "palantir_license.txt", "<html>Auswahl/Anzeige einer Uhrzeit ber eine grafische Uhr."
+                    "palantir_license.txt", "<html>Auswahl/Anzeige einer Uhrzeit über eine grafische Uhr."
                             + "<br>Der Code wurde leicht modifiziert.<html>")
             );
 
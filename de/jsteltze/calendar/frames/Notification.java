@@ -28,7 +28,6 @@ import java.awt.event.ItemEvent;
 import java.awt.event.ItemListener;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
-import java.util.Timer;
 import java.util.logging.Logger;
 
 import javax.swing.Box;
@@ -59,6 +58,7 @@ import de.jsteltze.calendar.config.Configuration.BoolProperty;
 import de.jsteltze.calendar.config.Const;
 import de.jsteltze.calendar.config.enums.HolidayConstants;
 import de.jsteltze.calendar.tasks.AlarmTask;
+import de.jsteltze.calendar.tasks.MinuteTicker;
 import de.jsteltze.calendar.tasks.RefreshTimeLabelTask;
 import de.jsteltze.common.Log;
 import de.jsteltze.common.Music;
@@ -84,7 +84,7 @@ public class Notification
     private Button buttonAgain1, buttonAgain2; 
     
     /** Buttons for event options. */
-    private JMenuItem deleteItem = new JMenuItem("Lschen", 
+    private JMenuItem deleteItem = new JMenuItem("Löschen", 
                     new ImageIcon(Notification.class.getResource("/media/event_delete20.png"))), 
             deleteSingleItem = new JMenuItem("nur dieses Datum", 
                     new ImageIcon(Notification.class.getResource("/media/event_delete_single20.png"))),
@@ -256,7 +256,7 @@ public class Notification
                 upperString += ", " + event.getDate().print(PrintFormat.MIN_DIFF);
                 
                 refresher = new RefreshTimeLabelTask(this, duration == -1);
-                refresher.start();
+                MinuteTicker.subscribe(refresher);
             }
             
             /* add duration statement, if this is a multi-day event (duration != -1) */
@@ -265,7 +265,7 @@ public class Notification
             } else if (duration == 1) {
                 durationString += " (geht noch bis morgen):";
             } else if (duration == 2) {
-                durationString += " (geht noch bis bermorgen):";
+                durationString += " (geht noch bis übermorgen):";
             } else if (duration != -1) {
                 durationString += " (geht noch " + (duration + 1) + " Tage):";
             }
@@ -386,14 +386,14 @@ public class Notification
         }
         
         if (event.getFrequency() != Frequency.OCCUR_ONCE) {
-            String frequencyInfo = "Dieses regelmige Ereignis tritt ";
+            String frequencyInfo = "Dieses regelmäßige Ereignis tritt ";
             if (dayDiff == 0) {
                 Date tomorrow = new Date();
                 tomorrow.add(java.util.Calendar.DAY_OF_MONTH, 1);
                 Date nextOccurance = event.getNextDate(tomorrow);
                 long nextPeriod = nextOccurance.dayDiff(tomorrow) + 1;
                 if (nextPeriod > 0) {
-                    frequencyInfo += "in " + nextPeriod + " Tagen das nchste Mal auf.";
+                    frequencyInfo += "in " + nextPeriod + " Tagen das nächste Mal auf.";
                 } else {
                     frequencyInfo += "zum letzten Mal auf.";
                 }
@@ -423,7 +423,7 @@ public class Notification
         
         if (event.getType().equals(EventType.user) && event.getFrequency() != Frequency.OCCUR_ONCE) {
             // delete for frequent events
-            JMenu deleteMenu = new JMenu("Lschen");
+            JMenu deleteMenu = new JMenu("Löschen");
             deleteMenu.setIcon(new ImageIcon(CalendarPopupMenu.class.getResource("/media/event_delete20.png")));
             deleteMenu.add(deleteSingleItem);
             deleteMenu.add(deleteAllItem);
@@ -518,7 +518,7 @@ public class Notification
      */
     private void close() {
         if (refresher != null) {
-            refresher.quit();
+            MinuteTicker.unsubscribe(refresher);
         }
         caller.removeCurrentNoti(this);
         setVisible(false);
@@ -566,10 +566,8 @@ public class Notification
             }
             
             LOG.info("schedule new notification for '" + event.getName() + "' in + " + minDuration + " min");
-            Timer timer = new Timer(true);
             AlarmTask at = new AlarmTask(caller, event, minDuration * Date.MIN_1);
             caller.addAlarmTask(at);
-            timer.schedule(at, minDuration * Date.MIN_1);
         
         
         /*
@@ -0,0 +1,210 @@
+/**
+ *  java-kalender - Java Calendar for Germany
+ *  Copyright (C) 2012  Johannes Steltzer
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.jsteltze.calendar.frames;
+
+import java.awt.BorderLayout;
+import java.awt.Color;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import javax.swing.JDialog;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import javax.swing.JTextField;
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+import javax.swing.border.EmptyBorder;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+
+import de.jsteltze.calendar.Calendar;
+import de.jsteltze.calendar.Event;
+import de.jsteltze.calendar.SearchIndex;
+import de.jsteltze.calendar.UI.EventTable;
+import de.jsteltze.calendar.UI.EventTable.Columns;
+import de.jsteltze.common.Log;
+
+/**
+ * Dialog for searching all events by name, category and notes
+ * (using the full-text search index).
+ * @author Johannes Steltzer
+ *
+ */
+public class SearchDialog
+    extends JDialog
+    implements DocumentListener, ActionListener {
+
+    /** Default serial version UID. */
+    private static final long serialVersionUID = 1L;
+
+    /** Maximum number of hits to show. */
+    private static final int MAX_HITS = 200;
+
+    /** Parent calendar object. */
+    private Calendar caller;
+
+    /** Text field for the search text. */
+    private JTextField searchField;
+
+    /** Panel holding the table of hits. */
+    private JPanel resultPanel;
+
+    /** Number of hits and search time. */
+    private JLabel infoLabel;
+
+    /** Table of hits. */
+    private EventTable eventTable;
+
+    /** Delays the search until the user stops typing. */
+    private Timer debounceTimer;
+
+    /** Logger. */
+    private static final Logger LOG = Log.getLogger(SearchDialog.class);
+
+    /**
+     * Construct a new search dialog.
+     * @param c - Parent calendar object
+     */
+    public SearchDialog(Calendar c) {
+        super(c.getGUI().getFrame(), "Ereignisse durchsuchen");
+        this.caller = c;
+
+        searchField = new JTextField(30);
+        searchField.setToolTipText("Name, Kategorie oder Notizen (ohne Groß-/Kleinschreibung)");
+        searchField.getDocument().addDocumentListener(this);
+
+        debounceTimer = new Timer(EventTable.DEBOUNCE_DELAY, this);
+        debounceTimer.setRepeats(false);
+
+        infoLabel = new JLabel(" ");
+        infoLabel.setForeground(Color.gray);
+
+        JPanel northPanel = new JPanel(new BorderLayout(5, 5));
+        northPanel.add(new JLabel("Suche:"), BorderLayout.WEST);
+        northPanel.add(searchField, BorderLayout.CENTER);
+
+        resultPanel = new JPanel(new BorderLayout());
+
+        JPanel content = new JPanel(new BorderLayout(5, 5));
+        content.setBorder(new EmptyBorder(5, 5, 5, 5));
+        content.add(northPanel, BorderLayout.NORTH);
+        content.add(resultPanel, BorderLayout.CENTER);
+        content.add(infoLabel, BorderLayout.SOUTH);
+        setContentPane(content);
+
+        showHits(new ArrayList<Event>());
+
+        pack();
+        setLocationRelativeTo(caller.getGUI().getFrame());
+        setVisible(true);
+    }
+
+    /**
+     * Show a new table of hits.
+     * @param hits - Events found
+     */
+    private void showHits(List<Event> hits) {
+        eventTable = new EventTable(hits, Arrays.asList(Columns.id, Columns.name, Columns.date,
+                Columns.time, Columns.freq, Columns.category));
+        eventTable.addMouseListener(new MouseAdapter() {
+
+            @Override
+            public void mouseClicked(MouseEvent m) {
+                if (!SwingUtilities.isLeftMouseButton(m) || m.getClickCount() != 2) {
+                    return;
+                }
+                Event selected = eventTable.getSelectedEvent();
+                if (selected != null) {
+                    new Notification(caller, selected);
+                    setVisible(false);
+                    dispose();
+                }
+            }
+        });
+
+        resultPanel.removeAll();
+        resultPanel.add(new JScrollPane(eventTable), BorderLayout.CENTER);
+        resultPanel.revalidate();
+        resultPanel.repaint();
+    }
+
+    /**
+     * Search the index for the current search text and show the hits.
+     */
+    private void search() {
+        String query = searchField.getText().trim();
+        long start = System.nanoTime();
+        SearchIndex index = caller.getSearchIndex();
+        List<SearchIndex.Hit> found = index.search(query, MAX_HITS);
+        Set<Integer> ids = new HashSet<Integer>();
+        for (SearchIndex.Hit hit : found) {
+            ids.add(hit.getID());
+        }
+        Map<Integer, Event> events = ids.isEmpty() ? Collections.<Integer, Event>emptyMap() 
+                : caller.getEventsByID(ids);
+        List<Event> hits = new ArrayList<Event>();
+        for (SearchIndex.Hit hit : found) {
+            Event e = events.get(hit.getID());
+            if (e != null) {
+                hits.add(e);
+            }
+        }
+        long micros = (System.nanoTime() - start) / 1000;
+        LOG.fine("search '" + query + "': " + hits.size() + " hits in " + micros + " µs");
+
+        showHits(hits);
+        if (query.isEmpty()) {
+            infoLabel.setText(" ");
+        } else {
+            infoLabel.setText(hits.size() + (hits.size() == MAX_HITS ? "+" : "") + " Treffer ("
+                    + (micros / 1000) + " ms)" + (index.isReady() ? "" : " - Suchindex wird noch aufgebaut..."));
+        }
+    }
+
+    @Override
+    public void actionPerformed(ActionEvent a) {
+        search();
+    }
+
+    @Override
+    public void insertUpdate(DocumentEvent e) {
+        debounceTimer.restart();
+    }
+
+    @Override
+    public void removeUpdate(DocumentEvent e) {
+        debounceTimer.restart();
+    }
+
+    @Override
+    public void changedUpdate(DocumentEvent e) {
+        debounceTimer.restart();
+    }
+}
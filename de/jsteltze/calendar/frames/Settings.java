@@ -166,11 +166,11 @@ public class Settings
             if (tab.getSelectedIndex() == TAB_IMEXPORT && tabImportExport.checkSomethingSelectedNotYetExported()) {
                 
                 if (JOptionPane.showOptionDialog(caller.getGUI().getFrame(), 
-                        "Es wurden Daten zum Export ausgewhlt aber der Export wurde noch nicht durchgefhrt.\n"
-                        + "ber den Button \"Datei...\" kann der Export gestartet werden.", 
+                        "Es wurden Daten zum Export ausgewählt aber der Export wurde noch nicht durchgeführt.\n"
+                        + "Über den Button \"Datei...\" kann der Export gestartet werden.", 
                         "Export-Auswahl verwerfen?", JOptionPane.YES_NO_OPTION, JOptionPane.QUESTION_MESSAGE, null, 
-                        new String[] {"Auswahl verwerfen und Export nicht durchfhren", "zurck zur Auswahl"}, 
-                        "zurck zur Auswahl") == 1) {
+                        new String[] {"Auswahl verwerfen und Export nicht durchführen", "zurück zur Auswahl"}, 
+                        "zurück zur Auswahl") == 1) {
                     return;
                 }
             }
@@ -90,7 +90,7 @@ public class SettingsTabImportExport
     private JPanel body = new JPanel(new GridLayout(1, 1));
     
     /** The import file name. At the beginning no file yet selected. */
-    private String importFileName = "Noch keine Datei gewhlt...";
+    private String importFileName = "Noch keine Datei gewählt...";
     
     /** 
      * The title label. At import this shows the selected import file name.
@@ -260,7 +260,7 @@ public class SettingsTabImportExport
             /* add text field for searching events */
             String defFilterText = "Name, Datum, Uhrzeit oder Kategorie";
             SearchPanel searchPanel = new SearchPanel(defFilterText, "Ereignisse nach Namen, "
-                    + "Datum oder weiteren Attributen suchen (ohne Gro-/Kleinschreibung)");
+                    + "Datum oder weiteren Attributen suchen (ohne Groß-/Kleinschreibung)");
             searchPanel.addSearchListener(eventTable);
             
             JPanel headerPanel = new JPanel(new BorderLayout());
@@ -320,7 +320,7 @@ public class SettingsTabImportExport
                 } catch (Exception e) {
                     caller.errorOccurred("<html>Der Inhalt der Datei <b>" + importFileName
                             + "</b> passt nicht ins Schema!" 
-                            + "<br>Der Import kann nicht durchgefhrt werden.</html>",
+                            + "<br>Der Import kann nicht durchgeführt werden.</html>",
                             "Fehler beim Lesen...", e);
                     return;
                 }
@@ -333,7 +333,7 @@ public class SettingsTabImportExport
                 events = icalParser.getEvents();
             } else {
                 caller.errorOccurred("<html>Nur Dateien mit den Endungen <b>.xml</b> oder <b>.ical</b> "
-                        + "(bzw. <b>.ics</b>) knnen importiert werden.</html>", "Keine gltige Datei", null);
+                        + "(bzw. <b>.ics</b>) können importiert werden.</html>", "Keine gültige Datei", null);
             }
 
             titleLabel.setText(importFileName);
@@ -356,11 +356,18 @@ public class SettingsTabImportExport
     private void doImport() {
         if (!isSomethingSelected()) {
             JOptionPane.showMessageDialog(this,
-                    "Es sind keine Daten zum Importieren ausgewhlt.",
+                    "Es sind keine Daten zum Importieren ausgewählt.",
                     "Importieren...", JOptionPane.PLAIN_MESSAGE);
             return;
         }
         
+        /*
+         * Do not import before all events are loaded (the new IDs might be taken)
+         */
+        if (!caller.checkFullyLaunched("import")) {
+            return;
+        }
+        
         Configuration conf = caller.getConfig().clone();
         
         int index   = 0; // index over all checkboxes
@@ -475,7 +482,7 @@ public class SettingsTabImportExport
     private void doExport() {
         if (!isSomethingSelected()) {
             JOptionPane.showMessageDialog(this,
-                    "Es sind keine Daten zum Exportieren ausgewhlt.",
+                    "Es sind keine Daten zum Exportieren ausgewählt.",
                     "Exportieren...", JOptionPane.PLAIN_MESSAGE);
             return;
         }
@@ -602,8 +609,8 @@ public class SettingsTabImportExport
             body.removeAll();
             body.add(emptyPanel);
             hintLabel.setText("<html><body>"
-                    + "\"Datei...\" klicken,<br>um Datei zum<br>Einlesen zu whlen<br>und dann rechts<br>"
-                    + "die Auswahl treffen.<br>Import mit<br>\"Importieren\"<br>abschlieen.</body></html>");
+                    + "\"Datei...\" klicken,<br>um Datei zum<br>Einlesen zu wählen<br>und dann rechts<br>"
+                    + "die Auswahl treffen.<br>Import mit<br>\"Importieren\"<br>abschließen.</body></html>");
             titleLabel.setText(importFileName);
             // reset previously chosen items
             possibleConfig = Configuration.DEFAULT_CONFIG.clone();
@@ -125,7 +125,7 @@ public class SettingsTabInfo
             if (!javaVersion.startsWith("1.8")) {
                 GUIUtils.showErrorMessage("<html><b>Neuere Kalender-Versionen laufen nur noch mit Java 1.8!</b><br>"
                         + "Die aktuell installierte Java-Version ist: " + javaVersion + "<br><br>"
-                        + "Bitte Java aktualisieren, um auf die neusten Kalender-Versionen updaten zu knnen.</html>", 
+                        + "Bitte Java aktualisieren, um auf die neusten Kalender-Versionen updaten zu können.</html>", 
                                 "Java ist veraltet", null);
                 return;
             }
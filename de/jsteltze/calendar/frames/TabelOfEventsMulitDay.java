@@ -430,7 +430,7 @@ public class TabelOfEventsMulitDay
                 JScrollPane.VERTICAL_SCROLLBAR_AS_NEEDED, JScrollPane.HORIZONTAL_SCROLLBAR_NEVER);
         jsp.setBorder(GUIUtils.getTiteledBorder(numTotal + (weekly 
                         ? (" " + Date.dayOfWeek2String(dates.get(0).get(java.util.Calendar.DAY_OF_WEEK), false) + "e") 
-                        : " zusammenhngende Tage"),
+                        : " zusammenhängende Tage"),
                         false, 5, 5, 0, 0));
         return jsp;
     }
@@ -123,7 +123,7 @@ public class TableOfEventsSingleDay
                  */
                 String defFilterText = holidaysOnly ? "Name, Datum oder Typ" : "Name, Datum, Uhrzeit oder Kategorie";
                 SearchPanel searchPanel = new SearchPanel(defFilterText, "Ereignisse nach Namen, "
-                        + "Datum oder weiteren Attributen suchen (ohne Gro-/Kleinschreibung)");
+                        + "Datum oder weiteren Attributen suchen (ohne Groß-/Kleinschreibung)");
                 searchPanel.addSearchListener(this);
                 add(searchPanel, BorderLayout.NORTH);
             }
@@ -131,7 +131,7 @@ public class TableOfEventsSingleDay
             /*
              * No filter / scroll pane necessary
              */
-            eventPanel.setBorder(GUIUtils.getTiteledBorder(date == null ? "Ereignisse" : "bersicht"));
+            eventPanel.setBorder(GUIUtils.getTiteledBorder(date == null ? "Ereignisse" : "Übersicht"));
 
             /*
              * Show moon phase (if desired)
@@ -151,7 +151,7 @@ public class TableOfEventsSingleDay
                         moonImage = new JLabel(new ImageIcon(
                                 TableOfEventsSingleDay.class.getResource("/media/moon/half-desc.png")));
                         phaseDescription = "<html>abnehmender Halbmond<br>"
-                                + "<p align='center' style='border-top: 1px solid gray;'>nchster Neumond<br>etwa in " 
+                                + "<p align='center' style='border-top: 1px solid gray;'>nächster Neumond<br>etwa in " 
                                 + (daysToNextNew == 1 ? "einem Tag" : (daysToNextNew + " Tagen")) + "</p></html>";
                     } else if (moon == MoonState.fullMoon) {
                         moonImage = new JLabel(new ImageIcon(
@@ -161,7 +161,7 @@ public class TableOfEventsSingleDay
                         moonImage = new JLabel(new ImageIcon(
                                 TableOfEventsSingleDay.class.getResource("/media/moon/half-asc.png")));
                         phaseDescription = "<html>zunehmender Halbmond<br>"
-                                + "<p align='center' style='border-top: 1px solid gray;'>nchster Vollmond<br>etwa in " 
+                                + "<p align='center' style='border-top: 1px solid gray;'>nächster Vollmond<br>etwa in " 
                                 + (daysToNextFull == 1 ? "einem Tag" : (daysToNextFull + " Tagen")) + "</p></html>";
                     } else if (moon == MoonState.newMoon) {
                         moonImage = new JLabel(new ImageIcon(
@@ -175,10 +175,10 @@ public class TableOfEventsSingleDay
                     // only show text with number of days to next moon phase when no special moon phase right now
                     phaseDescription = daysToNextFull < daysToNextNew 
                             ? "<html>zunehmender Mond<br><p align='center' style='border-top: 1px solid gray;'>"
-                                    + "nchster Vollmond<br>etwa in " 
+                                    + "nächster Vollmond<br>etwa in " 
                                     + (daysToNextFull == 1 ? "einem Tag" : (daysToNextFull + " Tagen")) + "</p></html>"
                             : "<html>abnehmender Mond<br><p align='center' style='border-top: 1px solid gray;'>"
-                                    + "nchster Neumond<br>etwa in " 
+                                    + "nächster Neumond<br>etwa in " 
                                     + (daysToNextNew == 1 ? "einem Tag" : (daysToNextNew + " Tagen")) + "</p></html>";
                 }
                 
@@ -353,7 +353,7 @@ public class TableOfEventsSingleDay
             } else if (dayDiff == 1) {
                 title = "Morgen - ";
             } else if (dayDiff == 2) {
-                title = "bermorgen - ";
+                title = "Übermorgen - ";
             } else if (dayDiff == -1) {
                 title = "Gestern - ";
             }
@@ -370,16 +370,20 @@ public class TableOfEventsSingleDay
     }
     
     @Override
-    public void searchRequested(String searchText) {
-        eventTable.filter(searchText);
-        
-        if (searchText.isEmpty()) {
-            setTitle("Alle " + (holidaysOnly ? "Feier- und Aktionstage" 
-                    : "Ereignisse") + " (" + events.size() + ")");
-        } else {
-            setTitle((holidaysOnly ? "Feier-/Aktionstage" : "Ereignisse") + " mit \""
-                    + searchText + "\" (" + eventTable.getRowCount() + ")");
-        }
+    public void searchRequested(final String searchText) {
+        eventTable.filterDebounced(searchText, new Runnable() {
+            
+            @Override
+            public void run() {
+                if (searchText.isEmpty()) {
+                    setTitle("Alle " + (holidaysOnly ? "Feier- und Aktionstage" 
+                            : "Ereignisse") + " (" + events.size() + ")");
+                } else {
+                    setTitle((holidaysOnly ? "Feier-/Aktionstage" : "Ereignisse") + " mit \""
+                            + searchText + "\" (" + eventTable.getRowCount() + ")");
+                }
+            }
+        });
     }
     
     /**
@@ -59,6 +59,7 @@ import de.jsteltze.calendar.config.ColorSet;
 import de.jsteltze.calendar.config.Configuration.BoolProperty;
 import de.jsteltze.calendar.config.Const;
 import de.jsteltze.calendar.config.enums.HolidayConstants;
+import de.jsteltze.calendar.tasks.MinuteTicker;
 import de.jsteltze.calendar.tasks.RefreshTimeLabelTask;
 import de.jsteltze.common.ImageButton;
 import de.jsteltze.common.ImageButtonListener;
@@ -390,7 +391,7 @@ public class TableOfNotifications
             } else if (duration == 1) {
                 durationLabel.setText(" (geht noch bis morgen) ");
             } else if (duration == 2) {
-                durationLabel.setText(" (geht noch bis bermorgen) ");
+                durationLabel.setText(" (geht noch bis übermorgen) ");
             } else if (duration != -1) {
                 durationLabel.setText(" (geht noch " + (duration + 1) + " Tage) ");
             }
@@ -415,7 +416,7 @@ public class TableOfNotifications
             if (dayDiff == 0) {
                 timeString = e.getDate().print(PrintFormat.MIN_DIFF) + ": ";
                 RefreshTimeLabelTask refreshTask = new RefreshTimeLabelTask(timeLabel, e);
-                refreshTask.start();
+                MinuteTicker.subscribe(refreshTask);
                 refresherTasks.add(refreshTask);
             } else {
                 timeString = e.getDate().print(PrintFormat.Hmm) + " - ";
@@ -596,7 +597,7 @@ public class TableOfNotifications
             @Override
             public void windowClosing(WindowEvent we) {
                 for (RefreshTimeLabelTask rtlt : refresherTasks) {
-                    rtlt.quit();
+                    MinuteTicker.unsubscribe(rtlt);
                 }
             }
         });
@@ -778,7 +779,7 @@ public class TableOfNotifications
              */
             ascOrder = sortButton.isPressed();
             if (ascOrder) {
-                sortLabel.setText("Sortierung: lteste zuerst");
+                sortLabel.setText("Sortierung: älteste zuerst");
             } else {
                 sortLabel.setText("Sortierung: neuste zuerst");
             }
@@ -0,0 +1,349 @@
+/**
+ *  java-kalender - Java Calendar for Germany
+ *  Copyright (C) 2012  Johannes Steltzer
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.jsteltze.calendar.metrics;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import de.jsteltze.common.Log;
+
+/**
+ * Custom events of the calendar's main operations for the JDK Flight Recorder.
+ * The events are defined at runtime by the JFR event factory (looked up
+ * reflectively, so the calendar still runs on JREs without JFR). Events are only
+ * created while a flight recording is running; otherwise {@link #begin(Type)}
+ * returns a no-op span after reading a single volatile flag.
+ * <pre>
+ * Flight.Span span = Flight.begin(Flight.Type.save);
+ * ...
+ * span.set("bytes", size).commit();
+ * </pre>
+ * @author Johannes Steltzer
+ *
+ */
+public final class Flight {
+
+    /**
+     * Types of flight recorder events. Each type has a label and its fields
+     * (as "type name" with type int, long or String).
+     */
+    public enum Type {
+        /** Loading the calendar file. */
+        load("Load Calendar", "long fileSize", "int events"),
+        
+        /** Saving the calendar file. */
+        save("Save Calendar", "long bytes", "int events"),
+        
+        /** Painting the calendar view. */
+        paint("Paint Calendar View", "String view", "int cells", "int events"),
+        
+        /** Importing an iCal file. */
+        icalImport("iCal Import", "int vevents", "long attachmentBytes"),
+        
+        /** Exporting events to iCal. */
+        icalExport("iCal Export", "int vevents", "long attachmentBytes"),
+        
+        /** Calculating the holidays of a year. */
+        holidays("Calculate Holidays", "int year", "String kind", "String config", "int holidays"),
+        
+        /** Firing a reminder. */
+        reminder("Fire Reminder", "String event", "long lag");
+        
+        /** Label of the event. */
+        private final String label;
+        
+        /** Fields of the event ("type name"). */
+        private final String[] fields;
+        
+        /**
+         * Construct a new event type.
+         * @param label - Label of the event
+         * @param fields - Fields of the event ("type name")
+         */
+        private Type(String label, String... fields) {
+            this.label = label;
+            this.fields = fields;
+        }
+        
+        /**
+         * Returns the index of a field.
+         * @param field - Name of the field
+         * @return the index of the field.
+         */
+        private int indexOf(String field) {
+            for (int i = 0; i < fields.length; i++) {
+                if (fields[i].endsWith(" " + field)) {
+                    return i;
+                }
+            }
+            throw new IllegalArgumentException(field + " is no field of " + this);
+        }
+    }
+    
+    /**
+     * A single event from begin to commit.
+     */
+    public static final class Span {
+        
+        /** Span used while not recording. */
+        private static final Span NONE = new Span(null, null);
+        
+        /** Type of the event. */
+        private final Type type;
+        
+        /** JFR event (null if not recording). */
+        private final Object event;
+        
+        /**
+         * Construct a new span.
+         * @param type - Type of the event
+         * @param event - JFR event (already begun)
+         */
+        private Span(Type type, Object event) {
+            this.type = type;
+            this.event = event;
+        }
+        
+        /**
+         * Returns whether or not this span is recorded. Use this to skip
+         * calculating expensive field values.
+         * @return true if this span will be recorded.
+         */
+        public boolean isRecording() {
+            return event != null;
+        }
+        
+        /**
+         * Set a field of the event.
+         * @param field - Name of the field
+         * @param value - Value of the field (Integer, Long or String)
+         * @return this span.
+         */
+        public Span set(String field, Object value) {
+            if (event != null) {
+                try {
+                    setField.invoke(event, type.indexOf(field), value);
+                } catch (Exception e) {
+                    LOG.log(Level.FINE, "cannot set " + field, e);
+                }
+            }
+            return this;
+        }
+        
+        /**
+         * End the event and write it to the recording.
+         */
+        public void commit() {
+            if (event != null) {
+                try {
+                    endEvent.invoke(event);
+                    if ((Boolean) shouldCommit.invoke(event)) {
+                        commitEvent.invoke(event);
+                    }
+                } catch (Exception e) {
+                    LOG.log(Level.FINE, "cannot commit " + type, e);
+                }
+            }
+        }
+    }
+    
+    /** JFR event factory per type (empty if JFR is not available). */
+    private static final Map<Type, Object> FACTORIES = new EnumMap<Type, Object>(Type.class);
+    
+    /** Recordings currently running. */
+    private static final Set<Object> RUNNING = new HashSet<Object>();
+    
+    /** True while at least one flight recording is running. */
+    private static volatile boolean recording;
+    
+    /** Methods of the JFR API. */
+    private static Method newEvent, beginEvent, endEvent, shouldCommit, commitEvent, setField, getState, getRecordings;
+    
+    /** Logger. */
+    private static final Logger LOG = Log.getLogger(Flight.class);
+    
+    static {
+        /* registering at the flight recorder takes some 10 ms, do not delay the caller */
+        Thread t = new Thread(new Runnable() {
+            
+            @Override
+            public void run() {
+                init();
+            }
+        }, "FlightRecorderListener");
+        t.setDaemon(true);
+        t.start();
+    }
+    
+    /**
+     * Hidden constructor.
+     */
+    private Flight() { }
+    
+    /**
+     * Listen for recordings being started or stopped. The event types are
+     * defined when the first recording starts (defining them takes a while).
+     */
+    private static void init() {
+        try {
+            Class<?> factoryClass = Class.forName("jdk.jfr.EventFactory");
+            Class<?> eventClass = Class.forName("jdk.jfr.Event");
+            Class<?> recorderClass = Class.forName("jdk.jfr.FlightRecorder");
+            Class<?> listenerClass = Class.forName("jdk.jfr.FlightRecorderListener");
+            newEvent = factoryClass.getMethod("newEvent");
+            beginEvent = eventClass.getMethod("begin");
+            endEvent = eventClass.getMethod("end");
+            shouldCommit = eventClass.getMethod("shouldCommit");
+            commitEvent = eventClass.getMethod("commit");
+            setField = eventClass.getMethod("set", int.class, Object.class);
+            getState = Class.forName("jdk.jfr.Recording").getMethod("getState");
+            getRecordings = recorderClass.getMethod("getRecordings");
+            
+            Object listener = Proxy.newProxyInstance(Flight.class.getClassLoader(), 
+                    new Class<?>[] {listenerClass}, new Listener());
+            recorderClass.getMethod("addListener", listenerClass).invoke(null, listener);
+        } catch (ClassNotFoundException e) {
+            LOG.fine("flight recorder not available");
+        } catch (Exception e) {
+            LOG.log(Level.WARNING, "cannot listen to the flight recorder", e);
+        }
+    }
+    
+    /**
+     * Define the event types at the JFR event factory.
+     * @return true if the event types are defined.
+     */
+    private static boolean defineEvents() {
+        if (!FACTORIES.isEmpty()) {
+            return true;
+        }
+        try {
+            Class<?> factoryClass = Class.forName("jdk.jfr.EventFactory");
+            Constructor<?> annotation = Class.forName("jdk.jfr.AnnotationElement")
+                    .getConstructor(Class.class, Object.class);
+            Constructor<?> descriptor = Class.forName("jdk.jfr.ValueDescriptor")
+                    .getConstructor(Class.class, String.class);
+            Method create = factoryClass.getMethod("create", List.class, List.class);
+            
+            for (Type type : Type.values()) {
+                List<Object> annotations = new ArrayList<Object>();
+                annotations.add(annotation.newInstance(Class.forName("jdk.jfr.Name"), 
+                        "de.jsteltze.calendar." + type.name()));
+                annotations.add(annotation.newInstance(Class.forName("jdk.jfr.Label"), type.label));
+                annotations.add(annotation.newInstance(Class.forName("jdk.jfr.Category"), 
+                        new String[] {"Calendar"}));
+                List<Object> fields = new ArrayList<Object>();
+                for (String field : type.fields) {
+                    String[] spec = field.split(" ");
+                    Class<?> fieldType = spec[0].equals("int") ? int.class 
+                            : spec[0].equals("long") ? long.class : String.class;
+                    fields.add(descriptor.newInstance(fieldType, spec[1]));
+                }
+                FACTORIES.put(type, create.invoke(null, annotations, fields));
+            }
+            LOG.fine("flight recorder events defined");
+            return true;
+        } catch (Exception e) {
+            FACTORIES.clear();
+            LOG.log(Level.WARNING, "cannot define flight recorder events", e);
+            return false;
+        }
+    }
+    
+    /**
+     * Begin an event.
+     * @param type - Type of the event
+     * @return the span to set the fields and commit (a no-op span if no recording is running).
+     */
+    public static Span begin(Type type) {
+        if (!recording) {
+            return Span.NONE;
+        }
+        try {
+            Object event = newEvent.invoke(FACTORIES.get(type));
+            beginEvent.invoke(event);
+            return new Span(type, event);
+        } catch (Exception e) {
+            LOG.log(Level.FINE, "cannot begin " + type, e);
+            return Span.NONE;
+        }
+    }
+    
+    /**
+     * Returns whether or not a flight recording is running.
+     * @return true if a flight recording is running.
+     */
+    public static boolean isRecording() {
+        return recording;
+    }
+    
+    /**
+     * Account for a recording that changed its state.
+     * @param r - Recording (jdk.jfr.Recording)
+     * @throws Exception if the state cannot be read
+     */
+    private static void stateChanged(Object r) throws Exception {
+        boolean running = getState.invoke(r).toString().equals("RUNNING");
+        synchronized (RUNNING) {
+            if (running) {
+                RUNNING.add(r);
+            } else {
+                RUNNING.remove(r);
+            }
+            recording = !RUNNING.isEmpty() && defineEvents();
+        }
+        LOG.fine("flight recording " + (running ? "started" : "stopped"));
+    }
+    
+    /**
+     * Listener for the flight recorder (implements jdk.jfr.FlightRecorderListener).
+     */
+    private static final class Listener implements InvocationHandler {
+        
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.equals("recordingStateChanged")) {
+                stateChanged(args[0]);
+            } else if (name.equals("recorderInitialized")) {
+                /* recordings started before this listener was added (-XX:StartFlightRecording) */
+                for (Object r : (List<?>) getRecordings.invoke(args[0])) {
+                    stateChanged(r);
+                }
+            } else if (name.equals("equals")) {
+                return proxy == args[0];
+            } else if (name.equals("hashCode")) {
+                return System.identityHashCode(proxy);
+            } else if (name.equals("toString")) {
+                return Flight.class.getName();
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,353 @@
+/**
+ *  java-kalender - Java Calendar for Germany
+ *  Copyright (C) 2012  Johannes Steltzer
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.jsteltze.calendar.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import de.jsteltze.calendar.Calendar;
+import de.jsteltze.calendar.tasks.AlarmScheduler;
+import de.jsteltze.common.Log;
+
+/**
+ * Registry of the calendar's runtime metrics: timers of expensive operations,
+ * counters and a histogram of the reminder fire lag. The metrics are collected
+ * always (at the cost of an atomic update) and exposed as platform MBean
+ * {@value #OBJECT_NAME} by {@link #register(Calendar)}.
+ * @author Johannes Steltzer
+ *
+ */
+public final class Metrics {
+
+    /** Object name of the metrics MBean. */
+    public static final String OBJECT_NAME = "de.jsteltze.calendar:type=Metrics";
+
+    /**
+     * Timer of an operation. Usage:
+     * <pre>
+     * long start = Metrics.SAVE.start();
+     * try { ... } finally { Metrics.SAVE.stop(start); }
+     * </pre>
+     */
+    public static final class Timing {
+
+        /** Number of calls. */
+        private final AtomicLong count = new AtomicLong();
+
+        /** Total duration in nanoseconds. */
+        private final AtomicLong total = new AtomicLong();
+
+        /** Maximum duration in nanoseconds. */
+        private final AtomicLong max = new AtomicLong();
+
+        /**
+         * Hidden constructor.
+         */
+        private Timing() { }
+
+        /**
+         * Start timing a call.
+         * @return the start time to pass to {@link #stop(long)}.
+         */
+        public long start() {
+            return System.nanoTime();
+        }
+
+        /**
+         * Stop timing a call.
+         * @param start - Value returned by {@link #start()}
+         */
+        public void stop(long start) {
+            long nanos = System.nanoTime() - start;
+            count.incrementAndGet();
+            total.addAndGet(nanos);
+            long old = max.get();
+            while (nanos > old && !max.compareAndSet(old, nanos)) {
+                old = max.get();
+            }
+        }
+
+        /**
+         * Returns a snapshot of this timer.
+         * @return a snapshot of this timer.
+         */
+        private TimerStatistics snapshot() {
+            return new TimerStatistics(count.get(), total.get() / 1e6, max.get() / 1e6);
+        }
+
+        /**
+         * Reset this timer.
+         */
+        private void reset() {
+            count.set(0);
+            total.set(0);
+            max.set(0);
+        }
+    }
+
+    /**
+     * Histogram with fixed bucket bounds.
+     */
+    public static final class Histogram {
+
+        /** Upper bounds of the buckets (the last bucket takes all larger values). */
+        private final long[] bounds;
+
+        /** Number of values per bucket. */
+        private final AtomicLongArray counts;
+
+        /**
+         * Construct a new histogram.
+         * @param bounds - Upper bounds of the buckets (ascending)
+         */
+        private Histogram(long... bounds) {
+            this.bounds = bounds;
+            this.counts = new AtomicLongArray(bounds.length + 1);
+        }
+
+        /**
+         * Record a value.
+         * @param value - Value to record
+         */
+        public void record(long value) {
+            int i = 0;
+            while (i < bounds.length && value > bounds[i]) {
+                i++;
+            }
+            counts.incrementAndGet(i);
+        }
+
+        /**
+         * Returns the buckets of this histogram.
+         * @return Upper bound mapped to the number of values (Long.MAX_VALUE for the last bucket).
+         */
+        private Map<Long, Long> snapshot() {
+            Map<Long, Long> buckets = new TreeMap<Long, Long>();
+            for (int i = 0; i <= bounds.length; i++) {
+                buckets.put(i < bounds.length ? bounds[i] : Long.MAX_VALUE, counts.get(i));
+            }
+            return buckets;
+        }
+
+        /**
+         * Reset this histogram.
+         */
+        private void reset() {
+            for (int i = 0; i < counts.length(); i++) {
+                counts.set(i, 0);
+            }
+        }
+    }
+
+    /** Parsing calendar XML files. */
+    public static final Timing XML_PARSE = new Timing();
+
+    /** Saving the calendar XML file. */
+    public static final Timing SAVE = new Timing();
+
+    /** Painting the calendar view. */
+    public static final Timing PAINT = new Timing();
+
+    /** Parsing iCal files. */
+    public static final Timing ICAL_PARSE = new Timing();
+
+    /** Collecting the events to notify. */
+    public static final Timing EVENTS_TO_NOTIFY = new Timing();
+
+    /** Number of events matched against a date. */
+    public static final LongAdder MATCHES = new LongAdder();
+
+    /** Reminder fire lag (actual minus scheduled time) in milliseconds. */
+    public static final Histogram FIRE_LAG = new Histogram(1, 10, 100, 1000, 10000, 60000);
+
+    /** Duration of dispatching AWT events on the EDT in milliseconds. */
+    public static final Histogram EDT_DISPATCH = new Histogram(10, 50, 100, 500, 1000, 5000);
+
+    /** Number of EDT stalls detected. */
+    public static final LongAdder EDT_STALLS = new LongAdder();
+
+    /** Report of the latest EDT stall. */
+    private static volatile String lastEdtStall = "";
+
+    /** Calendar for the gauges (null until registered). */
+    private static volatile Calendar calendar;
+
+    /** Logger. */
+    private static final Logger LOG = Log.getLogger(Metrics.class);
+
+    /**
+     * Hidden constructor.
+     */
+    private Metrics() { }
+
+    /**
+     * Register the metrics MBean at the platform MBean server.
+     * @param c - Calendar to read the gauges from
+     */
+    public static synchronized void register(Calendar c) {
+        calendar = c;
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (!server.isRegistered(name)) {
+                server.registerMBean(new Bean(), name);
+                LOG.fine("registered " + OBJECT_NAME);
+            }
+        } catch (Exception e) {
+            LOG.log(Level.WARNING, "cannot register metrics MBean", e);
+        }
+    }
+
+    /**
+     * Account for an EDT stall.
+     * @param report - Event and stack of the EDT
+     */
+    public static void edtStalled(String report) {
+        EDT_STALLS.increment();
+        lastEdtStall = report;
+    }
+
+    /**
+     * Returns the number of live timer threads (java.util.Timer, Swing timer queue
+     * and the alarm scheduler).
+     * @return the number of live timer threads.
+     */
+    private static int countTimerThreads() {
+        int count = 0;
+        for (Thread t : Thread.getAllStackTraces().keySet()) {
+            String name = t.getName();
+            if (t.isAlive() && (name.startsWith("Timer") || name.equals("AlarmScheduler"))) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Implementation of the management interface.
+     */
+    private static final class Bean implements MetricsMXBean {
+
+        @Override
+        public TimerStatistics getXmlParse() {
+            return XML_PARSE.snapshot();
+        }
+
+        @Override
+        public TimerStatistics getSave() {
+            return SAVE.snapshot();
+        }
+
+        @Override
+        public TimerStatistics getPaint() {
+            return PAINT.snapshot();
+        }
+
+        @Override
+        public TimerStatistics getIcalParse() {
+            return ICAL_PARSE.snapshot();
+        }
+
+        @Override
+        public TimerStatistics getEvents2Notify() {
+            return EVENTS_TO_NOTIFY.snapshot();
+        }
+
+        @Override
+        public long getMatchCount() {
+            return MATCHES.sum();
+        }
+
+        @Override
+        public int getEventCount() {
+            Calendar c = calendar;
+            return c == null ? 0 : c.getStatistics().getUserEventCount() + c.getStatistics().getHolidayCount();
+        }
+
+        @Override
+        public Map<String, Integer> getEventsByType() {
+            Calendar c = calendar;
+            Map<String, Integer> types = new TreeMap<String, Integer>();
+            if (c != null) {
+                for (Map.Entry<?, Integer> entry : c.getStatistics().getTypeCounts().entrySet()) {
+                    types.put(entry.getKey().toString(), entry.getValue());
+                }
+            }
+            return types;
+        }
+
+        @Override
+        public int getPendingAlarms() {
+            return AlarmScheduler.getQueueSize();
+        }
+
+        @Override
+        public int getLiveTimerThreads() {
+            return countTimerThreads();
+        }
+
+        @Override
+        public Map<Long, Long> getFireLagHistogram() {
+            return FIRE_LAG.snapshot();
+        }
+
+        @Override
+        public long getMaxFireLag() {
+            return AlarmScheduler.getMaxFireLag();
+        }
+
+        @Override
+        public Map<Long, Long> getEdtDispatchHistogram() {
+            return EDT_DISPATCH.snapshot();
+        }
+
+        @Override
+        public long getEdtStallCount() {
+            return EDT_STALLS.sum();
+        }
+
+        @Override
+        public String getLastEdtStall() {
+            return lastEdtStall;
+        }
+
+        @Override
+        public void reset() {
+            XML_PARSE.reset();
+            SAVE.reset();
+            PAINT.reset();
+            ICAL_PARSE.reset();
+            EVENTS_TO_NOTIFY.reset();
+            MATCHES.reset();
+            FIRE_LAG.reset();
+            EDT_DISPATCH.reset();
+            EDT_STALLS.reset();
+            lastEdtStall = "";
+        }
+    }
+}
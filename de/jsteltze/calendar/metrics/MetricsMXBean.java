@@ -0,0 +1,110 @@
+/**
+ *  java-kalender - Java Calendar for Germany
+ *  Copyright (C) 2012  Johannes Steltzer
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.jsteltze.calendar.metrics;
+
+import java.util.Map;
+
+/**
+ * Management interface of the calendar metrics (see {@link Metrics}).
+ * Readable with JConsole or VisualVM under {@value Metrics#OBJECT_NAME}.
+ * @author Johannes Steltzer
+ *
+ */
+public interface MetricsMXBean {
+
+    /**
+     * @return Durations of parsing calendar XML files.
+     */
+    TimerStatistics getXmlParse();
+
+    /**
+     * @return Durations of saving the calendar XML file.
+     */
+    TimerStatistics getSave();
+
+    /**
+     * @return Durations of painting the calendar view.
+     */
+    TimerStatistics getPaint();
+
+    /**
+     * @return Durations of parsing iCal files.
+     */
+    TimerStatistics getIcalParse();
+
+    /**
+     * @return Durations of collecting the events to notify (and scheduling their reminders).
+     */
+    TimerStatistics getEvents2Notify();
+
+    /**
+     * @return Number of events matched against a date so far.
+     */
+    long getMatchCount();
+
+    /**
+     * @return Number of events in the list of events.
+     */
+    int getEventCount();
+
+    /**
+     * @return Event types mapped to their number of events.
+     */
+    Map<String, Integer> getEventsByType();
+
+    /**
+     * @return Number of alarm tasks waiting to fire.
+     */
+    int getPendingAlarms();
+
+    /**
+     * @return Number of live timer and scheduler threads.
+     */
+    int getLiveTimerThreads();
+
+    /**
+     * @return Upper bounds of the reminder fire lag (ms) mapped to the number of reminders.
+     */
+    Map<Long, Long> getFireLagHistogram();
+
+    /**
+     * @return Maximum reminder fire lag in milliseconds.
+     */
+    long getMaxFireLag();
+
+    /**
+     * @return Upper bounds of the EDT dispatch duration (ms) mapped to the number of AWT events.
+     */
+    Map<Long, Long> getEdtDispatchHistogram();
+
+    /**
+     * @return Number of EDT stalls detected so far.
+     */
+    long getEdtStallCount();
+
+    /**
+     * @return Report (event and stack of the EDT) of the latest EDT stall.
+     */
+    String getLastEdtStall();
+
+    /**
+     * Reset all timers, counters and histograms.
+     */
+    void reset();
+}
@@ -0,0 +1,83 @@
+/**
+ *  java-kalender - Java Calendar for Germany
+ *  Copyright (C) 2012  Johannes Steltzer
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.jsteltze.calendar.metrics;
+
+import java.beans.ConstructorProperties;
+
+/**
+ * Snapshot of a timed operation: number of calls and their durations.
+ * @author Johannes Steltzer
+ *
+ */
+public class TimerStatistics {
+
+    /** Number of calls. */
+    private final long count;
+
+    /** Total duration of all calls in milliseconds. */
+    private final double totalMillis;
+
+    /** Longest duration of a single call in milliseconds. */
+    private final double maxMillis;
+
+    /**
+     * Construct a new snapshot.
+     * @param count - Number of calls
+     * @param totalMillis - Total duration of all calls in milliseconds
+     * @param maxMillis - Longest duration of a single call in milliseconds
+     */
+    @ConstructorProperties({"count", "totalMillis", "maxMillis"})
+    public TimerStatistics(long count, double totalMillis, double maxMillis) {
+        this.count = count;
+        this.totalMillis = totalMillis;
+        this.maxMillis = maxMillis;
+    }
+
+    /**
+     * Returns the number of calls.
+     * @return the number of calls.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the total duration of all calls in milliseconds.
+     * @return the total duration of all calls in milliseconds.
+     */
+    public double getTotalMillis() {
+        return totalMillis;
+    }
+
+    /**
+     * Returns the longest duration of a single call in milliseconds.
+     * @return the longest duration of a single call in milliseconds.
+     */
+    public double getMaxMillis() {
+        return maxMillis;
+    }
+
+    /**
+     * Returns the average duration of a call in milliseconds (0 if never called).
+     * @return the average duration of a call in milliseconds.
+     */
+    public double getMeanMillis() {
+        return count == 0 ? 0 : totalMillis / count;
+    }
+}
@@ -0,0 +1,177 @@
+/**
+ *  java-kalender - Java Calendar for Germany
+ *  Copyright (C) 2012  Johannes Steltzer
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.jsteltze.calendar.tasks;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+import de.jsteltze.calendar.Event;
+
+/**
+ * Thread-safe registry of alarm tasks with at most one task per event.
+ * Tasks can be looked up by event in O(1) and are kept ordered by their
+ * fire time. Reads (lookup, size, iteration) never lock, so the GUI can
+ * query the registry while alarm tasks are added or removed by other threads.
+ * @author Johannes Steltzer
+ *
+ */
+public class AlarmRegistry {
+
+    /** Orders alarm tasks by fire time (ties broken by creation order). */
+    private static final Comparator<AlarmTask> BY_FIRE_TIME = new Comparator<AlarmTask>() {
+
+        @Override
+        public int compare(AlarmTask a, AlarmTask b) {
+            if (a.scheduledExecutionTime() != b.scheduledExecutionTime()) {
+                return a.scheduledExecutionTime() < b.scheduledExecutionTime() ? -1 : 1;
+            }
+            return a.getSequence() < b.getSequence() ? -1 : a.getSequence() == b.getSequence() ? 0 : 1;
+        }
+    };
+
+    /** Alarm tasks by event key (see {@link #keyOf(Event)}). */
+    private final ConcurrentMap<Object, AlarmTask> byEvent;
+
+    /** Alarm tasks ordered by fire time. */
+    private final ConcurrentSkipListSet<AlarmTask> byFireTime;
+
+    /**
+     * Construct a new empty alarm registry.
+     */
+    public AlarmRegistry() {
+        this.byEvent = new ConcurrentHashMap<Object, AlarmTask>();
+        this.byFireTime = new ConcurrentSkipListSet<AlarmTask>(BY_FIRE_TIME);
+    }
+
+    /**
+     * Returns the lookup key of an event. User events are identified by their ID.
+     * Holidays do not have an ID, so the event object itself is used.
+     * @param event - Event of interest
+     * @return key for the event.
+     */
+    private static Object keyOf(Event event) {
+        return event.getID() == -1 ? event : Integer.valueOf(event.getID());
+    }
+
+    /**
+     * Register an alarm task. The task must be scheduled already (its fire
+     * time must not change while registered). An alarm task registered for
+     * the same event before will be replaced.
+     * @param x - Alarm task to register
+     * @return the replaced alarm task (NOT cancelled) or null.
+     */
+    public AlarmTask put(AlarmTask x) {
+        AlarmTask old = byEvent.put(keyOf(x.getEvent()), x);
+        if (old != null) {
+            byFireTime.remove(old);
+        }
+        byFireTime.add(x);
+        return old;
+    }
+
+    /**
+     * Returns the alarm task registered for an event.
+     * @param event - Event of interest
+     * @return the alarm task for this event or null.
+     */
+    public AlarmTask get(Event event) {
+        return byEvent.get(keyOf(event));
+    }
+
+    /**
+     * Unregister the alarm task of an event. DOES NOT CANCEL THE TASK.
+     * @param event - Event of interest
+     * @return the removed alarm task or null.
+     */
+    public AlarmTask remove(Event event) {
+        AlarmTask old = byEvent.remove(keyOf(event));
+        if (old != null) {
+            byFireTime.remove(old);
+        }
+        return old;
+    }
+
+    /**
+     * Unregister an alarm task (if still registered). DOES NOT CANCEL THE TASK.
+     * @param x - Alarm task to remove
+     * @return true if the task was registered.
+     */
+    public boolean remove(AlarmTask x) {
+        if (byEvent.remove(keyOf(x.getEvent()), x)) {
+            byFireTime.remove(x);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Move an alarm task to a new event (e.g. after the event was edited).
+     * The event must have the same key (ID) as the old one.
+     * @param x - Alarm task to move
+     * @param newEvent - New event for the alarm task
+     */
+    public void setEvent(AlarmTask x, Event newEvent) {
+        boolean registered = remove(x);
+        x.setEvent(newEvent);
+        if (registered) {
+            put(x);
+        }
+    }
+
+    /**
+     * Returns all registered alarm tasks ordered by fire time (earliest first).
+     * @return a snapshot of all alarm tasks.
+     */
+    public List<AlarmTask> getAll() {
+        return new ArrayList<AlarmTask>(byFireTime);
+    }
+
+    /**
+     * Returns the alarm task that fires next.
+     * @return the next alarm task or null if empty.
+     */
+    public AlarmTask getNext() {
+        Iterator<AlarmTask> it = byFireTime.iterator();
+        return it.hasNext() ? it.next() : null;
+    }
+
+    /**
+     * Returns the number of registered alarm tasks.
+     * @return the number of registered alarm tasks.
+     */
+    public int size() {
+        return byEvent.size();
+    }
+
+    /**
+     * Cancel and unregister all alarm tasks.
+     */
+    public void cancelAll() {
+        for (AlarmTask x : byFireTime) {
+            x.cancel();
+        }
+        byEvent.clear();
+        byFireTime.clear();
+    }
+}
@@ -0,0 +1,174 @@
+/**
+ *  java-kalender - Java Calendar for Germany
+ *  Copyright (C) 2012  Johannes Steltzer
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.jsteltze.calendar.tasks;
+
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+import de.jsteltze.calendar.metrics.Metrics;
+import de.jsteltze.common.Log;
+
+/**
+ * Single scheduler thread for all alarm tasks. Instead of starting one timer
+ * thread per pending reminder, all alarm tasks are queued here and fired by
+ * one daemon thread. Cancelled tasks are removed from the queue right away
+ * (O(log n)), so editing or deleting events does not leave dead entries behind.
+ * The executor measures delays in system uptime which stands still while the
+ * computer sleeps, so a pending alarm waits at most {@link #MAX_HOP} ms at once and
+ * checks its fire time against the wall clock in between.
+ * @author Johannes Steltzer
+ *
+ */
+public final class AlarmScheduler {
+
+    /** Maximum time in milliseconds a pending alarm waits before checking the wall clock again. */
+    static final long MAX_HOP = 5 * 60 * 1000L;
+
+    /** Name of the scheduler thread. */
+    private static final String THREAD_NAME = "AlarmScheduler";
+
+    /** Executor holding all scheduled alarm tasks. */
+    private static final ScheduledThreadPoolExecutor EXECUTOR =
+            new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+
+                @Override
+                public Thread newThread(Runnable r) {
+                    Thread t = new Thread(r, THREAD_NAME);
+                    t.setDaemon(true);
+                    return t;
+                }
+            });
+
+    static {
+        EXECUTOR.setRemoveOnCancelPolicy(true);
+    }
+
+    /** Number of alarm tasks fired so far. */
+    private static final AtomicLong FIRED = new AtomicLong();
+
+    /** Fire lag (actual minus scheduled time) of the latest alarm in milliseconds. */
+    private static final AtomicLong LAST_LAG = new AtomicLong();
+
+    /** Maximum fire lag observed so far in milliseconds. */
+    private static final AtomicLong MAX_LAG = new AtomicLong();
+
+    /** Sum of all fire lags in milliseconds (for the average). */
+    private static final AtomicLong TOTAL_LAG = new AtomicLong();
+
+    /** Logger. */
+    private static final Logger LOG = Log.getLogger(AlarmScheduler.class);
+
+    /**
+     * Hidden constructor.
+     */
+    private AlarmScheduler() { }
+
+    /**
+     * Schedule an alarm task. The task will fire after the delay
+     * it was constructed with.
+     * @param task - Alarm task to schedule
+     */
+    public static void schedule(AlarmTask task) {
+        schedule(task, task.getDelay());
+    }
+
+    /**
+     * Schedule an alarm task to fire after a certain delay. If the task
+     * is already scheduled it will be moved to the new time.
+     * @param task - Alarm task to schedule
+     * @param delay - Delay in milliseconds
+     */
+    public static void schedule(AlarmTask task, long delay) {
+        LOG.fine("schedule alarm for '" + task.getEvent().getName() + "' in " + delay + " ms");
+        task.arm(EXECUTOR, System.currentTimeMillis() + delay);
+    }
+
+    /**
+     * Wait for the next hop of an alarm task whose fire time is not reached yet.
+     * @param task - Alarm task to re-arm
+     */
+    static void rearm(AlarmTask task) {
+        task.arm(EXECUTOR, task.scheduledExecutionTime());
+    }
+
+    /**
+     * Records the lag of a fired alarm task.
+     * @param lag - Actual minus scheduled fire time in milliseconds
+     */
+    static void alarmFired(long lag) {
+        FIRED.incrementAndGet();
+        LAST_LAG.set(lag);
+        TOTAL_LAG.addAndGet(lag);
+        long max = MAX_LAG.get();
+        while (lag > max && !MAX_LAG.compareAndSet(max, lag)) {
+            max = MAX_LAG.get();
+        }
+        Metrics.FIRE_LAG.record(lag);
+    }
+
+    /**
+     * Returns the number of alarm tasks currently waiting in the queue.
+     * @return the number of alarm tasks currently waiting in the queue.
+     */
+    public static int getQueueSize() {
+        return EXECUTOR.getQueue().size();
+    }
+
+    /**
+     * Returns the number of alarm tasks fired since startup.
+     * @return the number of alarm tasks fired since startup.
+     */
+    public static long getFiredCount() {
+        return FIRED.get();
+    }
+
+    /**
+     * Returns the fire lag of the latest alarm task in milliseconds.
+     * @return the fire lag of the latest alarm task in milliseconds.
+     */
+    public static long getLastFireLag() {
+        return LAST_LAG.get();
+    }
+
+    /**
+     * Returns the maximum fire lag observed so far in milliseconds.
+     * @return the maximum fire lag observed so far in milliseconds.
+     */
+    public static long getMaxFireLag() {
+        return MAX_LAG.get();
+    }
+
+    /**
+     * Returns the average fire lag in milliseconds (0 if nothing fired yet).
+     * @return the average fire lag in milliseconds.
+     */
+    public static long getAverageFireLag() {
+        long fired = FIRED.get();
+        return fired == 0 ? 0 : TOTAL_LAG.get() / fired;
+    }
+
+    /**
+     * Stop the scheduler and drop all pending alarm tasks.
+     */
+    public static void shutdown() {
+        EXECUTOR.shutdownNow();
+    }
+}
@@ -18,21 +18,27 @@
 
 package de.jsteltze.calendar.tasks;
 
-import java.util.TimerTask;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Logger;
 
+import javax.swing.SwingUtilities;
+
 import de.jsteltze.calendar.Calendar;
 import de.jsteltze.calendar.Event;
 import de.jsteltze.calendar.frames.Notification;
+import de.jsteltze.calendar.metrics.Flight;
 import de.jsteltze.common.Log;
 
 /**
- * Task thread for a notification.
+ * Task for a notification. All alarm tasks are fired by the
+ * {@link AlarmScheduler}.
  * @author Johannes Steltzer
  *
  */
 public class AlarmTask 
-    extends TimerTask 
     implements Runnable {
 
     /** Subject of notification. */
@@ -41,8 +47,23 @@ public class AlarmTask
     /** Parent calendar object. */
     private Calendar caller;
     
-    /** Scheduled time in milliseconds. */
-    private long scheduledTime;
+    /** Delay in milliseconds (as passed on construction). */
+    private long delay;
+    
+    /** Scheduled fire time in milliseconds (absolute). */
+    private volatile long fireTime;
+    
+    /** Handle of the next scheduled hop (null if not scheduled). */
+    private ScheduledFuture<?> future;
+    
+    /** Counts the armings (hops of a previous arming are ignored). */
+    private int generation;
+    
+    /** Creation order of this task (to order tasks with equal fire time). */
+    private final long sequence;
+    
+    /** Counter for the creation order. */
+    private static final AtomicLong SEQUENCE = new AtomicLong();
     
     /** Logger. */
     private static final Logger LOG = Log.getLogger(AlarmTask.class);
@@ -51,13 +72,15 @@ public class AlarmTask
      * Construct a new alarm task.
      * @param c - Parent calendar object
      * @param e - Event to notify of
-     * @param scheduledTime - Scheduled time in milliseconds
+     * @param delay - Delay in milliseconds until the alarm fires
      */
-    public AlarmTask(Calendar c, Event e, long scheduledTime) {
+    public AlarmTask(Calendar c, Event e, long delay) {
         super();
         this.event = e;
         this.caller = c;
-        this.scheduledTime = scheduledTime;
+        this.delay = delay;
+        this.fireTime = System.currentTimeMillis() + delay;
+        this.sequence = SEQUENCE.incrementAndGet();
     }
 
     /**
@@ -75,16 +98,102 @@ public class AlarmTask
     public void setEvent(Event x) {
         this.event = x;
     }
+    
+    /**
+     * Returns the creation order of this task.
+     * @return the creation order of this task.
+     */
+    long getSequence() {
+        return this.sequence;
+    }
+    
+    /**
+     * Returns the delay in milliseconds this task was constructed with.
+     * @return the delay in milliseconds.
+     */
+    long getDelay() {
+        return this.delay;
+    }
+    
+    /**
+     * Schedule the next hop towards a fire time (replaces a previous schedule).
+     * A hop lasts at most {@link AlarmScheduler#MAX_HOP} ms.
+     * @param executor - Executor to schedule the hop on
+     * @param time - Absolute fire time in milliseconds
+     */
+    synchronized void arm(ScheduledExecutorService executor, long time) {
+        cancelFuture();
+        this.fireTime = time;
+        final int armed = ++generation;
+        long hop = Math.max(0, Math.min(time - System.currentTimeMillis(), AlarmScheduler.MAX_HOP));
+        this.future = executor.schedule(new Runnable() {
+
+            @Override
+            public void run() {
+                hop(armed);
+            }
+        }, hop, TimeUnit.MILLISECONDS);
+    }
+    
+    /**
+     * A hop has elapsed: fire if the fire time is reached (wall clock), wait for 
+     * the next hop otherwise.
+     * @param armed - Arming the hop belongs to
+     */
+    private void hop(int armed) {
+        synchronized (this) {
+            if (armed != generation || future == null) {
+                return;
+            }
+            if (fireTime > System.currentTimeMillis()) {
+                AlarmScheduler.rearm(this);
+                return;
+            }
+            this.future = null;
+        }
+        run();
+    }
+    
+    /**
+     * Cancel the scheduled hop (if any) without further notice.
+     * @return true if a hop was still pending.
+     */
+    synchronized boolean cancelFuture() {
+        ScheduledFuture<?> f = this.future;
+        this.future = null;
+        return f != null && f.cancel(false);
+    }
+    
+    /**
+     * Cancel this alarm task. The task will be removed from the scheduler queue.
+     * @return true if the task was still pending.
+     */
+    public boolean cancel() {
+        return cancelFuture();
+    }
 
     @Override
     public void run() {
+        Flight.Span span = Flight.begin(Flight.Type.reminder);
+        long lag = System.currentTimeMillis() - fireTime;
+        AlarmScheduler.alarmFired(lag);
         LOG.fine("fire alarm task for event: " + event.getName());
-        caller.removeAlarmTask(this);
-        new Notification(caller, event);
+        SwingUtilities.invokeLater(new Runnable() {
+            
+            @Override
+            public void run() {
+                caller.removeAlarmTask(AlarmTask.this);
+                new Notification(caller, event);
+            }
+        });
+        span.set("event", event.getName()).set("lag", lag).commit();
     }
     
-    @Override
+    /**
+     * Returns the time (in milliseconds) this task is scheduled to fire.
+     * @return the scheduled fire time in milliseconds.
+     */
     public long scheduledExecutionTime() {
-        return this.scheduledTime;
+        return this.fireTime;
     }
 }
\ No newline at end of file
@@ -0,0 +1,296 @@
+/**
+ *  java-kalender - Java Calendar for Germany
+ *  Copyright (C) 2012  Johannes Steltzer
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.jsteltze.calendar.tasks;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+/**
+ * Log handler that decouples logging from writing: records are put into a
+ * bounded lock-free ring buffer and written to the actual handlers (log file,
+ * log window, console) by a background thread. So logging never blocks the calling
+ * thread (e.g. the event dispatch thread) on disk. If the buffer is full
+ * (log storm), further records are dropped and the number of dropped records
+ * is logged once the writer caught up.
+ * <br>Each logger owning handlers gets its own asynchronous handler in place of
+ * its handlers; all of them share the same buffer and writer thread.
+ * @author Johannes Steltzer
+ *
+ */
+public final class AsyncLogHandler extends Handler {
+
+    /** Number of records the buffer can hold (power of 2). */
+    public static final int CAPACITY = 8192;
+
+    /** Time the writer waits for new records before checking again in milliseconds. */
+    private static final long IDLE_WAIT = 500;
+
+    /** Name of the writer thread. */
+    private static final String THREAD_NAME = "LogWriter";
+
+    /** Shared buffer and writer thread (null if not installed). */
+    private static Ring ring;
+
+    /**
+     * A record together with the handler it was published to.
+     */
+    private static final class Entry {
+
+        /** Asynchronous handler the record was published to. */
+        private final AsyncLogHandler handler;
+
+        /** Record to write. */
+        private final LogRecord record;
+
+        /**
+         * Construct a new entry.
+         * @param handler - Asynchronous handler the record was published to
+         * @param record - Record to write
+         */
+        private Entry(AsyncLogHandler handler, LogRecord record) {
+            this.handler = handler;
+            this.record = record;
+        }
+    }
+
+    /**
+     * Ring buffer of records and the thread writing them.
+     */
+    private static final class Ring implements Runnable {
+
+        /** Asynchronous handlers using this ring. */
+        private final List<AsyncLogHandler> handlers;
+
+        /** Slots of the buffer. */
+        private final AtomicReferenceArray<Entry> slots;
+
+        /** Sequence number of the next record to put (claimed by the producers). */
+        private final AtomicLong tail;
+
+        /** Sequence number of the next record to write (only changed by the writer). */
+        private volatile long head;
+
+        /** Number of records dropped since the last report. */
+        private final AtomicLong dropped;
+
+        /** Writer thread. */
+        private final Thread writer;
+
+        /** False once the writer is stopped. */
+        private volatile boolean running;
+
+        /**
+         * Construct a new ring and start its writer thread.
+         * @param handlers - Asynchronous handlers using this ring
+         */
+        private Ring(List<AsyncLogHandler> handlers) {
+            this.handlers = handlers;
+            this.slots = new AtomicReferenceArray<Entry>(CAPACITY);
+            this.tail = new AtomicLong();
+            this.dropped = new AtomicLong();
+            this.running = true;
+            this.writer = new Thread(this, THREAD_NAME);
+            this.writer.setDaemon(true);
+            this.writer.setPriority(Thread.MIN_PRIORITY);
+            this.writer.start();
+        }
+
+        /**
+         * Put a record into the buffer (or drop it if the buffer is full).
+         * @param entry - Record and its handler
+         */
+        private void put(Entry entry) {
+            long seq;
+            do {
+                seq = tail.get();
+                if (seq - head >= CAPACITY) {
+                    dropped.incrementAndGet();
+                    return;
+                }
+            } while (!tail.compareAndSet(seq, seq + 1));
+            slots.set((int) (seq & (CAPACITY - 1)), entry);
+            LockSupport.unpark(writer);
+        }
+
+        @Override
+        public void run() {
+            while (running) {
+                if (!drain()) {
+                    LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(IDLE_WAIT));
+                }
+            }
+            while (drain()) {
+                /* write the rest */
+            }
+        }
+
+        /**
+         * Write the records currently in the buffer (at most one buffer full, so
+         * dropped records are reported during long log storms, too). Runs on the
+         * writer thread.
+         * @return true if any records were written.
+         */
+        private boolean drain() {
+            boolean written = false;
+            for (int i = 0; i < CAPACITY && head != tail.get(); i++) {
+                int index = (int) (head & (CAPACITY - 1));
+                Entry entry = slots.get(index);
+                if (entry == null) {
+                    /* slot claimed but not yet filled */
+                    Thread.yield();
+                    i--;
+                    continue;
+                }
+                slots.set(index, null);
+                head++;
+                entry.handler.write(entry.record);
+                written = true;
+            }
+
+            long lost = dropped.getAndSet(0);
+            if (lost > 0) {
+                LogRecord warning = new LogRecord(Level.WARNING, lost + " log records dropped (log buffer full)");
+                warning.setLoggerName(AsyncLogHandler.class.getName());
+                for (AsyncLogHandler h : handlers) {
+                    h.write(warning);
+                }
+                written = true;
+            }
+            if (written) {
+                for (AsyncLogHandler h : handlers) {
+                    for (Handler target : h.targets) {
+                        target.flush();
+                    }
+                }
+            }
+            return written;
+        }
+    }
+
+    /** Handlers the records are written to. */
+    private final Handler[] targets;
+
+    /** Buffer the records are put into. */
+    private final Ring buffer;
+
+    /**
+     * Construct a new asynchronous handler.
+     * @param targets - Handlers to write the records to
+     * @param buffer - Buffer to put the records into
+     */
+    private AsyncLogHandler(Handler[] targets, Ring buffer) {
+        this.targets = targets;
+        this.buffer = buffer;
+    }
+
+    /**
+     * Put the handlers of a logger and each of its parents (as set up by the common Log,
+     * e.g. log file and log window, and the console handler of the root logger)
+     * behind asynchronous handlers. Each logger keeps receiving the same records
+     * as before, they are only written by the writer thread.
+     * @param logger - Logger of the application
+     */
+    public static synchronized void install(Logger logger) {
+        if (ring != null) {
+            return;
+        }
+        List<AsyncLogHandler> handlers = new CopyOnWriteArrayList<AsyncLogHandler>();
+        ring = new Ring(handlers);
+        int count = 0;
+        for (Logger l = logger; l != null; l = l.getParent()) {
+            Handler[] targets = l.getHandlers();
+            if (targets.length == 0) {
+                continue;
+            }
+            AsyncLogHandler handler = new AsyncLogHandler(targets, ring);
+            handlers.add(handler);
+            for (Handler h : targets) {
+                l.removeHandler(h);
+            }
+            l.addHandler(handler);
+            count += targets.length;
+        }
+        logger.fine("asynchronous logging to " + count + " handler(s) of " + handlers.size() + " logger(s)");
+    }
+
+    /**
+     * Write all pending records and stop the writer thread. Records logged
+     * afterwards are written directly. The actual handlers are not closed
+     * (see {@link de.jsteltze.common.Log#closeAll()}).
+     */
+    public static synchronized void shutdown() {
+        if (ring == null || !ring.running) {
+            return;
+        }
+        ring.running = false;
+        LockSupport.unpark(ring.writer);
+        try {
+            ring.writer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (record == null) {
+            return;
+        }
+        if (!buffer.running) {
+            write(record);
+            return;
+        }
+        /* capture the caller now, it cannot be inferred on the writer thread */
+        record.getSourceClassName();
+        buffer.put(new Entry(this, record));
+    }
+
+    /**
+     * Write a record to all handlers.
+     * @param record - Record to write
+     */
+    private void write(LogRecord record) {
+        for (Handler h : targets) {
+            try {
+                h.publish(record);
+            } catch (RuntimeException e) {
+                reportError(null, e, ErrorManager.WRITE_FAILURE);
+            }
+        }
+    }
+
+    @Override
+    public void flush() {
+        LockSupport.unpark(buffer.writer);
+    }
+
+    @Override
+    public void close() {
+        shutdown();
+    }
+}
@@ -20,10 +20,13 @@ package de.jsteltze.calendar.tasks;
 
 import java.util.TimerTask;
 
-import de.jsteltze.calendar.UI.CalendarGUI;
+import javax.swing.SwingUtilities;
+
+import de.jsteltze.calendar.Calendar;
 
 /**
- * Refresh calendar canvas.
+ * Refresh calendar canvas and plan the reminders for the new day.
+ * To be run at midnight; the next run is scheduled automatically.
  * @author Johannes Steltzer
  *
  */
@@ -32,19 +35,26 @@ public class CalendarRefreshTask
     implements Runnable {
     
     /** Calendar to refresh. */
-    private CalendarGUI c;
+    private Calendar c;
 
     /**
      * Construct a new refresher.
      * @param c - Calendar to refresh
      */
-    public CalendarRefreshTask(CalendarGUI c) {
+    public CalendarRefreshTask(Calendar c) {
         super();
         this.c = c;
     }
 
     @Override
     public void run() {
-        c.update();
+        SwingUtilities.invokeLater(new Runnable() {
+            
+            @Override
+            public void run() {
+                c.dayChanged();
+            }
+        });
+        Calendar.scheduleMidnightRefresh(c);
     }
 }
\ No newline at end of file
@@ -0,0 +1,178 @@
+/**
+ *  java-kalender - Java Calendar for Germany
+ *  Copyright (C) 2012  Johannes Steltzer
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.jsteltze.calendar.tasks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.swing.SwingUtilities;
+
+import de.jsteltze.common.Log;
+import de.jsteltze.common.calendar.Date;
+
+/**
+ * Shared ticker firing at the beginning of each minute. Instead of one
+ * sleeping thread per label, all labels showing the time (or the time left
+ * until an event) subscribe here. At each tick the new texts of all
+ * subscribers are computed in one batch on the ticker thread and then
+ * applied to the GUI with a single {@link SwingUtilities#invokeLater(Runnable)}.
+ * @author Johannes Steltzer
+ *
+ */
+public final class MinuteTicker {
+
+    /**
+     * Subscriber of the minute ticker.
+     */
+    public interface Subscriber {
+
+        /**
+         * Compute the new state for this minute. Called on the ticker thread,
+         * so this must not touch any Swing component.
+         * @param now - Time of the tick
+         */
+        void prepare(Date now);
+
+        /**
+         * Apply the state computed by {@link #prepare(Date)} to the GUI.
+         * Called on the event dispatch thread.
+         */
+        void apply();
+    }
+
+    /** Name of the ticker thread. */
+    private static final String THREAD_NAME = "MinuteTicker";
+
+    /** Executor running the ticks. */
+    private static final ScheduledThreadPoolExecutor EXECUTOR =
+            new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+
+                @Override
+                public Thread newThread(Runnable r) {
+                    Thread t = new Thread(r, THREAD_NAME);
+                    t.setDaemon(true);
+                    return t;
+                }
+            });
+
+    /** Current subscribers. */
+    private static final Set<Subscriber> SUBSCRIBERS = new CopyOnWriteArraySet<Subscriber>();
+
+    /** True once the first tick has been scheduled. */
+    private static boolean started = false;
+
+    /** Logger. */
+    private static final Logger LOG = Log.getLogger(MinuteTicker.class);
+
+    /**
+     * Hidden constructor.
+     */
+    private MinuteTicker() { }
+
+    /**
+     * Subscribe to the minute ticker. The subscriber will be updated at
+     * the beginning of each minute until {@link #unsubscribe(Subscriber)}
+     * is called.
+     * @param s - Subscriber to add
+     */
+    public static void subscribe(Subscriber s) {
+        SUBSCRIBERS.add(s);
+        synchronized (MinuteTicker.class) {
+            if (!started) {
+                started = true;
+                scheduleNext();
+            }
+        }
+    }
+
+    /**
+     * Unsubscribe from the minute ticker. Updates of a running tick that
+     * have not been applied yet are dropped.
+     * @param s - Subscriber to remove
+     */
+    public static void unsubscribe(Subscriber s) {
+        SUBSCRIBERS.remove(s);
+    }
+
+    /**
+     * Returns the number of current subscribers.
+     * @return the number of current subscribers.
+     */
+    public static int getNumberOfSubscribers() {
+        return SUBSCRIBERS.size();
+    }
+
+    /**
+     * Schedule the next tick at the beginning of the next minute.
+     */
+    private static void scheduleNext() {
+        long delay = Date.MIN_1 - System.currentTimeMillis() % Date.MIN_1;
+        EXECUTOR.schedule(new Runnable() {
+
+            @Override
+            public void run() {
+                try {
+                    tick();
+                } finally {
+                    scheduleNext();
+                }
+            }
+        }, delay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Prepare all subscribers and apply their new state on the EDT.
+     */
+    private static void tick() {
+        if (SUBSCRIBERS.isEmpty()) {
+            return;
+        }
+
+        Date now = new Date();
+        final List<Subscriber> batch = new ArrayList<Subscriber>(SUBSCRIBERS.size());
+        for (Subscriber s : SUBSCRIBERS) {
+            try {
+                s.prepare(now);
+                batch.add(s);
+            } catch (RuntimeException e) {
+                LOG.log(Level.WARNING, "error while preparing minute tick", e);
+            }
+        }
+        LOG.fine("tick for " + batch.size() + " subscribers");
+
+        SwingUtilities.invokeLater(new Runnable() {
+
+            @Override
+            public void run() {
+                for (Subscriber s : batch) {
+                    if (SUBSCRIBERS.contains(s)) {
+                        s.apply();
+                    }
+                }
+            }
+        });
+    }
+}
@@ -24,18 +24,19 @@ import de.jsteltze.common.calendar.Date;
 import de.jsteltze.common.calendar.Date.PrintFormat;
 
 /**
- * Thread for refreshing a date and time label each minute. 
+ * Task for refreshing a date and time label each minute. 
+ * Driven by the {@link MinuteTicker}.
  * @author Johannes Steltzer
  *
  */
 public class RefreshDateTask 
-    extends Thread {
+    implements MinuteTicker.Subscriber {
     
     /** Label for showing date and time. */
     private JLabel label;
     
-    /** Set to false to stop this thread. */
-    private boolean running;
+    /** Text computed for the current minute. */
+    private volatile String text;
 
     /**
      * Construct a new task to display accurate date and
@@ -44,42 +45,15 @@ public class RefreshDateTask
      */
     public RefreshDateTask(JLabel label) {
         this.label = label;
-        this.running = true;
     }
     
-    /**
-     * Stop this thread.
-     */
-    public void stopit() {
-        this.running = false;
-        this.interrupt();
+    @Override
+    public void prepare(Date now) {
+        text = now.print(PrintFormat.DDMMYYYY_HHmm);
     }
     
     @Override
-    public void run() {
-        /*
-         * Fill the running minute
-         */
-        Date date = new Date();
-        try {
-            Thread.sleep(Date.MIN_1 - date.get(Date.SECOND) * Date.SEC_1);
-        } catch (InterruptedException e) {
-            return;
-        }
-        date = new Date();
-        label.setText(date.print(PrintFormat.DDMMYYYY_HHmm));
-
-        /*
-         * Refresh date and time in the label each minute
-         */
-        while (running) {
-            try {
-                Thread.sleep(Date.MIN_1);
-            } catch (InterruptedException e) {
-                return;
-            }
-            date = new Date();
-            label.setText(date.print(PrintFormat.DDMMYYYY_HHmm));
-        }
+    public void apply() {
+        label.setText(text);
     }
 }
\ No newline at end of file
@@ -30,12 +30,12 @@ import de.jsteltze.common.calendar.Date;
 /**
  * Task to refresh the header of a launched notification each minute.
  * The Headers shows the time left until the events starts.
- * This time has to be refreshed each minute.
+ * This time has to be refreshed each minute. Driven by the {@link MinuteTicker}.
  * @author Johannes Steltzer
  *
  */
 public class RefreshTimeLabelTask 
-    extends Thread {
+    implements MinuteTicker.Subscriber {
     
     /** Notification frame. */
     private Notification noti;
@@ -43,98 +43,75 @@ public class RefreshTimeLabelTask
     /** Time label. */
     private JLabel text;
     
-    /** Event of interest. */
-    private Event event;
-    
-    /** Stop thread flag. */
-    private boolean stop;
+    /** Start date of the event of interest. */
+    private Date date;
     
     /** Add a trailing colon. */
     private boolean addColon;
     
+    /** Text computed for the current minute. */
+    private volatile String upperString;
+    
     /** Logger. */
     private static Logger logger = Log.getLogger(RefreshTimeLabelTask.class);
     
     /**
-     * Construct a new refresher thread. This will recalculate the
-     * time difference to the event each minute and refresh the
-     * timeLabel.
+     * Construct a new refresher. Once subscribed to the {@link MinuteTicker}
+     * this will recalculate the time difference to the event each minute
+     * and refresh the timeLabel.
      * @param noti - Notification frame to refresh
      * @param addColon - add a trailing colon
      */
     public RefreshTimeLabelTask(Notification noti, boolean addColon) {
         this.noti = noti;
         this.text = null;
-        this.event = noti.getEvent();
-        this.stop = false;
+        this.date = noti.getEvent().getNextDate();
         this.addColon = addColon;
     }
     
     /**
-     * Construct a new refresher thread. This will recalculate the
-     * time difference to the event each minute and refresh the
-     * timeLabel.
+     * Construct a new refresher. Once subscribed to the {@link MinuteTicker}
+     * this will recalculate the time difference to the event each minute
+     * and refresh the timeLabel.
      * @param text - JLabel which text to refresh
      * @param event - Event of interest
      */
     public RefreshTimeLabelTask(JLabel text, Event event) {
         this.text = text;
         this.noti = null;
-        this.event = event;
-        this.stop = false;
+        this.date = event.getNextDate();
         this.addColon = true;
     }
     
     @Override
-    public void run() {
-        String upperString;
-        Date date = event.getNextDate();
-        
-        /*
-         * Initial sleep to fill the full minute
-         */
-        Date dateNow = new Date();
-        try {
-            Thread.sleep(Date.MIN_1 - dateNow.get(Date.SECOND) * Date.SEC_1);
-        } catch (InterruptedException e) {
-            return;
+    public void prepare(Date now) {
+        long minDiff = date.minDiff();
+        long hours = minDiff / Date.MINS_OF_HOUR;
+        long minut = minDiff - hours * Date.MINS_OF_HOUR;
+        String s;
+
+        if (minDiff < 0) {
+            s = "vor " + (hours == 0 ? "" : (-hours) + "h ") + (-minut) + "min";
+        } else if (minDiff > 0) {
+            s = "in " + (hours == 0 ? "" : (hours) + "h ") + (minut) + "min";
+        } else {
+            s = "JETZT";
         }
         
-        while (!stop) {
-            logger.fine("Refresh timeLabel...");
-            
-            long minDiff = date.minDiff();
-            long hours = minDiff / Date.MINS_OF_HOUR;
-            long minut = minDiff - hours * Date.MINS_OF_HOUR;
-
-            if (minDiff < 0) {
-                upperString = "vor " + (hours == 0 ? "" : (-hours) + "h ") + (-minut) + "min";
-            } else if (minDiff > 0) {
-                upperString = "in " + (hours == 0 ? "" : (hours) + "h ") + (minut) + "min";
-            } else {
-                upperString = "JETZT";
-            }
-            
-            if (text == null) {
-                noti.refreshTimeLabel(upperString + (addColon ? ":" : ""));
-            } else {
-                upperString += ": ";
-                text.setText(upperString);
-            }
-            
-            /* Sleep one minute */
-            try {
-                Thread.sleep(Date.MIN_1);
-            } catch (InterruptedException e) {
-                return;
-            }
+        if (text == null) {
+            upperString = s + (addColon ? ":" : "");
+        } else {
+            upperString = s + ": ";
         }
     }
     
-    /**
-     * Stop this Thread. This will stop the refreshments.
-     */
-    public void quit() {
-        this.stop = true;
+    @Override
+    public void apply() {
+        logger.fine("Refresh timeLabel...");
+        if (text == null) {
+            noti.refreshTimeLabel(upperString);
+        } else {
+            text.setText(upperString);
+        }
     }
 }
@@ -18,17 +18,47 @@
 
 package de.jsteltze.calendar.tasks;
 
+import java.io.BufferedReader;
+import java.io.Closeable;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.RandomAccessFile;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.security.SecureRandom;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import javax.swing.SwingUtilities;
+
 import de.jsteltze.calendar.config.Const;
 import de.jsteltze.calendar.frames.CalendarFrame;
 import de.jsteltze.common.Log;
+import de.jsteltze.common.calendar.Date;
 
 /**
  * Thread to make sure the calendar is only started once.
+ * The running calendar holds an exclusive lock on the lock file (released by
+ * the operating system even if the process crashes) and listens on a loopback
+ * socket. A subsequent launch finds the lock taken, connects to the socket and
+ * hands over its command line arguments. The thread blocks in accept() and does
+ * not wake up unless another calendar is launched.
+ * <br>The lock file itself is never deleted: another launch might have opened it already
+ * and take the lock as soon as it is released; deleting the file would let a third
+ * launch lock a new file at the same time.
  * @author Johannes Steltzer
  *
  */
@@ -39,10 +69,41 @@ public class SingletonTask
     private CalendarFrame cal;
     
     /** Set to false to stop this thread. */
-    private boolean running;
+    private volatile boolean running;
+    
+    /** Channel of the lock file. */
+    private FileChannel lockChannel;
+    
+    /** Exclusive lock on the lock file. */
+    private FileLock lock;
+    
+    /** File holding the port and the token of the running calendar. */
+    private File portFile;
+    
+    /** Loopback socket waiting for subsequent launches. */
+    private ServerSocket server;
+    
+    /** Secret a subsequent launch has to send first (read from the port file). */
+    private String token;
+    
+    /** Answer of the running calendar if the arguments were accepted. */
+    private static final String ANSWER_OK = "OK";
+    
+    /** Timeout in milliseconds for connecting to/talking with the running calendar. */
+    private static final int TIMEOUT = (int) (2 * Date.SEC_1);
+    
+    /** 
+     * Time in milliseconds a subsequent launch keeps trying to reach the running
+     * calendar (which writes the port file after locking and answers only when its
+     * frame is up).
+     */
+    private static final long PATIENCE = 15 * Date.SEC_1;
     
-    /** Time interval in milliseconds to perform check. */
-    private static final long SLEEP_INTERVAL = 1000L;
+    /** Time in milliseconds between two attempts to reach the running calendar. */
+    private static final long RETRY_INTERVAL = 250;
+    
+    /** Maximum number of arguments accepted from a subsequent launch. */
+    private static final int MAX_ARGS = 32;
     
     /** Logger. */
     private static final Logger LOG = Log.getLogger(SingletonTask.class);
@@ -50,50 +111,263 @@ public class SingletonTask
     /**
      * Construct a new thread to make sure the calendar
      * is only started once.
-     * @param c - Calendar frame to observe
+     * @param lockChannel - Channel of the lock file
+     * @param lock - Exclusive lock on the lock file
+     * @param server - Socket to listen on
+     * @param portFile - File holding port and token
+     * @param token - Secret to expect from subsequent launches
      */
-    public SingletonTask(CalendarFrame c) {
-        super();
-        cal = c;
-        running = true;
-        
+    private SingletonTask(FileChannel lockChannel, FileLock lock, ServerSocket server, 
+            File portFile, String token) {
+        super("SingletonTask");
+        this.lockChannel = lockChannel;
+        this.lock = lock;
+        this.server = server;
+        this.portFile = portFile;
+        this.token = token;
+        this.running = true;
+        setDaemon(true);
+    }
+    
+    /**
+     * Try to become the only running calendar for a workspace.
+     * @param workspace - Workspace path
+     * @return a new (not yet started) singleton thread, or null if another calendar
+     *         holds the lock already.
+     * @throws IOException if the lock file or the socket cannot be created.
+     */
+    public static SingletonTask acquire(String workspace) throws IOException {
+        File lockFile = new File(workspace + File.separator + Const.LOCKFILE);
+        File portFile = new File(workspace + File.separator + Const.PORTFILE);
+        FileChannel channel = null;
         try {
-            /*
-             * Create lock file
-             */
             LOG.fine("create Lock");
-            new File(c.getPath(Const.LOCKFILE)).createNewFile();
+            channel = new RandomAccessFile(lockFile, "rw").getChannel();
+            FileLock lock = channel.tryLock();
+            if (lock == null) {
+                channel.close();
+                return null;
+            }
+            
+            ServerSocket server = new ServerSocket(0, MAX_ARGS, InetAddress.getLoopbackAddress());
+            String token = Long.toHexString(new SecureRandom().nextLong());
+            Writer w = new OutputStreamWriter(new FileOutputStream(portFile), Const.ENCODING);
+            try {
+                w.write(server.getLocalPort() + "\n" + token + "\n");
+            } finally {
+                w.close();
+            }
+            return new SingletonTask(channel, lock, server, portFile, token);
+            
+        } catch (OverlappingFileLockException e) {
+            close(channel);
+            return null;
         } catch (IOException e) {
-            LOG.log(Level.SEVERE, "cannot create lock file...", e);
+            close(channel);
+            throw e;
         }
     }
     
     /**
-     * Stop this thread.
+     * Hand over command line arguments to the running calendar of a workspace.
+     * The running calendar will appear and process the arguments. As the running
+     * calendar might just be starting up, this is retried for up to {@link #PATIENCE} ms.
+     * @param workspace - Workspace path
+     * @param args - Command line arguments to hand over
+     * @return true if the running calendar accepted the arguments, false if
+     *         it does not respond.
+     */
+    public static boolean handOver(String workspace, String[] args) {
+        long deadline = System.currentTimeMillis() + PATIENCE;
+        while (true) {
+            if (tryHandOver(workspace, args, deadline)) {
+                return true;
+            }
+            if (System.currentTimeMillis() >= deadline) {
+                return false;
+            }
+            try {
+                Thread.sleep(RETRY_INTERVAL);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+    
+    /**
+     * Make one attempt to hand over command line arguments to the running calendar.
+     * Once the arguments are sent, the answer is awaited until the deadline (a second
+     * attempt would make the running calendar process them twice).
+     * @param workspace - Workspace path
+     * @param args - Command line arguments to hand over
+     * @param deadline - Time in milliseconds to give up
+     * @return true if the running calendar accepted the arguments.
+     */
+    private static boolean tryHandOver(String workspace, String[] args, long deadline) {
+        Level level = System.currentTimeMillis() >= deadline ? Level.WARNING : Level.FINE;
+        File portFile = new File(workspace + File.separator + Const.PORTFILE);
+        Socket socket = new Socket();
+        try {
+            BufferedReader r = new BufferedReader(new InputStreamReader(new FileInputStream(portFile), 
+                    Const.ENCODING));
+            int port;
+            String secret;
+            try {
+                port = Integer.parseInt(r.readLine());
+                secret = r.readLine();
+            } finally {
+                r.close();
+            }
+            
+            LOG.fine("call running calendar at port " + port);
+            socket.connect(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), TIMEOUT);
+            socket.setSoTimeout(TIMEOUT);
+            Writer w = new OutputStreamWriter(socket.getOutputStream(), Const.ENCODING);
+            w.write(secret + "\n");
+            for (String arg : args) {
+                w.write(arg + "\n");
+            }
+            w.flush();
+            socket.shutdownOutput();
+            socket.setSoTimeout((int) Math.max(TIMEOUT, deadline - System.currentTimeMillis()));
+            
+            r = new BufferedReader(new InputStreamReader(socket.getInputStream(), Const.ENCODING));
+            if (ANSWER_OK.equals(r.readLine())) {
+                return true;
+            }
+            LOG.log(level, "running calendar rejected the arguments");
+            return false;
+            
+        } catch (IOException e) {
+            LOG.log(level, "cannot call running calendar...", e);
+            return false;
+        } catch (NumberFormatException e) {
+            LOG.log(level, "port file is corrupted...", e);
+            return false;
+        } finally {
+            close(socket);
+        }
+    }
+    
+    /**
+     * Set the calendar frame to bring up if another calendar is launched.
+     * Must be called before starting this thread.
+     * @param c - Calendar frame to observe
+     */
+    public void setFrame(CalendarFrame c) {
+        this.cal = c;
+    }
+    
+    /**
+     * Stop this thread and release the lock. The port file is deleted while the lock
+     * is still held (afterwards it might belong to the next calendar already).
      */
     public void stopit() {
         this.running = false;
-        this.interrupt();
+        close(server);
+        portFile.delete();
+        try {
+            lock.release();
+        } catch (IOException e) {
+            LOG.log(Level.WARNING, "cannot release lock...", e);
+        }
+        close(lockChannel);
     }
     
     @Override
     public void run() {
-        File maxfile = new File(cal.getPath(Const.MAXIMIZEFILE));
         while (running) {
-            /*
-             * Check for a maximize file
-             */
+            Socket client;
             try {
-                if (maxfile.exists()) {
-                    LOG.fine("New calendar tries to launch. Maximize.");
-                    maxfile.delete();
-                    cal.maximize();
+                client = server.accept();
+            } catch (IOException e) {
+                if (running) {
+                    LOG.log(Level.WARNING, "error while waiting for other calendars...", e);
                 }
-                Thread.sleep(SLEEP_INTERVAL);
-            } catch (InterruptedException e) {
-                LOG.warning("sleep interrupted: " + e.toString());
                 return;
             }
+            
+            try {
+                client.setSoTimeout(TIMEOUT);
+                final List<String> args = readArgs(client);
+                if (args == null) {
+                    LOG.warning("rejected connection with wrong token");
+                    continue;
+                }
+                
+                Writer w = new OutputStreamWriter(client.getOutputStream(), Const.ENCODING);
+                w.write(ANSWER_OK + "\n");
+                w.flush();
+                
+                LOG.fine("New calendar tries to launch. Maximize.");
+                SwingUtilities.invokeLater(new Runnable() {
+                    
+                    @Override
+                    public void run() {
+                        processArgs(args);
+                    }
+                });
+            } catch (IOException e) {
+                LOG.log(Level.WARNING, "error while talking to other calendar...", e);
+            } finally {
+                close(client);
+            }
+        }
+    }
+    
+    /**
+     * Read the arguments sent by a subsequent launch.
+     * @param client - Connected socket
+     * @return the arguments, or null if the token does not match.
+     * @throws IOException if reading fails
+     */
+    private List<String> readArgs(Socket client) throws IOException {
+        BufferedReader r = new BufferedReader(new InputStreamReader(client.getInputStream(), Const.ENCODING));
+        if (!token.equals(r.readLine())) {
+            return null;
+        }
+        
+        List<String> args = new ArrayList<String>();
+        String line;
+        while ((line = r.readLine()) != null && args.size() < MAX_ARGS) {
+            args.add(line);
+        }
+        return args;
+    }
+    
+    /**
+     * Bring up the calendar frame and apply the arguments handed over by
+     * a subsequent launch. To be called on the EDT.
+     * @param args - Command line arguments of the subsequent launch
+     */
+    private void processArgs(List<String> args) {
+        cal.maximize();
+        for (String arg : args) {
+            if (arg.startsWith("--date=")) {
+                try {
+                    cal.jumpTo(new Date(arg.substring("--date=".length())));
+                } catch (ParseException e) {
+                    LOG.warning("cannot parse \"" + arg + "\"");
+                }
+            } else {
+                LOG.fine("ignore argument of other calendar: " + arg);
+            }
+        }
+    }
+    
+    /**
+     * Close a resource quietly.
+     * @param c - Resource to close (may be null)
+     */
+    private static void close(Closeable c) {
+        if (c == null) {
+            return;
+        }
+        try {
+            c.close();
+        } catch (IOException e) {
+            LOG.log(Level.FINE, "cannot close " + c, e);
         }
     }
 }
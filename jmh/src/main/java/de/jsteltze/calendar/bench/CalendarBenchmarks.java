@@ -0,0 +1,268 @@
+/**
+ *  java-kalender - Java Calendar for Germany
+ *  Copyright (C) 2012  Johannes Steltzer
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.jsteltze.calendar.bench;
+
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import de.jsteltze.calendar.Calendar;
+import de.jsteltze.calendar.Event;
+import de.jsteltze.calendar.EventExportHandler;
+import de.jsteltze.calendar.ICalParser;
+import de.jsteltze.calendar.XMLParser;
+import de.jsteltze.calendar.UI.CalendarCanvas;
+import de.jsteltze.calendar.config.Const;
+import de.jsteltze.calendar.config.enums.View;
+import de.jsteltze.common.Log;
+import de.jsteltze.common.calendar.Date;
+
+/**
+ * JMH benchmarks of the calendar's hot paths, run against synthetic calendars of
+ * different sizes (see {@link SyntheticCalendar}). Results are consumed by a
+ * blackhole, so the JIT cannot eliminate the work measured.
+ * To compare two runs (e.g. before and after a change), write the results to files
+ * with <code>-rf json -rff before.json</code> and compare them (on the same machine
+ * with the same JVM and options only).
+ * @author Johannes Steltzer
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Djava.awt.headless=true"})
+public class CalendarBenchmarks {
+
+    /** Width and height of the canvas to paint. */
+    private static final Dimension CANVAS_SIZE = new Dimension(1000, 700);
+
+    /** Number of events of the synthetic calendar. */
+    @Param({"100", "10000", "100000"})
+    private int size;
+
+    /** Generated events. */
+    private List<Event> events;
+
+    /** Temporary working directory. */
+    private File workspace;
+
+    /** Calendar XML file containing the events. */
+    private File xmlFile;
+
+    /** iCal file containing the events. */
+    private File icsFile;
+
+    /** Calendar loaded from the workspace. */
+    private Calendar calendar;
+
+    /** Year view of the calendar. */
+    private CalendarCanvas canvas;
+
+    /** Image to paint on. */
+    private BufferedImage image;
+
+    /**
+     * Generate the events and write them to a new temporary workspace.
+     * @throws Exception if the workspace cannot be created
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        Log.setLevel("WARNING");
+        events = SyntheticCalendar.generate(size, SyntheticCalendar.SEED);
+        workspace = Files.createTempDirectory("kalender-bench").toFile();
+        xmlFile = new File(workspace, Const.XMLFILE);
+        SyntheticCalendar.write(events, xmlFile);
+
+        icsFile = new File(workspace, "bench.ics");
+        BufferedWriter out = new BufferedWriter(new OutputStreamWriter(
+                new FileOutputStream(icsFile), Const.ENCODING));
+        try {
+            EventExportHandler.writeIcal(out, events, workspace.getPath());
+        } finally {
+            out.close();
+        }
+
+        calendar = new Calendar(new Dimension(-1, -1), View.year, false, workspace.getPath());
+        calendar.load();
+        calendar.setViewedDate(new Date(SyntheticCalendar.BASE_YEAR, 0, 1));
+        canvas = CalendarCanvas.create(calendar, View.year);
+        canvas.setSize(CANVAS_SIZE);
+        image = new BufferedImage(CANVAS_SIZE.width, CANVAS_SIZE.height, BufferedImage.TYPE_INT_ARGB);
+    }
+
+    /**
+     * Remove the temporary workspace.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        File[] files = workspace.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        workspace.delete();
+    }
+
+    /**
+     * Match all events against the days of a month.
+     * @param bh - Blackhole consuming the results
+     */
+    @Benchmark
+    public void eventMatch(Blackhole bh) {
+        Date date = new Date(SyntheticCalendar.BASE_YEAR, 0, 1);
+        for (int day = 0; day < 31; day++) {
+            for (Event e : events) {
+                bh.consume(e.match(date));
+            }
+            date.add(java.util.Calendar.DAY_OF_MONTH, 1);
+        }
+    }
+
+    /**
+     * Calculate the next date of all events.
+     * @param bh - Blackhole consuming the results
+     */
+    @Benchmark
+    public void eventGetNextDate(Blackhole bh) {
+        Date begin = new Date(SyntheticCalendar.BASE_YEAR, 6, 1);
+        for (Event e : events) {
+            bh.consume(e.getNextDate(begin));
+        }
+    }
+
+    /**
+     * Sort all events by date.
+     * @return the sorted events.
+     */
+    @Benchmark
+    public List<Event> eventSortByDate() {
+        return Event.sortByDate(new ArrayList<Event>(events), true, true);
+    }
+
+    /**
+     * Parse the calendar XML file.
+     * @return the events parsed.
+     * @throws Exception if parsing fails
+     */
+    @Benchmark
+    public List<Event> xmlParse() throws Exception {
+        XMLParser parser = new XMLParser();
+        parser.parse(xmlFile);
+        return parser.getEvents();
+    }
+
+    /**
+     * Write the calendar XML file.
+     * @return the file written.
+     */
+    @Benchmark
+    public File calendarSave() {
+        File file = new File(workspace, "save.xml");
+        calendar.save(events, calendar.getConfig(), file.getPath());
+        return file;
+    }
+
+    /**
+     * Parse the iCal file.
+     * @return the events parsed.
+     */
+    @Benchmark
+    public List<Event> icalParse() {
+        return new ICalParser(icsFile, calendar).getEvents();
+    }
+
+    /**
+     * State discarding the cells and occurrences of the year view before each
+     * invocation, as after changing an event.
+     */
+    @State(Scope.Thread)
+    public static class Invalidated {
+
+        /**
+         * Change the version of the events and discard the cells of the year view.
+         * @param bench - Benchmark state holding the calendar
+         */
+        @Setup(Level.Invocation)
+        public void invalidate(CalendarBenchmarks bench) {
+            bench.calendar.updateStaticHolidays(false);
+            bench.canvas.update();
+        }
+    }
+
+    /**
+     * Repaint the year view into an image. Apart from the first invocation
+     * the cells and occurrences are cached, so this measures painting only.
+     * @return the image painted.
+     */
+    @Benchmark
+    public BufferedImage yearRepaint() {
+        return paintYear();
+    }
+
+    /**
+     * Paint the year view into an image after the events changed: the
+     * occurrences are matched and the cells are built again.
+     * @param invalidated - State discarding the caches before each invocation
+     * @return the image painted.
+     */
+    @Benchmark
+    public BufferedImage yearRebuild(Invalidated invalidated) {
+        return paintYear();
+    }
+
+    /**
+     * Paint the year view into the image.
+     * @return the image painted.
+     */
+    private BufferedImage paintYear() {
+        Graphics2D g = image.createGraphics();
+        try {
+            canvas.paintComponent(g);
+        } finally {
+            g.dispose();
+        }
+        return image;
+    }
+}
@@ -0,0 +1,302 @@
+/**
+ *  java-kalender - Java Calendar for Germany
+ *  Copyright (C) 2012  Johannes Steltzer
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.jsteltze.calendar.bench;
+
+import java.awt.Dimension;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStreamWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import de.jsteltze.calendar.Calendar;
+import de.jsteltze.calendar.Event;
+import de.jsteltze.calendar.EventExportHandler;
+import de.jsteltze.calendar.ICalParser;
+import de.jsteltze.calendar.UI.HeadlessGUI;
+import de.jsteltze.calendar.UI.OccurrenceCache;
+import de.jsteltze.calendar.config.Const;
+import de.jsteltze.calendar.config.enums.View;
+import de.jsteltze.common.Log;
+import de.jsteltze.common.calendar.Date;
+
+/**
+ * Headless load test. Replays a scripted session against a calendar workspace
+ * (e.g. written by {@link SyntheticCalendar}) without any window: load, navigate
+ * through the years, add, edit and delete events, import an iCal file and save.
+ * Each round of the session starts with loading the workspace again. The throughput
+ * and the latency percentiles of each operation are printed at the end.
+ * <br>The workspace is modified (events are added and removed again), so use a
+ * generated workspace or a copy.
+ * @author Johannes Steltzer
+ *
+ */
+public final class LoadTest {
+
+    /** Name of the iCal file to import (written to the workspace). */
+    private static final String ICS_FILE = "Lasttest.ics";
+
+    /** Working directory. */
+    private final String workspace;
+
+    /** Random generator for dates of new events. */
+    private final Random random;
+
+    /** Latencies in nanoseconds by operation (in order of first occurrence). */
+    private final Map<String, List<Long>> latencies;
+
+    /** Calendar loaded in the current round. */
+    private Calendar calendar;
+
+    /**
+     * Construct a new load test.
+     * @param workspace - Working directory
+     * @param seed - Seed of the random generator
+     */
+    private LoadTest(String workspace, long seed) {
+        this.workspace = workspace;
+        this.random = new Random(seed);
+        this.latencies = new LinkedHashMap<String, List<Long>>();
+    }
+
+    /**
+     * Record the latency of an operation.
+     * @param operation - Name of the operation
+     * @param start - Start of the operation (see {@link System#nanoTime()})
+     */
+    private void record(String operation, long start) {
+        long nanos = System.nanoTime() - start;
+        List<Long> list = latencies.get(operation);
+        if (list == null) {
+            list = new ArrayList<Long>();
+            latencies.put(operation, list);
+        }
+        list.add(nanos);
+    }
+
+    /**
+     * Run a round of the session.
+     * @param round - Number of the round
+     * @param ops - Number of events to add, edit, delete and import
+     * @param years - Number of years to navigate back and forth
+     * @throws Exception if loading the workspace fails
+     */
+    private void round(int round, int ops, int years) throws Exception {
+        /* Load */
+        long start = System.nanoTime();
+        calendar = new Calendar(new Dimension(-1, -1), View.month, false, workspace);
+        calendar.setGUI(new HeadlessGUI());
+        calendar.load();
+        record("load", start);
+
+        /* Navigate */
+        int thisYear = new Date().get(java.util.Calendar.YEAR);
+        for (int year = thisYear - years; year <= thisYear + years; year++) {
+            start = System.nanoTime();
+            Date date = new Date(year, 0, 1);
+            calendar.setViewedDate(date);
+            calendar.updateFlexibleHolidays(year, false, false);
+            OccurrenceCache.Occurrences occurrences = calendar.getOccurrenceCache().get();
+            Date day = date.clone();
+            while (day.get(java.util.Calendar.YEAR) == year) {
+                occurrences.getEvents(day);
+                day.add(java.util.Calendar.DAY_OF_MONTH, 1);
+            }
+            record("navigate", start);
+        }
+        calendar.setViewedDate(new Date());
+        calendar.updateFlexibleHolidays(thisYear, false, false);
+
+        /* Add (single day events in the past, so no reminders are due) */
+        List<Event> added = new ArrayList<Event>();
+        for (int i = 0; i < ops; i++) {
+            Event event = new Event(randomDate(), "Lasttest " + round + "-" + i, -1);
+            start = System.nanoTime();
+            if (calendar.newEvent(event)) {
+                record("add", start);
+                added.add(event);
+            }
+        }
+
+        /* Edit */
+        List<Event> edited = new ArrayList<Event>();
+        for (Event event : added) {
+            Event changed = new Event(randomDate(), event.getName() + " (bearbeitet)", -1);
+            start = System.nanoTime();
+            if (calendar.editEvent(event.getID(), changed)) {
+                record("edit", start);
+                edited.add(changed);
+            }
+        }
+
+        /* Delete */
+        delete(edited);
+
+        /* Import iCal */
+        List<Event> toImport = new ArrayList<Event>();
+        for (int i = 0; i < ops; i++) {
+            toImport.add(new Event(randomDate(), "Import " + round + "-" + i, -1));
+        }
+        File icsFile = new File(workspace, ICS_FILE);
+        BufferedWriter out = new BufferedWriter(new OutputStreamWriter(
+                new FileOutputStream(icsFile), Const.ENCODING));
+        try {
+            EventExportHandler.writeIcal(out, toImport, workspace);
+        } finally {
+            out.close();
+        }
+        start = System.nanoTime();
+        ICalParser parser = new ICalParser(icsFile, calendar);
+        List<Event> imported = new ArrayList<Event>();
+        for (Event event : parser.getEvents()) {
+            parser.writeNotesAndAttachment(event, calendar);
+            if (calendar.newEvent(event)) {
+                imported.add(event);
+            }
+        }
+        record("import ics", start);
+        icsFile.delete();
+        delete(imported);
+
+        /* Save */
+        start = System.nanoTime();
+        calendar.save();
+        record("save", start);
+    }
+
+    /**
+     * Delete events (added by this load test).
+     * @param events - Events to delete
+     */
+    private void delete(List<Event> events) {
+        for (Event event : events) {
+            long start = System.nanoTime();
+            if (calendar.deleteRequested(event)) {
+                record("delete", start);
+            }
+        }
+    }
+
+    /**
+     * Returns a random date (without time) of the base year of the synthetic calendars.
+     * @return a random date.
+     */
+    private Date randomDate() {
+        return new Date(SyntheticCalendar.BASE_YEAR, random.nextInt(12), 1 + random.nextInt(28));
+    }
+
+    /**
+     * Print throughput and latency percentiles per operation.
+     */
+    private void report() {
+        System.out.println(String.format("%-12s %7s %10s %10s %10s %10s %10s", 
+                "operation", "count", "ops/s", "p50_ms", "p90_ms", "p99_ms", "max_ms"));
+        for (Map.Entry<String, List<Long>> entry : latencies.entrySet()) {
+            List<Long> sorted = new ArrayList<Long>(entry.getValue());
+            Collections.sort(sorted);
+            long total = 0;
+            for (long nanos : sorted) {
+                total += nanos;
+            }
+            System.out.println(String.format("%-12s %7d %10.1f %10.3f %10.3f %10.3f %10.3f", 
+                    entry.getKey(), sorted.size(), sorted.size() * 1e9 / Math.max(1, total),
+                    percentile(sorted, 50), percentile(sorted, 90), percentile(sorted, 99),
+                    sorted.get(sorted.size() - 1) / 1e6));
+        }
+    }
+
+    /**
+     * Returns a percentile of sorted latencies.
+     * @param sorted - Latencies in nanoseconds (ascending)
+     * @param percent - Percentile (1 - 100)
+     * @return the percentile in milliseconds.
+     */
+    private static double percentile(List<Long> sorted, int percent) {
+        int index = (int) Math.ceil(percent / 100.0 * sorted.size()) - 1;
+        return sorted.get(Math.max(0, index)) / 1e6;
+    }
+
+    /**
+     * Run the load test.
+     * @param args - Command line arguments (see {@link #usage()})
+     * @throws Exception if the workspace cannot be loaded
+     */
+    public static void main(String[] args) throws Exception {
+        System.setProperty("java.awt.headless", "true");
+        String workspace = null;
+        int rounds = 5, ops = 20, years = 5;
+        long seed = SyntheticCalendar.SEED;
+
+        for (String s : args) {
+            try {
+                String value = s.substring(s.indexOf('=') + 1);
+                if (s.startsWith("--workspace=")) {
+                    workspace = value;
+                } else if (s.startsWith("--rounds=")) {
+                    rounds = Integer.parseInt(value);
+                } else if (s.startsWith("--ops=")) {
+                    ops = Integer.parseInt(value);
+                } else if (s.startsWith("--years=")) {
+                    years = Integer.parseInt(value);
+                } else if (s.startsWith("--seed=")) {
+                    seed = Long.parseLong(value);
+                } else {
+                    throw new IllegalArgumentException();
+                }
+            } catch (IllegalArgumentException e) {
+                System.err.println("Unsupported option \"" + s + "\"");
+                usage();
+                System.exit(1);
+            }
+        }
+        if (workspace == null || !new File(workspace, Const.XMLFILE).exists()) {
+            System.err.println("No calendar workspace given");
+            usage();
+            System.exit(1);
+        }
+
+        Log.setLevel("WARNING");
+        LoadTest test = new LoadTest(workspace, seed);
+        long start = System.nanoTime();
+        for (int round = 0; round < rounds; round++) {
+            test.round(round, ops, years);
+        }
+        System.out.println(rounds + " rounds in " + (System.nanoTime() - start) / 1000000 + " ms");
+        test.report();
+        System.exit(0);
+    }
+
+    /**
+     * Print usage information on stdout.
+     */
+    private static void usage() {
+        System.out.println("Load test command line options:");
+        System.out.println();
+        System.out.println("--workspace=[path]            Calendar workspace to run against (required, will be modified)");
+        System.out.println("--rounds=N                    Number of rounds (default 5)");
+        System.out.println("--ops=N                       Events to add, edit, delete and import per round (default 20)");
+        System.out.println("--years=N                     Years to navigate back and forth per round (default 5)");
+        System.out.println("--seed=N                      Seed of the random generator");
+    }
+}
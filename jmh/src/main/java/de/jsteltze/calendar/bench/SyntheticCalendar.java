@@ -0,0 +1,358 @@
+/**
+ *  java-kalender - Java Calendar for Germany
+ *  Copyright (C) 2012  Johannes Steltzer
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.jsteltze.calendar.bench;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import de.jsteltze.calendar.Event;
+import de.jsteltze.calendar.Event.EventType;
+import de.jsteltze.calendar.Frequency;
+import de.jsteltze.calendar.config.Const;
+import de.jsteltze.calendar.config.enums.RemindOption;
+import de.jsteltze.common.calendar.Date;
+
+/**
+ * Generator of synthetic calendars for benchmarks and load tests. The same mix
+ * and seed always produce the same events, so results of different runs are comparable.
+ * The events are spread over {@link #YEARS} years around {@link #BASE_YEAR}. The
+ * mix of event kinds (single, multi-day, frequent...) is configurable; frequent events
+ * may have exceptions. A whole workspace (calendar XML file plus notes and attachments)
+ * can be written by {@link #main(String[])}.
+ * @author Johannes Steltzer
+ *
+ */
+public final class SyntheticCalendar {
+
+    /** Default seed. */
+    public static final long SEED = 20120101L;
+
+    /** Year in the middle of the generated events. */
+    public static final int BASE_YEAR = 2020;
+
+    /** Number of years the events are spread over. */
+    public static final int YEARS = 20;
+
+    /** Default percentage of frequent events with exceptions. */
+    public static final int EXCEPTION_PERCENT = 30;
+
+    /** Categories to choose from (null for no category). */
+    private static final String[] CATEGORIES = {"Arbeit", "Familie", "Sport", "Geburtstag", null};
+
+    /** Name of the attachment files. */
+    private static final String ATTACHMENT = "Anhang.txt";
+
+    /**
+     * Kinds of generated events.
+     */
+    public enum Kind {
+        /** Single day event. */
+        once(50),
+        /** Event lasting several days. */
+        multiDay(10),
+        /** Weekly event. */
+        weekly(10),
+        /** Monthly event (same day of month). */
+        monthly(5),
+        /** Yearly event. */
+        yearly(10),
+        /** Monthly event by weekday (e.g. each 2nd Tuesday). */
+        byWeekday(5),
+        /** Event by interval (e.g. each 3 weeks). */
+        interval(5),
+        /** Event at each end of month. */
+        endOfMonth(5);
+
+        /** Percentage of this kind in the default mix. */
+        private final int percent;
+
+        /**
+         * Construct a new kind of event.
+         * @param percent - Percentage in the default mix
+         */
+        Kind(int percent) {
+            this.percent = percent;
+        }
+    }
+
+    /**
+     * Hidden constructor.
+     */
+    private SyntheticCalendar() { }
+
+    /**
+     * Returns the default mix of event kinds for a number of events.
+     * @param size - Number of events
+     * @return Kinds mapped to their number of events.
+     */
+    public static Map<Kind, Integer> defaultMix(int size) {
+        Map<Kind, Integer> mix = new EnumMap<Kind, Integer>(Kind.class);
+        int rest = size;
+        for (Kind kind : Kind.values()) {
+            int count = size * kind.percent / 100;
+            mix.put(kind, count);
+            rest -= count;
+        }
+        mix.put(Kind.once, mix.get(Kind.once) + rest);
+        return mix;
+    }
+
+    /**
+     * Generate a synthetic calendar with the default mix of event kinds.
+     * @param size - Number of events
+     * @param seed - Seed of the random generator
+     * @return List of generated events (IDs 0 to size - 1).
+     */
+    public static List<Event> generate(int size, long seed) {
+        return generate(defaultMix(size), EXCEPTION_PERCENT, seed);
+    }
+
+    /**
+     * Generate a synthetic calendar.
+     * @param mix - Kinds of events mapped to their number
+     * @param exceptionPercent - Percentage of frequent events with exceptions
+     * @param seed - Seed of the random generator
+     * @return List of generated events (IDs 0 to number of events - 1, kinds shuffled).
+     */
+    public static List<Event> generate(Map<Kind, Integer> mix, int exceptionPercent, long seed) {
+        Random random = new Random(seed);
+        List<Kind> kinds = new ArrayList<Kind>();
+        for (Map.Entry<Kind, Integer> entry : mix.entrySet()) {
+            for (int i = 0; i < entry.getValue(); i++) {
+                kinds.add(entry.getKey());
+            }
+        }
+        Collections.shuffle(kinds, random);
+
+        List<Event> events = new ArrayList<Event>(kinds.size());
+        for (int id = 0; id < kinds.size(); id++) {
+            Kind kind = kinds.get(id);
+            Date start = new Date(BASE_YEAR - YEARS / 2, 0, 1);
+            start.add(java.util.Calendar.DAY_OF_MONTH, random.nextInt(YEARS * 365));
+            if (kind == Kind.endOfMonth) {
+                start.set(java.util.Calendar.DAY_OF_MONTH, start.getActualMaximum(java.util.Calendar.DAY_OF_MONTH));
+            }
+            if (kind != Kind.multiDay && random.nextBoolean()) {
+                start.set(java.util.Calendar.HOUR_OF_DAY, 7 + random.nextInt(12));
+                start.set(java.util.Calendar.MINUTE, random.nextInt(4) * 15);
+                start.setHasTime(true);
+            }
+
+            Date end = null;
+            short freq = Frequency.OCCUR_ONCE;
+            switch (kind) {
+            case multiDay:
+                end = start.clone();
+                end.add(java.util.Calendar.DAY_OF_MONTH, 1 + random.nextInt(14));
+                break;
+            case weekly:
+                freq = Frequency.OCCUR_WEEKLY;
+                break;
+            case monthly:
+                freq = Frequency.OCCUR_MONTHLY;
+                break;
+            case yearly:
+                freq = Frequency.OCCUR_YEARLY;
+                break;
+            case byWeekday:
+                int week = (start.get(java.util.Calendar.DAY_OF_MONTH) - 1) / 7 + 1;
+                freq = Frequency.genByWeekday(start.get(java.util.Calendar.DAY_OF_WEEK), week > 4 ? 0 : week);
+                break;
+            case interval:
+                freq = Frequency.genByInterval(2 + random.nextInt(10), 
+                        random.nextInt(Frequency.UNIT_MONTHS + 1));
+                break;
+            case endOfMonth:
+                freq = Frequency.OCCUR_BY_MONTHEND;
+                break;
+            case once:
+            default:
+                break;
+            }
+
+            RemindOption remind = random.nextInt(5) == 0 ? RemindOption.atBegin : null;
+            Event event = new Event(start, end, "Termin " + id, EventType.user, freq, remind, id);
+            event.setCategory(CATEGORIES[random.nextInt(CATEGORIES.length)]);
+
+            if (freq != Frequency.OCCUR_ONCE && random.nextInt(100) < exceptionPercent) {
+                for (int i = 1 + random.nextInt(3); i > 0; i--) {
+                    Date exception = start.clone();
+                    exception.setHasTime(false);
+                    exception.add(java.util.Calendar.DAY_OF_MONTH, random.nextInt(YEARS * 365));
+                    event.addExceptionDate(exception);
+                }
+            }
+            events.add(event);
+        }
+        return events;
+    }
+
+    /**
+     * Write events to a calendar XML file (default settings).
+     * @param events - Events to write
+     * @param file - Calendar XML file to write
+     * @throws IOException if an error occurred during writing
+     */
+    public static void write(List<Event> events, File file) throws IOException {
+        BufferedWriter out = new BufferedWriter(new OutputStreamWriter(
+                new FileOutputStream(file), Const.ENCODING));
+        try {
+            out.write("<?xml version=\"1.0\" encoding=\"" + Const.ENCODING
+                    + "\" standalone=\"yes\"?>\n<Calendar version=\"" + Const.VERSION
+                    + "\">\n");
+            out.write("  <Events>\n");
+            for (Event event : events) {
+                event.write(out);
+            }
+            out.write("  </Events>\n</Calendar>");
+        } finally {
+            out.close();
+        }
+    }
+
+    /**
+     * Write a workspace: the calendar XML file plus notes and attachments for
+     * some of the events (in the event directory).
+     * @param workspace - Working directory to write to (created if needed)
+     * @param events - Events to write
+     * @param notesPercent - Percentage of events with notes
+     * @param attachmentPercent - Percentage of events with attachments
+     * @param seed - Seed of the random generator
+     * @throws IOException if an error occurred during writing
+     */
+    public static void writeWorkspace(File workspace, List<Event> events, int notesPercent, 
+            int attachmentPercent, long seed) throws IOException {
+        workspace.mkdirs();
+        write(events, new File(workspace, Const.XMLFILE));
+
+        Random random = new Random(seed);
+        for (Event event : events) {
+            boolean notes = random.nextInt(100) < notesPercent;
+            boolean attachment = random.nextInt(100) < attachmentPercent;
+            if (!notes && !attachment) {
+                continue;
+            }
+            File dir = new File(workspace, Const.EVENT_DIR + File.separator + event.getID());
+            dir.mkdirs();
+            if (notes) {
+                writeText(new File(dir, Const.NOTES_FILE), "Notizen zu " + event.getName() 
+                        + "\nKategorie: " + event.getCategory() + "\nTreffpunkt " + random.nextInt(1000) + "\n");
+            }
+            if (attachment) {
+                writeText(new File(dir, ATTACHMENT), "Anhang zu " + event.getName() + "\n");
+            }
+        }
+    }
+
+    /**
+     * Write a small text file.
+     * @param file - File to write
+     * @param text - Content
+     * @throws IOException if an error occurred during writing
+     */
+    private static void writeText(File file, String text) throws IOException {
+        BufferedWriter out = new BufferedWriter(new OutputStreamWriter(
+                new FileOutputStream(file), Const.ENCODING));
+        try {
+            out.write(text);
+        } finally {
+            out.close();
+        }
+    }
+
+    /**
+     * Generate a workspace from the command line.
+     * @param args - Command line arguments (see {@link #usage()})
+     * @throws IOException if the workspace cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        String workspace = null;
+        long seed = SEED;
+        int exceptionPercent = EXCEPTION_PERCENT, notesPercent = 10, attachmentPercent = 2;
+        Map<Kind, Integer> mix = defaultMix(10000);
+        Map<Kind, Integer> counts = new EnumMap<Kind, Integer>(Kind.class);
+
+        for (String s : args) {
+            try {
+                String value = s.substring(s.indexOf('=') + 1);
+                if (s.startsWith("--workspace=")) {
+                    workspace = value;
+                } else if (s.startsWith("--size=")) {
+                    mix = defaultMix(Integer.parseInt(value));
+                } else if (s.startsWith("--seed=")) {
+                    seed = Long.parseLong(value);
+                } else if (s.startsWith("--exceptions=")) {
+                    exceptionPercent = Integer.parseInt(value);
+                } else if (s.startsWith("--notes=")) {
+                    notesPercent = Integer.parseInt(value);
+                } else if (s.startsWith("--attachments=")) {
+                    attachmentPercent = Integer.parseInt(value);
+                } else if (s.startsWith("--") && s.contains("=")) {
+                    Kind kind = Kind.valueOf(s.substring(2, s.indexOf('=')));
+                    counts.put(kind, Integer.parseInt(value));
+                } else {
+                    throw new IllegalArgumentException();
+                }
+            } catch (IllegalArgumentException e) {
+                System.err.println("Unsupported option \"" + s + "\"");
+                usage();
+                System.exit(1);
+            }
+        }
+        if (workspace == null) {
+            usage();
+            System.exit(1);
+        }
+
+        /* Explicit counts replace the default mix */
+        if (!counts.isEmpty()) {
+            mix = counts;
+        }
+
+        List<Event> events = generate(mix, exceptionPercent, seed);
+        writeWorkspace(new File(workspace), events, notesPercent, attachmentPercent, seed);
+        System.out.println(events.size() + " events " + mix + " written to " + workspace);
+    }
+
+    /**
+     * Print usage information on stdout.
+     */
+    private static void usage() {
+        System.out.println("Generator command line options:");
+        System.out.println();
+        System.out.println("--workspace=[path]            Directory to write the workspace to (required)");
+        System.out.println("--size=N                      Number of events in the default mix (default 10000)");
+        System.out.println("--[kind]=N                    Number of events of a kind (replaces the default mix)");
+        System.out.println("                                Kinds: once,multiDay,weekly,monthly,yearly,");
+        System.out.println("                                byWeekday,interval,endOfMonth");
+        System.out.println("--exceptions=P                Percentage of frequent events with exceptions (default 30)");
+        System.out.println("--notes=P                     Percentage of events with notes (default 10)");
+        System.out.println("--attachments=P               Percentage of events with attachments (default 2)");
+        System.out.println("--seed=N                      Seed of the random generator");
+    }
+}